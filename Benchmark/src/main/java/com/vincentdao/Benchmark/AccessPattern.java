@@ -0,0 +1,51 @@
+package com.vincentdao.Benchmark;
+
+import java.util.Random;
+
+
+/**
+ * Order in which a benchmark visits the indexes of a list. 
+ * The indexes are generated once, before measuring, so the 
+ * benchmark only pays for an array read per index.
+ * 
+ * @version 0.1
+ * 
+ * @author vincentdao
+ */
+public enum AccessPattern
+{
+    /** Visits 0, 1, 2, ... and wraps around at the size. */
+    SEQUENTIAL,
+
+    /** Visits uniformly random indexes. */
+    RANDOM;
+
+
+    /** Number of generated indexes, a power of two. */
+    public static final int INDEX_COUNT = 1 << 16;
+
+    /** Mask to wrap a cursor into the generated indexes. */
+    public static final int INDEX_MASK = INDEX_COUNT - 1;
+
+
+    /**
+     * Generates the indexes to visit.
+     * 
+     * @param size : Size of the list, indexes are in the 
+     * range from {@code 0} to {@code size - 1}.
+     * 
+     * @return {@code int[]} : {@code INDEX_COUNT} indexes.
+     */
+    public final int[] Indexes(int size)
+    {
+        final int[] indexes = new int[INDEX_COUNT];
+        final Random random = new Random(42);
+
+        for (int i = 0; i < INDEX_COUNT; i++)
+        {
+            indexes[i] = this == SEQUENTIAL ? i % size : random.nextInt(size);
+        }
+
+        return indexes;
+    }
+}
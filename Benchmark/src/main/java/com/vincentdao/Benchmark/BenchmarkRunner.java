@@ -0,0 +1,43 @@
+package com.vincentdao.Benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Entry point of {@code benchmarks.jar}. Accepts the usual 
+ * JMH command line, and always adds the GC profiler so that 
+ * every result comes with its allocation rate.
+ * 
+ * <p>
+ * Example: {@code java -jar benchmarks.jar ListBenchmark -p size=1000}
+ * </p>
+ * 
+ * @version 0.1
+ * 
+ * @author vincentdao
+ */
+public final class BenchmarkRunner
+{
+    /**
+     * Runs the benchmarks selected by the command line.
+     * 
+     * @param args : JMH command line options.
+     * 
+     * @throws CommandLineOptionException If the options 
+     * cannot be parsed.
+     * 
+     * @throws RunnerException If a benchmark fails.
+     */
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException
+    {
+        new Runner(new OptionsBuilder()
+            .parent(new CommandLineOptions(args))
+            .addProfiler(GCProfiler.class)
+            .build()).run();
+    }
+}
@@ -0,0 +1,161 @@
+package com.vincentdao.Benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.vincentdao.List.LinkedList;
+
+
+/**
+ * Benchmarks the bulk operations of {@code List} against the 
+ * loops of single operations they replace: loading a batch, 
+ * moving one list into another, and removing a segment.
+ * 
+ * @version 0.1
+ * 
+ * @author vincentdao
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BulkBenchmark
+{
+    //--------------------------------------------------
+    // This block contains the state of the benchmark.
+
+
+    /** Size of the batch, and of the lists. */
+    @Param({"1000", "100000"})
+    public int size;
+
+    /** Batch of random values. */
+    private Integer[] values;
+
+    /** List moved back and forth, or cut and refilled. */
+    private LinkedList<Integer> list;
+
+    /** Other list to move back and forth. */
+    private LinkedList<Integer> otherList;
+
+
+    /**
+     * Generates the batch, and fills both lists with it.
+     */
+    @Setup(Level.Trial)
+    public void Setup()
+    {
+        final Random random = new Random(42);
+
+        this.values = new Integer[this.size];
+
+        for (int i = 0; i < this.size; i++)
+        {
+            this.values[i] = random.nextInt();
+        }
+
+        this.list = new LinkedList<>();
+        this.list.AddAll(this.values);
+        this.otherList = new LinkedList<>();
+        this.otherList.AddAll(this.values);
+    }
+
+
+    //--------------------------------------------------
+    // This block contains the benchmarks.
+
+
+    @Benchmark
+    public LinkedList<Integer> AddLastLoop()
+    {
+        final LinkedList<Integer> loadedList = new LinkedList<>();
+
+        for (Integer value : this.values)
+        {
+            loadedList.AddLast(value);
+        }
+
+        return loadedList;
+    }
+
+
+    @Benchmark
+    public LinkedList<Integer> AddAll()
+    {
+        final LinkedList<Integer> loadedList = new LinkedList<>();
+
+        loadedList.AddAll(this.values);
+
+        return loadedList;
+    }
+
+
+    @Benchmark
+    public LinkedList<Integer> DrainLoop()
+    {
+        while (this.otherList.IsEmpty() == false)
+        {
+            this.list.AddLast(this.otherList.RemoveFirst());
+        }
+
+        while (this.list.Size() > this.size)
+        {
+            this.otherList.AddLast(this.list.RemoveLast());
+        }
+
+        return this.list;
+    }
+
+
+    @Benchmark
+    public LinkedList<Integer> Splice()
+    {
+        this.list.Splice(this.otherList);
+        this.otherList.Splice(this.list);
+
+        return this.otherList;
+    }
+
+
+    @Benchmark
+    public LinkedList<Integer> RemoveAtLoop()
+    {
+        final int fromIndex = this.size / 4;
+
+        for (int i = 0; i < this.size / 2; i++)
+        {
+            this.list.RemoveAt(fromIndex);
+        }
+
+        this.list.AddAll(this.values, 0, this.size / 2);
+
+        return this.list;
+    }
+
+
+    @Benchmark
+    public LinkedList<Integer> RemoveRange()
+    {
+        final int fromIndex = this.size / 4;
+
+        this.list.RemoveRange(fromIndex, fromIndex + this.size / 2);
+        this.list.AddAll(this.values, 0, this.size / 2);
+
+        return this.list;
+    }
+}
@@ -0,0 +1,200 @@
+package com.vincentdao.Benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.vincentdao.List.ConcurrentLinkedQueue;
+import com.vincentdao.List.ConcurrentLinkedStack;
+import com.vincentdao.List.IQueue;
+import com.vincentdao.List.IStack;
+import com.vincentdao.List.LinkedList;
+
+
+/**
+ * <p>
+ * Benchmarks the throughput of a stack and a queue shared by 
+ * every benchmark thread, comparing the lock-free 
+ * implementations with a {@code LinkedList} behind a lock.
+ * </p>
+ * 
+ * <p>
+ * The thread count is given on the command line, run it 
+ * once per count to get the scaling curve. Example: 
+ * {@code for t in 1 2 4 8 16; do java -jar benchmarks.jar ConcurrentBenchmark -t $t; done}
+ * </p>
+ * 
+ * @version 0.1
+ * 
+ * @author vincentdao
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConcurrentBenchmark
+{
+    //--------------------------------------------------
+    // This block contains the implementations to compare.
+
+
+    /** Implementations of a shared stack and queue. */
+    public enum Implementation
+    {
+        SYNCHRONIZED_LINKED_LIST,
+        LOCK_FREE
+    }
+
+
+    /** {@code LinkedList} with every operation behind its monitor. */
+    static final class SynchronizedLinkedList implements IStack<Integer>, IQueue<Integer>
+    {
+        /** List guarded by the monitor of this wrapper. */
+        private final LinkedList<Integer> list = new LinkedList<>();
+
+
+        @Override
+        public synchronized void Push(Integer value)
+        {
+            this.list.Push(value);
+        }
+
+
+        @Override
+        public synchronized Integer Pop()
+        {
+            return this.list.Pop();
+        }
+
+
+        @Override
+        public synchronized Integer Peek()
+        {
+            return this.list.Peek();
+        }
+
+
+        @Override
+        public synchronized void Enqueue(Integer value)
+        {
+            this.list.Enqueue(value);
+        }
+
+
+        @Override
+        public synchronized Integer Dequeue()
+        {
+            return this.list.Dequeue();
+        }
+
+
+        @Override
+        public synchronized Integer First()
+        {
+            return this.list.First();
+        }
+
+
+        @Override
+        public synchronized void Clear()
+        {
+            this.list.Clear();
+        }
+
+
+        @Override
+        public synchronized Integer[] ToArray(Integer[] arrayType)
+        {
+            return this.list.ToArray(arrayType);
+        }
+
+
+        @Override
+        public synchronized int Size()
+        {
+            return this.list.Size();
+        }
+    }
+
+
+    //--------------------------------------------------
+    // This block contains the state of the benchmark.
+
+
+    /** Implementation under measurement. */
+    @Param({"SYNCHRONIZED_LINKED_LIST", "LOCK_FREE"})
+    public Implementation implementation;
+
+    /** Number of values in the stack and queue before measuring. */
+    @Param({"1000"})
+    public int size;
+
+    /** Stack shared by every thread. */
+    private IStack<Integer> stack;
+
+    /** Queue shared by every thread. */
+    private IQueue<Integer> queue;
+
+    /** Value added by the adding operations. */
+    private final Integer value = 42;
+
+
+    /**
+     * Fills a shared stack and queue with {@code size} values.
+     */
+    @Setup(Level.Trial)
+    public void Setup()
+    {
+        if (this.implementation == Implementation.LOCK_FREE)
+        {
+            this.stack = new ConcurrentLinkedStack<>();
+            this.queue = new ConcurrentLinkedQueue<>();
+        }
+        else
+        {
+            this.stack = new SynchronizedLinkedList();
+            this.queue = new SynchronizedLinkedList();
+        }
+
+        for (int i = 0; i < this.size; i++)
+        {
+            this.stack.Push(i);
+            this.queue.Enqueue(i);
+        }
+    }
+
+
+    //--------------------------------------------------
+    // This block contains the benchmarks.
+
+
+    @Benchmark
+    public Integer PushPop()
+    {
+        this.stack.Push(this.value);
+
+        return this.stack.Pop();
+    }
+
+
+    @Benchmark
+    public Integer EnqueueDequeue()
+    {
+        this.queue.Enqueue(this.value);
+
+        return this.queue.Dequeue();
+    }
+}
@@ -0,0 +1,196 @@
+package com.vincentdao.Benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.vincentdao.List.LinkedList;
+
+
+/**
+ * Benchmarks every operation of {@code List} on a 
+ * {@code LinkedList} that keeps the same size during the 
+ * measurement. Adding operations are paired with their 
+ * removing counterpart for that reason.
+ * 
+ * @version 0.1
+ * 
+ * @author vincentdao
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ListBenchmark
+{
+    //--------------------------------------------------
+    // This block contains the state of the benchmark.
+
+
+    /** Size of the list. */
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    /** Order in which the indexes are visited. */
+    @Param({"SEQUENTIAL", "RANDOM"})
+    public AccessPattern pattern;
+
+    /** List under measurement. */
+    private LinkedList<Integer> list;
+
+    /** Indexes to visit. */
+    private int[] indexes;
+
+    /** Position in {@code indexes}. */
+    private int cursor;
+
+    /** Value added by the adding operations. */
+    private final Integer value = 42;
+
+    /** Array presized to the list, reused by every export. */
+    private Integer[] exportArray;
+
+    /** Buffer of the chunked export. */
+    private final Integer[] chunkBuffer = new Integer[1024];
+
+    /** Number of values handed over by the chunked export. */
+    private int exportedCount;
+
+
+    /**
+     * Fills the list with random values.
+     */
+    @Setup(Level.Trial)
+    public void Setup()
+    {
+        final Random random = new Random(42);
+
+        this.list = new LinkedList<>();
+
+        for (int i = 0; i < this.size; i++)
+        {
+            this.list.AddLast(random.nextInt());
+        }
+
+        this.indexes = this.pattern.Indexes(this.size);
+        this.cursor = 0;
+        this.exportArray = new Integer[this.size];
+    }
+
+
+    /**
+     * Gets the next index to visit.
+     * 
+     * @return {@code int} : Index in the list.
+     */
+    private int NextIndex()
+    {
+        return this.indexes[this.cursor++ & AccessPattern.INDEX_MASK];
+    }
+
+
+    //--------------------------------------------------
+    // This block contains the benchmarks.
+
+
+    @Benchmark
+    public Integer AddFirstRemoveFirst()
+    {
+        this.list.AddFirst(this.value);
+
+        return this.list.RemoveFirst();
+    }
+
+
+    @Benchmark
+    public Integer AddLastRemoveLast()
+    {
+        this.list.AddLast(this.value);
+
+        return this.list.RemoveLast();
+    }
+
+
+    @Benchmark
+    public Integer AddAtRemoveAt()
+    {
+        final int index = NextIndex();
+
+        this.list.AddAt(this.value, index);
+
+        return this.list.RemoveAt(index);
+    }
+
+
+    @Benchmark
+    public Integer GetAt()
+    {
+        return this.list.GetAt(NextIndex());
+    }
+
+
+    @Benchmark
+    public void Swap()
+    {
+        this.list.Swap(NextIndex(), NextIndex());
+    }
+
+
+    @Benchmark
+    public long Iterate()
+    {
+        long sum = 0;
+
+        for (Integer listValue : this.list)
+        {
+            sum += listValue;
+        }
+
+        return sum;
+    }
+
+
+    @Benchmark
+    public Integer[] ToArray()
+    {
+        return this.list.ToArray(new Integer[0]);
+    }
+
+
+    @Benchmark
+    public Integer[] ToArrayPresized()
+    {
+        return this.list.ToArray(this.exportArray);
+    }
+
+
+    @Benchmark
+    public Integer[] ToArrayGenerator()
+    {
+        return this.list.ToArray(Integer[]::new);
+    }
+
+
+    @Benchmark
+    public int ExportChunks()
+    {
+        this.exportedCount = 0;
+        this.list.ExportChunks(this.chunkBuffer, (buffer, count) -> this.exportedCount += count);
+
+        return this.exportedCount;
+    }
+}
@@ -0,0 +1,124 @@
+package com.vincentdao.Benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.vincentdao.List.JfrListListener;
+import com.vincentdao.List.LinkedList;
+import com.vincentdao.List.ListMetrics;
+
+
+/**
+ * Benchmarks the cost of instrumenting a {@code LinkedList}, 
+ * from no listener at all to collecting {@code ListMetrics} 
+ * or emitting JFR events. {@code NONE} should match the 
+ * numbers of {@code ListBenchmark}.
+ * 
+ * @version 0.1
+ * 
+ * @author vincentdao
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ListenerBenchmark
+{
+    //--------------------------------------------------
+    // This block contains the listeners to compare.
+
+
+    /** Listeners set on the list. */
+    public enum Listener
+    {
+        NONE,
+        METRICS,
+        JFR
+    }
+
+
+    //--------------------------------------------------
+    // This block contains the state of the benchmark.
+
+
+    /** Listener under measurement. */
+    @Param({"NONE", "METRICS", "JFR"})
+    public Listener listener;
+
+    /** Size of the list. */
+    @Param({"1000"})
+    public int size;
+
+    /** List under measurement. */
+    private LinkedList<Integer> list;
+
+    /** Indexes to visit. */
+    private int[] indexes;
+
+    /** Position in {@code indexes}. */
+    private int cursor;
+
+    /** Value added by the adding operations. */
+    private final Integer value = 42;
+
+
+    /**
+     * Fills the list, then sets the listener.
+     */
+    @Setup(Level.Trial)
+    public void Setup()
+    {
+        this.list = new LinkedList<>();
+
+        for (int i = 0; i < this.size; i++)
+        {
+            this.list.AddLast(i);
+        }
+
+        if (this.listener == Listener.METRICS)
+        {
+            this.list.SetListener(new ListMetrics());
+        }
+        else if (this.listener == Listener.JFR)
+        {
+            this.list.SetListener(new JfrListListener());
+        }
+
+        this.indexes = AccessPattern.RANDOM.Indexes(this.size);
+        this.cursor = 0;
+    }
+
+
+    //--------------------------------------------------
+    // This block contains the benchmarks.
+
+
+    @Benchmark
+    public Integer AddLastRemoveLast()
+    {
+        this.list.AddLast(this.value);
+
+        return this.list.RemoveLast();
+    }
+
+
+    @Benchmark
+    public Integer GetAt()
+    {
+        return this.list.GetAt(this.indexes[this.cursor++ & AccessPattern.INDEX_MASK]);
+    }
+}
@@ -0,0 +1,130 @@
+package com.vincentdao.Benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.vincentdao.List.IElementCodec;
+import com.vincentdao.List.MappedQueue;
+
+
+/**
+ * Benchmarks {@code MappedQueue} in a temporary directory, 
+ * on a queue that keeps the same size during the 
+ * measurement. Comparing the sync intervals shows the cost 
+ * of reaching the disk, against leaving the pages to the 
+ * operating system.
+ * 
+ * @version 0.1
+ * 
+ * @author vincentdao
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MappedQueueBenchmark
+{
+    //--------------------------------------------------
+    // This block contains the state of the benchmark.
+
+
+    /** Bytes of a segment file, 16 MiB. */
+    private static final int SEGMENT_SIZE = 1 << 24;
+
+    /** Size of the queue. */
+    @Param({"1000", "1000000"})
+    public int size;
+
+    /** Number of changes between syncs, {@code 0} for none. */
+    @Param({"0", "1000"})
+    public int syncInterval;
+
+    /** Directory of the queue. */
+    private Path directory;
+
+    /** Queue under measurement. */
+    private MappedQueue<Integer> queue;
+
+    /** Value added by the adding operations. */
+    private final Integer value = 42;
+
+
+    /**
+     * Opens the queue in a new directory, and fills it with 
+     * {@code size} values.
+     * 
+     * @throws IOException If the directory cannot be made.
+     */
+    @Setup(Level.Trial)
+    public void Setup() throws IOException
+    {
+        this.directory = Files.createTempDirectory("MappedQueueBenchmark");
+        this.queue = new MappedQueue<>(this.directory, IElementCodec.INTEGER, SEGMENT_SIZE, this.syncInterval,
+            MappedQueue.DEFAULT_RECYCLE_CAPACITY);
+
+        for (int i = 0; i < this.size; i++)
+        {
+            this.queue.Enqueue(i);
+        }
+    }
+
+
+    /**
+     * Closes the queue, and deletes its directory.
+     * 
+     * @throws IOException If the files cannot be deleted.
+     */
+    @TearDown(Level.Trial)
+    public void TearDown() throws IOException
+    {
+        this.queue.Close();
+
+        try (Stream<Path> paths = Files.walk(this.directory))
+        {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator)
+            {
+                Files.delete(path);
+            }
+        }
+    }
+
+
+    //--------------------------------------------------
+    // This block contains the benchmarks.
+
+
+    @Benchmark
+    public Integer EnqueueDequeue()
+    {
+        this.queue.Enqueue(this.value);
+
+        return this.queue.Dequeue();
+    }
+
+
+    @Benchmark
+    public Integer First()
+    {
+        return this.queue.First();
+    }
+}
@@ -0,0 +1,124 @@
+package com.vincentdao.Benchmark;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.vincentdao.List.LinkedList;
+import com.vincentdao.List.List;
+
+
+/**
+ * Benchmarks {@code List.ParallelSort} on freshly shuffled 
+ * lists, inside a {@code ForkJoinPool} of the given 
+ * parallelism. Sweeping the parallelism up to the core count 
+ * gives the scaling curve, parallelism 1 being the 
+ * sequential baseline.
+ * 
+ * @version 0.1
+ * 
+ * @author vincentdao
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Thread)
+public class ParallelSortBenchmark
+{
+    //--------------------------------------------------
+    // This block contains the state of the benchmark.
+
+
+    /** Size of the list. */
+    @Param({"100000", "10000000"})
+    public int size;
+
+    /** Number of threads sorting the list. */
+    @Param({"1", "2", "4", "8", "16", "32", "64"})
+    public int parallelism;
+
+    /** Smallest number of values in a segment. */
+    @Param({"" + List.PARALLEL_SORT_THRESHOLD})
+    public int threshold;
+
+    /** Pool running the sorting tasks. */
+    private ForkJoinPool pool;
+
+    /** Random values to sort, shared by every invocation. */
+    private Integer[] values;
+
+    /** List under measurement. */
+    private LinkedList<Integer> list;
+
+
+    /**
+     * Creates the pool and generates the values to sort.
+     */
+    @Setup(Level.Trial)
+    public void SetupValues()
+    {
+        final Random random = new Random(42);
+
+        this.pool = new ForkJoinPool(this.parallelism);
+        this.values = new Integer[this.size];
+
+        for (int i = 0; i < this.size; i++)
+        {
+            this.values[i] = random.nextInt();
+        }
+    }
+
+
+    /**
+     * Rebuilds the unsorted list.
+     */
+    @Setup(Level.Invocation)
+    public void SetupList()
+    {
+        this.list = new LinkedList<>();
+
+        for (Integer value : this.values)
+        {
+            this.list.AddLast(value);
+        }
+    }
+
+
+    /**
+     * Stops the pool.
+     */
+    @TearDown(Level.Trial)
+    public void TearDown()
+    {
+        this.pool.shutdown();
+    }
+
+
+    //--------------------------------------------------
+    // This block contains the benchmarks.
+
+
+    @Benchmark
+    public LinkedList<Integer> ParallelSort()
+    {
+        this.pool.submit(() -> this.list.ParallelSort(this.threshold)).join();
+
+        return this.list;
+    }
+}
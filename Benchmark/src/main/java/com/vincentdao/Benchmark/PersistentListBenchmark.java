@@ -0,0 +1,136 @@
+package com.vincentdao.Benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.vincentdao.List.LinkedList;
+import com.vincentdao.List.PersistentList;
+
+
+/**
+ * Benchmarks handing a stable snapshot to a reader after a 
+ * change. A {@code LinkedList} has to be copied with 
+ * {@code ToArray}, while a {@code PersistentList} returns a 
+ * new version that shares all but O(log n) {@code Node}s 
+ * with the old one.
+ * 
+ * @version 0.1
+ * 
+ * @author vincentdao
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PersistentListBenchmark
+{
+    //--------------------------------------------------
+    // This block contains the state of the benchmark.
+
+
+    /** Size of the list. */
+    @Param({"1000", "100000"})
+    public int size;
+
+    /** Persistent list under measurement. */
+    private PersistentList<Integer> persistentList;
+
+    /** Mutable list to compare with. */
+    private LinkedList<Integer> linkedList;
+
+    /** Random indexes to access. */
+    private int[] indexes;
+
+    /** Position in {@code indexes}. */
+    private int cursor;
+
+
+    /**
+     * Fills both lists with the same values, and draws the 
+     * indexes to access.
+     */
+    @Setup(Level.Trial)
+    public void Setup()
+    {
+        final Integer[] values = new Integer[this.size];
+
+        this.linkedList = new LinkedList<>();
+
+        for (int i = 0; i < this.size; i++)
+        {
+            values[i] = i;
+            this.linkedList.AddLast(i);
+        }
+
+        this.persistentList = PersistentList.Of(values);
+        this.indexes = AccessPattern.RANDOM.Indexes(this.size);
+        this.cursor = 0;
+    }
+
+
+    /**
+     * Gets the next index to access.
+     * 
+     * @return {@code int} : Index in the list.
+     */
+    private int NextIndex()
+    {
+        return this.indexes[this.cursor++ & AccessPattern.INDEX_MASK];
+    }
+
+
+    //--------------------------------------------------
+    // This block contains the benchmarks.
+
+
+    @Benchmark
+    public Integer[] LinkedListSetSnapshot()
+    {
+        final int index = NextIndex();
+
+        this.linkedList.Swap(index, this.size - 1 - index);
+
+        return this.linkedList.ToArray(new Integer[0]);
+    }
+
+
+    @Benchmark
+    public PersistentList<Integer> PersistentListSetSnapshot()
+    {
+        final int index = NextIndex();
+
+        this.persistentList = this.persistentList.Set(index, index);
+
+        return this.persistentList;
+    }
+
+
+    @Benchmark
+    public PersistentList<Integer> AddAtRemoveAt()
+    {
+        final int index = NextIndex();
+
+        return this.persistentList.AddAt(index, index).RemoveAt(index);
+    }
+
+
+    @Benchmark
+    public Integer GetAt()
+    {
+        return this.persistentList.GetAt(NextIndex());
+    }
+}
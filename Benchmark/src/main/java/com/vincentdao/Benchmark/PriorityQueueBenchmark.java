@@ -0,0 +1,142 @@
+package com.vincentdao.Benchmark;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.vincentdao.List.LinkedList;
+import com.vincentdao.List.PriorityQueue;
+
+
+/**
+ * Benchmarks {@code PriorityQueue} for every arity, on a 
+ * queue that keeps the same size during the measurement, 
+ * against a {@code LinkedList} that is sorted again before 
+ * every {@code Dequeue}.
+ * 
+ * @version 0.1
+ * 
+ * @author vincentdao
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PriorityQueueBenchmark
+{
+    //--------------------------------------------------
+    // This block contains the state of the benchmark.
+
+
+    /** Size of the queue. */
+    @Param({"1000", "100000"})
+    public int size;
+
+    /** Number of children of a value in the heap. */
+    @Param({"2", "4", "8"})
+    public int arity;
+
+    /** Random values to add. */
+    private Integer[] values;
+
+    /** Position in {@code values}. */
+    private int cursor;
+
+    /** Queue under measurement. */
+    private PriorityQueue<Integer> queue;
+
+    /** Re-sorted list to compare with. */
+    private LinkedList<Integer> linkedList;
+
+
+    /**
+     * Builds the queue and the list from the same random 
+     * values, and draws the values to add.
+     */
+    @Setup(Level.Trial)
+    public void Setup()
+    {
+        final Random random = new Random(42);
+        final Integer[] initialValues = new Integer[this.size];
+
+        for (int i = 0; i < this.size; i++)
+        {
+            initialValues[i] = random.nextInt();
+        }
+
+        this.queue = new PriorityQueue<>(initialValues, Comparator.naturalOrder(), this.arity);
+        this.linkedList = new LinkedList<>();
+        this.linkedList.AddAll(initialValues);
+        this.values = new Integer[AccessPattern.INDEX_COUNT];
+
+        for (int i = 0; i < this.values.length; i++)
+        {
+            this.values[i] = random.nextInt();
+        }
+
+        this.cursor = 0;
+    }
+
+
+    /**
+     * Gets the next value to add.
+     * 
+     * @return {@code Integer} : Random value.
+     */
+    private Integer NextValue()
+    {
+        return this.values[this.cursor++ & AccessPattern.INDEX_MASK];
+    }
+
+
+    //--------------------------------------------------
+    // This block contains the benchmarks.
+
+
+    @Benchmark
+    public Integer EnqueueDequeue()
+    {
+        this.queue.Enqueue(NextValue());
+
+        return this.queue.Dequeue();
+    }
+
+
+    @Benchmark
+    public Integer First()
+    {
+        return this.queue.First();
+    }
+
+
+    @Benchmark
+    public Integer LinkedListSortDequeue()
+    {
+        this.linkedList.Enqueue(NextValue());
+        this.linkedList.Sort();
+
+        return this.linkedList.Dequeue();
+    }
+
+
+    @Benchmark
+    public PriorityQueue<Integer> Heapify()
+    {
+        return new PriorityQueue<>(this.values, Comparator.naturalOrder(), this.arity);
+    }
+}
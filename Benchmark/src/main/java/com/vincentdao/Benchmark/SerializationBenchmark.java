@@ -0,0 +1,144 @@
+package com.vincentdao.Benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.channels.Channels;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.vincentdao.List.IElementCodec;
+import com.vincentdao.List.LinkedList;
+
+
+/**
+ * Benchmarks checkpointing a list to bytes and restoring it. 
+ * {@code WriteTo} and {@code ReadFrom} with a fixed-width 
+ * codec are compared with Java serialization of the 
+ * {@code ToArray} output. Both go through memory, so only 
+ * the cost of the format is measured.
+ * 
+ * @version 0.1
+ * 
+ * @author vincentdao
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SerializationBenchmark
+{
+    //--------------------------------------------------
+    // This block contains the state of the benchmark.
+
+
+    /** Size of the list. */
+    @Param({"1000", "1000000"})
+    public int size;
+
+    /** List to write. */
+    private LinkedList<Integer> list;
+
+    /** Bytes written by {@code WriteTo}. */
+    private byte[] channelBytes;
+
+    /** Bytes written by Java serialization. */
+    private byte[] serializedBytes;
+
+    /** Output reused by every write. */
+    private ByteArrayOutputStream output;
+
+
+    /**
+     * Fills the list with random values, and writes it in 
+     * both formats to read back.
+     * 
+     * @throws IOException If writing fails.
+     */
+    @Setup(Level.Trial)
+    public void Setup() throws IOException
+    {
+        final Random random = new Random(42);
+
+        this.list = new LinkedList<>();
+
+        for (int i = 0; i < this.size; i++)
+        {
+            this.list.AddLast(random.nextInt());
+        }
+
+        this.output = new ByteArrayOutputStream();
+        this.channelBytes = WriteChannel().toByteArray();
+        this.serializedBytes = WriteSerialized().toByteArray();
+    }
+
+
+    //--------------------------------------------------
+    // This block contains the benchmarks.
+
+
+    @Benchmark
+    public ByteArrayOutputStream WriteChannel() throws IOException
+    {
+        this.output.reset();
+        this.list.WriteTo(Channels.newChannel(this.output), IElementCodec.INTEGER);
+
+        return this.output;
+    }
+
+
+    @Benchmark
+    public ByteArrayOutputStream WriteSerialized() throws IOException
+    {
+        this.output.reset();
+
+        try (ObjectOutputStream objectOutput = new ObjectOutputStream(this.output))
+        {
+            objectOutput.writeObject(this.list.ToArray(new Integer[0]));
+        }
+
+        return this.output;
+    }
+
+
+    @Benchmark
+    public LinkedList<Integer> ReadChannel() throws IOException
+    {
+        final LinkedList<Integer> readList = new LinkedList<>();
+
+        readList.ReadFrom(Channels.newChannel(new ByteArrayInputStream(this.channelBytes)), IElementCodec.INTEGER);
+
+        return readList;
+    }
+
+
+    @Benchmark
+    public LinkedList<Integer> ReadSerialized() throws IOException, ClassNotFoundException
+    {
+        final LinkedList<Integer> readList = new LinkedList<>();
+
+        try (ObjectInputStream objectInput = new ObjectInputStream(new ByteArrayInputStream(this.serializedBytes)))
+        {
+            readList.AddAll((Integer[]) objectInput.readObject());
+        }
+
+        return readList;
+    }
+}
@@ -0,0 +1,247 @@
+package com.vincentdao.Benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.vincentdao.List.LinkedList;
+
+
+/**
+ * Benchmarks {@code List.Sort} on freshly shuffled lists, 
+ * against the Quick Sort it replaced. Every invocation sorts 
+ * a new list, built outside of the measured time.
+ * 
+ * <p>
+ * The Quick Sort swaps values through {@code GetAt} and 
+ * {@code Swap}, so every step walks the list. It stops at 
+ * 100000 values, which already takes seconds per sort.
+ * </p>
+ * 
+ * @version 0.1
+ * 
+ * @author vincentdao
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class SortBenchmark
+{
+    //--------------------------------------------------
+    // This block contains the state of the benchmark.
+
+
+    /** List to sort with {@code List.Sort}. */
+    @State(Scope.Thread)
+    public static class MergeSortState
+    {
+        /** Size of the list. */
+        @Param({"10", "1000", "10000", "100000", "10000000"})
+        public int size;
+
+        /** Random values to sort, shared by every invocation. */
+        private Integer[] values;
+
+        /** List under measurement. */
+        LinkedList<Integer> list;
+
+
+        /**
+         * Generates the values to sort.
+         */
+        @Setup(Level.Trial)
+        public void SetupValues()
+        {
+            this.values = RandomValues(this.size);
+        }
+
+
+        /**
+         * Rebuilds the unsorted list.
+         */
+        @Setup(Level.Invocation)
+        public void SetupList()
+        {
+            this.list = NewList(this.values);
+        }
+    }
+
+
+    /** List to sort with the former Quick Sort. */
+    @State(Scope.Thread)
+    public static class QuickSortState
+    {
+        /** Size of the list. */
+        @Param({"10", "1000", "10000", "100000"})
+        public int size;
+
+        /** Random values to sort, shared by every invocation. */
+        private Integer[] values;
+
+        /** List under measurement. */
+        LinkedList<Integer> list;
+
+
+        /**
+         * Generates the values to sort.
+         */
+        @Setup(Level.Trial)
+        public void SetupValues()
+        {
+            this.values = RandomValues(this.size);
+        }
+
+
+        /**
+         * Rebuilds the unsorted list.
+         */
+        @Setup(Level.Invocation)
+        public void SetupList()
+        {
+            this.list = NewList(this.values);
+        }
+    }
+
+
+    /**
+     * Generates random values, the same for every run.
+     * 
+     * @param size : Number of values.
+     * 
+     * @return {@code Integer[]} : Random values.
+     */
+    static Integer[] RandomValues(int size)
+    {
+        final Random random = new Random(42);
+        final Integer[] values = new Integer[size];
+
+        for (int i = 0; i < size; i++)
+        {
+            values[i] = random.nextInt();
+        }
+
+        return values;
+    }
+
+
+    /**
+     * Builds a list of the values, in order.
+     * 
+     * @param values : Values of the list.
+     * 
+     * @return {@code LinkedList<Integer>} : New list.
+     */
+    static LinkedList<Integer> NewList(Integer[] values)
+    {
+        final LinkedList<Integer> list = new LinkedList<>();
+
+        for (Integer value : values)
+        {
+            list.AddLast(value);
+        }
+
+        return list;
+    }
+
+
+    //--------------------------------------------------
+    // This block contains the former Quick Sort of the list.
+
+
+    /**
+     * Quick Sort algorithm, as {@code List.Sort} ran it before 
+     * the merge sort.
+     * 
+     * @param list : List to sort.
+     * 
+     * @param low : Bottom index of the (sub)list
+     * 
+     * @param high : Top index of the (sub)list
+     */
+    static void QuickSort(LinkedList<Integer> list, int low, int high)
+    {
+        if (low < high)
+        {
+            final int pivot = Divide(list, low, high);
+
+            QuickSort(list, low, pivot - 1);
+            QuickSort(list, pivot + 1, high);
+        }
+    }
+
+
+    /**
+     * Divide the (sub)list into 2 parts, with the left side 
+     * smaller than the {@code pivot} and the right side 
+     * larger than said {@code pivot}. {@code pivot} here is 
+     * the last value of the (sub)list
+     * 
+     * @param list : List to sort.
+     * 
+     * @param low : Bottom index of the (sub)list
+     * 
+     * @param high : Top index of the (sub)list
+     * 
+     * @return {@code int} : Index of the {@code pivot}
+     */
+    static int Divide(LinkedList<Integer> list, int low, int high)
+    {
+        // pivot is the value at right most
+        final Integer pivot = list.GetAt(high);
+
+        // swapIndex will mark the last known value that is larger 
+        // than the pivot
+        int swapIndex = low - 1;
+
+        for (int traverseIndex = low; traverseIndex < high; traverseIndex++)
+        {
+            if (list.GetAt(traverseIndex).compareTo(pivot) <= 0)
+            {
+                swapIndex++;
+                list.Swap(swapIndex, traverseIndex);
+            }
+        }
+
+
+        // put the pivot at the last known place of larger value than pivot, 
+        // leaving the pivot to be the "border".
+        list.Swap(++swapIndex, high);
+        return swapIndex;
+    }
+
+
+    //--------------------------------------------------
+    // This block contains the benchmarks.
+
+
+    @Benchmark
+    public LinkedList<Integer> Sort(MergeSortState state)
+    {
+        state.list.Sort();
+
+        return state.list;
+    }
+
+
+    @Benchmark
+    public LinkedList<Integer> QuickSortBaseline(QuickSortState state)
+    {
+        QuickSort(state.list, 0, state.list.Size() - 1);
+
+        return state.list;
+    }
+}
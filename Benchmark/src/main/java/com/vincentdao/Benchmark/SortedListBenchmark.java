@@ -0,0 +1,143 @@
+package com.vincentdao.Benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.vincentdao.List.LinkedList;
+import com.vincentdao.List.SortedList;
+
+
+/**
+ * Benchmarks keeping a list ordered while values come in. 
+ * {@code SortedList} adds every value at its place, against 
+ * a {@code LinkedList} that is sorted again after every 
+ * {@code AddLast}. Both keep the same size during the 
+ * measurement.
+ * 
+ * @version 0.1
+ * 
+ * @author vincentdao
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SortedListBenchmark
+{
+    //--------------------------------------------------
+    // This block contains the state of the benchmark.
+
+
+    /** Size of the list. */
+    @Param({"1000", "100000"})
+    public int size;
+
+    /** Sorted list under measurement. */
+    private SortedList<Integer> sortedList;
+
+    /** Re-sorted list to compare with. */
+    private LinkedList<Integer> linkedList;
+
+    /** Values to add or search for. */
+    private Integer[] values;
+
+    /** Position in {@code values}. */
+    private int cursor;
+
+
+    /**
+     * Fills both lists with the same random values, and 
+     * draws the values to add or search for.
+     */
+    @Setup(Level.Trial)
+    public void Setup()
+    {
+        final Random random = new Random(42);
+
+        this.sortedList = new SortedList<>();
+        this.linkedList = new LinkedList<>();
+
+        for (int i = 0; i < this.size; i++)
+        {
+            final Integer value = random.nextInt();
+
+            this.sortedList.Add(value);
+            this.linkedList.AddLast(value);
+        }
+
+        this.linkedList.Sort();
+        this.values = new Integer[AccessPattern.INDEX_COUNT];
+
+        for (int i = 0; i < this.values.length; i++)
+        {
+            this.values[i] = random.nextInt();
+        }
+
+        this.cursor = 0;
+    }
+
+
+    /**
+     * Gets the next value to add or search for.
+     * 
+     * @return {@code Integer} : Random value.
+     */
+    private Integer NextValue()
+    {
+        return this.values[this.cursor++ & AccessPattern.INDEX_MASK];
+    }
+
+
+    //--------------------------------------------------
+    // This block contains the benchmarks.
+
+
+    @Benchmark
+    public boolean AddRemove()
+    {
+        final Integer value = NextValue();
+
+        this.sortedList.Add(value);
+
+        return this.sortedList.Remove(value);
+    }
+
+
+    @Benchmark
+    public Integer AddLastSortRemoveLast()
+    {
+        this.linkedList.AddLast(NextValue());
+        this.linkedList.Sort();
+
+        return this.linkedList.RemoveLast();
+    }
+
+
+    @Benchmark
+    public boolean Contains()
+    {
+        return this.sortedList.Contains(NextValue());
+    }
+
+
+    @Benchmark
+    public Integer Ceiling()
+    {
+        return this.sortedList.Ceiling(NextValue());
+    }
+}
@@ -0,0 +1,162 @@
+package com.vincentdao.Benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.vincentdao.List.ArrayDeque;
+import com.vincentdao.List.IQueue;
+import com.vincentdao.List.IStack;
+import com.vincentdao.List.LinkedList;
+import com.vincentdao.List.UnrolledList;
+
+
+/**
+ * Benchmarks the {@code IStack} and {@code IQueue} operations 
+ * of every single-threaded implementation, on a stack or 
+ * queue that keeps the same size during the measurement. 
+ * A flat latency across sizes means the operation is O(1).
+ * 
+ * @version 0.1
+ * 
+ * @author vincentdao
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StackQueueBenchmark
+{
+    //--------------------------------------------------
+    // This block contains the implementations to compare.
+
+
+    /** Implementations of both {@code IStack} and {@code IQueue}. */
+    public enum Implementation
+    {
+        LINKED_LIST,
+        POOLED_LINKED_LIST,
+        ARRAY_DEQUE,
+        UNROLLED_LIST;
+
+
+        /** Number of nodes a pooled list keeps for reuse. */
+        private static final int POOL_CAPACITY = 1024;
+
+
+        /**
+         * Creates an empty instance of the implementation.
+         * 
+         * @return {@code T} : Empty stack and queue.
+         */
+        @SuppressWarnings("unchecked")
+        <T extends IStack<Integer> & IQueue<Integer>> T Create()
+        {
+            switch (this)
+            {
+                case POOLED_LINKED_LIST:
+                    return (T) new LinkedList<Integer>(POOL_CAPACITY);
+
+                case ARRAY_DEQUE:
+                    return (T) new ArrayDeque<Integer>();
+
+                case UNROLLED_LIST:
+                    return (T) new UnrolledList<Integer>();
+
+                default:
+                    return (T) new LinkedList<Integer>();
+            }
+        }
+    }
+
+
+    //--------------------------------------------------
+    // This block contains the state of the benchmark.
+
+
+    /** Implementation under measurement. */
+    @Param({"LINKED_LIST", "POOLED_LINKED_LIST", "ARRAY_DEQUE", "UNROLLED_LIST"})
+    public Implementation implementation;
+
+    /** Size of the stack or queue. */
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    /** Stack under measurement. */
+    private IStack<Integer> stack;
+
+    /** Queue under measurement. */
+    private IQueue<Integer> queue;
+
+    /** Value added by the adding operations. */
+    private final Integer value = 42;
+
+
+    /**
+     * Fills a stack and a queue with {@code size} values.
+     */
+    @Setup(Level.Trial)
+    public <T extends IStack<Integer> & IQueue<Integer>> void Setup()
+    {
+        final T filledStack = this.implementation.Create();
+        final T filledQueue = this.implementation.Create();
+
+        for (int i = 0; i < this.size; i++)
+        {
+            filledStack.Push(i);
+            filledQueue.Enqueue(i);
+        }
+
+        this.stack = filledStack;
+        this.queue = filledQueue;
+    }
+
+
+    //--------------------------------------------------
+    // This block contains the benchmarks.
+
+
+    @Benchmark
+    public Integer PushPop()
+    {
+        this.stack.Push(this.value);
+
+        return this.stack.Pop();
+    }
+
+
+    @Benchmark
+    public Integer EnqueueDequeue()
+    {
+        this.queue.Enqueue(this.value);
+
+        return this.queue.Dequeue();
+    }
+
+
+    @Benchmark
+    public Integer Peek()
+    {
+        return this.stack.Peek();
+    }
+
+
+    @Benchmark
+    public Integer First()
+    {
+        return this.queue.First();
+    }
+}
@@ -0,0 +1,287 @@
+package com.vincentdao.Benchmark;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.vincentdao.List.ConcurrentLinkedQueue;
+import com.vincentdao.List.IQueue;
+import com.vincentdao.List.StripedQueue;
+
+
+/**
+ * <p>
+ * Benchmarks the throughput of a queue shared by every 
+ * benchmark thread, comparing {@code StripedQueue} with the 
+ * single-chain {@code ConcurrentLinkedQueue}. The striped 
+ * queue should keep scaling with the thread count up to the 
+ * number of cores, where the single chain flattens out.
+ * </p>
+ * 
+ * <p>
+ * {@code EnqueueDequeue} has every thread both add and 
+ * remove, so a striped thread mostly stays in its own lane. 
+ * {@code ProducerConsumer} splits the threads into producers 
+ * and consumers, so the consumers have to steal from the 
+ * lanes of the producers, as on an event bus. Attempts that 
+ * found the queue full or empty are counted apart, since 
+ * they are part of the primary score.
+ * </p>
+ * 
+ * <p>
+ * Running the class itself sweeps the thread count in 
+ * powers of two up to the number of cores, and prints the 
+ * scaling of both benchmarks. It accepts the usual JMH 
+ * command line. Example: 
+ * {@code java -cp benchmarks.jar com.vincentdao.Benchmark.StripedQueueBenchmark}
+ * </p>
+ * 
+ * @version 0.1
+ * 
+ * @author vincentdao
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StripedQueueBenchmark
+{
+    //--------------------------------------------------
+    // This block contains the implementations to compare.
+
+
+    /** Implementations of a shared queue. */
+    public enum Implementation
+    {
+        CONCURRENT_LINKED_QUEUE,
+        STRIPED_QUEUE
+    }
+
+
+    //--------------------------------------------------
+    // This block contains the state of the benchmark.
+
+
+    /** Slots of every lane, so that producers ahead of consumers rarely fill one. */
+    private static final int LANE_CAPACITY = 1 << 16;
+
+    /** Implementation under measurement. */
+    @Param({"CONCURRENT_LINKED_QUEUE", "STRIPED_QUEUE"})
+    public Implementation implementation;
+
+    /** Number of values in the queue before measuring. */
+    @Param({"1000"})
+    public int size;
+
+    /** Queue shared by every thread. */
+    private IQueue<Integer> queue;
+
+    /** Value added by the adding operations. */
+    private final Integer value = 42;
+
+
+    /**
+     * Fills a shared queue with {@code size} values.
+     */
+    @Setup(Level.Trial)
+    public void Setup()
+    {
+        if (this.implementation == Implementation.STRIPED_QUEUE)
+        {
+            this.queue = new StripedQueue<>(Runtime.getRuntime().availableProcessors(), LANE_CAPACITY);
+        }
+        else
+        {
+            this.queue = new ConcurrentLinkedQueue<>();
+        }
+
+        for (int i = 0; i < this.size; i++)
+        {
+            this.queue.Enqueue(i);
+        }
+    }
+
+
+    /** Attempts of a thread that did not move a value. */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Misses
+    {
+        /** Enqueues that found the queue full. */
+        public long fullEnqueues;
+
+        /** Dequeues that found the queue empty. */
+        public long emptyDequeues;
+
+
+        /**
+         * Resets the counters before every iteration.
+         */
+        @Setup(Level.Iteration)
+        public void Reset()
+        {
+            this.fullEnqueues = 0;
+            this.emptyDequeues = 0;
+        }
+    }
+
+
+    //--------------------------------------------------
+    // This block contains the benchmarks.
+
+
+    @Benchmark
+    public Integer EnqueueDequeue()
+    {
+        this.queue.Enqueue(this.value);
+
+        return this.queue.Dequeue();
+    }
+
+
+    @Benchmark
+    @Group("ProducerConsumer")
+    @GroupThreads(1)
+    public boolean Produce(Misses misses)
+    {
+        try
+        {
+            this.queue.Enqueue(this.value);
+
+            return true;
+        }
+        catch (IllegalStateException e)
+        {
+            misses.fullEnqueues++;
+
+            return false;
+        }
+    }
+
+
+    @Benchmark
+    @Group("ProducerConsumer")
+    @GroupThreads(1)
+    public Integer Consume(Misses misses)
+    {
+        try
+        {
+            return this.queue.Dequeue();
+        }
+        catch (NoSuchElementException e)
+        {
+            misses.emptyDequeues++;
+
+            return null;
+        }
+    }
+
+
+    //--------------------------------------------------
+    // This block contains the thread count sweep.
+
+
+    /**
+     * Runs both benchmarks with 1, 2, 4 and so on threads up 
+     * to the number of cores, then prints the total 
+     * throughput of every run. {@code ProducerConsumer} runs 
+     * half of the threads as producers, and at least one of 
+     * each.
+     * 
+     * @param args : JMH command line options.
+     * 
+     * @throws CommandLineOptionException If the options 
+     * cannot be parsed.
+     * 
+     * @throws RunnerException If a benchmark fails.
+     */
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException
+    {
+        final CommandLineOptions commandLine = new CommandLineOptions(args);
+        final int cores = Runtime.getRuntime().availableProcessors();
+        final StringBuilder report = new StringBuilder();
+
+        report.append(String.format("%-8s %-24s %-18s %12s%n", "threads", "implementation", "benchmark", "ops/us"));
+
+        for (int threads = 1; ; threads = Math.min(threads * 2, cores))
+        {
+            final int producers = Math.max(1, threads / 2);
+            final int consumers = Math.max(1, threads - producers);
+
+            final Iterable<RunResult> sharedResults = new Runner(new OptionsBuilder()
+                .parent(commandLine)
+                .include(StripedQueueBenchmark.class.getSimpleName() + "\\.EnqueueDequeue$")
+                .threads(threads)
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+            final Iterable<RunResult> splitResults = new Runner(new OptionsBuilder()
+                .parent(commandLine)
+                .include(StripedQueueBenchmark.class.getSimpleName() + "\\.ProducerConsumer$")
+                .threadGroups(producers, consumers)
+                .threads(producers + consumers)
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+
+            Report(report, threads, "EnqueueDequeue", sharedResults);
+            Report(report, producers + consumers, "ProducerConsumer", splitResults);
+
+
+            // the core count itself ends the sweep
+            if (threads >= cores)
+            {
+                break;
+            }
+        }
+
+        System.out.println();
+        System.out.print(report);
+    }
+
+
+    /**
+     * Appends the total throughput of every run to the report.
+     * 
+     * @param report : Report to append to.
+     * 
+     * @param threads : Number of threads of the runs.
+     * 
+     * @param benchmark : Name of the benchmark.
+     * 
+     * @param results : Results of the runs.
+     */
+    private static void Report(StringBuilder report, int threads, String benchmark, Iterable<RunResult> results)
+    {
+        for (RunResult result : results)
+        {
+            report.append(String.format("%-8d %-24s %-18s %12.3f%n",
+                threads,
+                result.getParams().getParam("implementation"),
+                benchmark,
+                result.getPrimaryResult().getScore()));
+        }
+    }
+}
@@ -0,0 +1,615 @@
+package com.vincentdao.List;
+
+import java.lang.reflect.Array;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+
+/**
+ * <p>
+ * Bounded blocking implementation of the Queue ADT, for 
+ * producer and consumer threads. Values are stored in a 
+ * fixed-size circular array, guarded by one lock.
+ * </p>
+ * 
+ * <p>
+ * {@code Enqueue} and {@code Dequeue} never wait: they 
+ * throw when the queue is full or empty, same as the other 
+ * queues. {@code Put} and {@code Take} wait for room or for 
+ * a value, {@code Offer} and {@code Poll} wait up to a 
+ * timeout, and {@code DrainTo} moves many values at once 
+ * under a single lock acquisition.
+ * </p>
+ * 
+ * <p>
+ * Waiting is done with a {@code ReentrantLock} and its 
+ * {@code Condition}s instead of {@code synchronized}, so a 
+ * waiting virtual thread releases its carrier thread.
+ * </p>
+ * 
+ * @version 0.1
+ * 
+ * @author vincentdao
+ */
+public final class ArrayBlockingQueue<T> implements IQueue<T>
+{
+    //--------------------------------------------------
+    // This block contains fields of the queue.
+
+
+    /** Circular array holding the values. */
+    private final T[] elements;
+
+    /** Index of the first value in the array. */
+    private int headIndex;
+
+    /** Size of the queue. */
+    private int size;
+
+    /** Lock guarding every field above. */
+    private final ReentrantLock lock;
+
+    /** Signalled when a value is added. */
+    private final Condition notEmpty;
+
+    /** Signalled when a value is removed. */
+    private final Condition notFull;
+
+
+    //--------------------------------------------------
+    // This block contains constructors for the queue.
+
+
+    /**
+     * Constructs an empty queue holding at most 
+     * {@code capacity} values.
+     * 
+     * @param capacity : Maximum number of values.
+     * 
+     * @throws IllegalArgumentException If the 
+     * {@code capacity} is not positive.
+     */
+    @SuppressWarnings("unchecked")
+    public ArrayBlockingQueue(int capacity)
+    {
+        // error no room for any value
+        if (capacity <= 0)
+        {
+            throw new IllegalArgumentException();
+        }
+
+        this.elements = (T[]) new Object[capacity];
+        this.headIndex = 0;
+        this.size = 0;
+        this.lock = new ReentrantLock();
+        this.notEmpty = this.lock.newCondition();
+        this.notFull = this.lock.newCondition();
+    }
+
+
+    //--------------------------------------------------
+    // This block contains utilities methods for the queue.
+
+
+    /**
+     * Checks if the queue is empty.
+     * 
+     * @return {@code true} is the queue is empty, {@code false} otherwise.
+     */
+    public final boolean IsEmpty()
+    {
+        return Size() == 0;
+    }
+
+
+    /**
+     * Adds value to the end of the array. The lock must be 
+     * held, and the queue must not be full.
+     * 
+     * @param value : Value to add.
+     */
+    private final void Insert(T value)
+    {
+        int index = this.headIndex + this.size;
+
+        if (index >= this.elements.length)
+        {
+            index -= this.elements.length;
+        }
+
+        this.elements[index] = value;
+        this.size++;
+        this.notEmpty.signal();
+    }
+
+
+    /**
+     * Removes value from the beginning of the array. The 
+     * lock must be held, and the queue must not be empty.
+     * 
+     * @return {@code T} : Removed value.
+     */
+    private final T Extract()
+    {
+        // clear the slot so the value can be collected
+        final T value = this.elements[this.headIndex];
+
+        this.elements[this.headIndex] = null;
+        this.headIndex++;
+
+        if (this.headIndex == this.elements.length)
+        {
+            this.headIndex = 0;
+        }
+
+        this.size--;
+        this.notFull.signal();
+
+        return value;
+    }
+
+
+    //--------------------------------------------------
+    // This block contains clear method to destroy the queue
+
+
+    /**
+     * Empties the queue, and wakes up every waiting 
+     * producer.
+     */
+    @Override
+    public final void Clear()
+    {
+        this.lock.lock();
+
+        try
+        {
+            for (int i = 0; i < this.size; i++)
+            {
+                this.elements[(this.headIndex + i) % this.elements.length] = null;
+            }
+
+            this.headIndex = 0;
+            this.size = 0;
+            this.notFull.signalAll();
+        }
+        finally
+        {
+            this.lock.unlock();
+        }
+    }
+
+
+    //--------------------------------------------------
+    // This block contains methods for Queue ADT
+
+
+    /**
+     * Adds value to the end of the Queue, without waiting.
+     * 
+     * @param value : Value to add to the Queue.
+     * 
+     * @throws IllegalStateException If the queue is full.
+     * 
+     * @throws NullPointerException If the {@code value} 
+     * is {@code null}.
+     */
+    @Override
+    public final void Enqueue(T value)
+    {
+        // error null value
+        if (value == null)
+        {
+            throw new NullPointerException();
+        }
+
+
+        this.lock.lock();
+
+        try
+        {
+            // error full queue
+            if (this.size == this.elements.length)
+            {
+                throw new IllegalStateException();
+            }
+
+            Insert(value);
+        }
+        finally
+        {
+            this.lock.unlock();
+        }
+    }
+
+
+    /**
+     * Removes value from the beginning of the Queue 
+     * and returns itself, without waiting.
+     * 
+     * @return {@code T} : Value at the beginning of the 
+     * Queue.
+     * 
+     * @throws NoSuchElementException If the queue is empty.
+     */
+    @Override
+    public final T Dequeue()
+    {
+        this.lock.lock();
+
+        try
+        {
+            // error empty queue
+            if (this.size == 0)
+            {
+                throw new NoSuchElementException();
+            }
+
+            return Extract();
+        }
+        finally
+        {
+            this.lock.unlock();
+        }
+    }
+
+
+    /**
+     * Gets value at the beginning of the Queue.
+     * 
+     * @return {@code T} : Value at the beginning of 
+     * the Queue. {@code null} if the queue is empty.
+     */
+    @Override
+    public final T First()
+    {
+        this.lock.lock();
+
+        try
+        {
+            return this.elements[this.headIndex];
+        }
+        finally
+        {
+            this.lock.unlock();
+        }
+    }
+
+
+    //--------------------------------------------------
+    // This block contains blocking methods for producers
+    // and consumers
+
+
+    /**
+     * Adds value to the end of the Queue, waiting for room 
+     * if the queue is full.
+     * 
+     * @param value : Value to add to the Queue.
+     * 
+     * @throws InterruptedException If the thread is 
+     * interrupted while waiting.
+     * 
+     * @throws NullPointerException If the {@code value} 
+     * is {@code null}.
+     */
+    public final void Put(T value) throws InterruptedException
+    {
+        // error null value
+        if (value == null)
+        {
+            throw new NullPointerException();
+        }
+
+
+        this.lock.lockInterruptibly();
+
+        try
+        {
+            while (this.size == this.elements.length)
+            {
+                this.notFull.await();
+            }
+
+            Insert(value);
+        }
+        finally
+        {
+            this.lock.unlock();
+        }
+    }
+
+
+    /**
+     * Removes value from the beginning of the Queue and 
+     * returns itself, waiting for a value if the queue is 
+     * empty.
+     * 
+     * @return {@code T} : Value at the beginning of the 
+     * Queue.
+     * 
+     * @throws InterruptedException If the thread is 
+     * interrupted while waiting.
+     */
+    public final T Take() throws InterruptedException
+    {
+        this.lock.lockInterruptibly();
+
+        try
+        {
+            while (this.size == 0)
+            {
+                this.notEmpty.await();
+            }
+
+            return Extract();
+        }
+        finally
+        {
+            this.lock.unlock();
+        }
+    }
+
+
+    /**
+     * Adds value to the end of the Queue, waiting up to the 
+     * given time for room if the queue is full.
+     * 
+     * @param value : Value to add to the Queue.
+     * 
+     * @param timeout : Time to wait for.
+     * 
+     * @param unit : Unit of the {@code timeout}.
+     * 
+     * @return {@code true} if the value was added, 
+     * {@code false} if the queue stayed full.
+     * 
+     * @throws InterruptedException If the thread is 
+     * interrupted while waiting.
+     * 
+     * @throws NullPointerException If the {@code value} 
+     * is {@code null}.
+     */
+    public final boolean Offer(T value, long timeout, TimeUnit unit) throws InterruptedException
+    {
+        // error null value
+        if (value == null)
+        {
+            throw new NullPointerException();
+        }
+
+
+        long remainingNanos = unit.toNanos(timeout);
+
+        this.lock.lockInterruptibly();
+
+        try
+        {
+            while (this.size == this.elements.length)
+            {
+                // timed out while full
+                if (remainingNanos <= 0)
+                {
+                    return false;
+                }
+
+                remainingNanos = this.notFull.awaitNanos(remainingNanos);
+            }
+
+            Insert(value);
+
+            return true;
+        }
+        finally
+        {
+            this.lock.unlock();
+        }
+    }
+
+
+    /**
+     * Removes value from the beginning of the Queue and 
+     * returns itself, waiting up to the given time for a 
+     * value if the queue is empty.
+     * 
+     * @param timeout : Time to wait for.
+     * 
+     * @param unit : Unit of the {@code timeout}.
+     * 
+     * @return {@code T} : Value at the beginning of the 
+     * Queue. {@code null} if the queue stayed empty.
+     * 
+     * @throws InterruptedException If the thread is 
+     * interrupted while waiting.
+     */
+    public final T Poll(long timeout, TimeUnit unit) throws InterruptedException
+    {
+        long remainingNanos = unit.toNanos(timeout);
+
+        this.lock.lockInterruptibly();
+
+        try
+        {
+            while (this.size == 0)
+            {
+                // timed out while empty
+                if (remainingNanos <= 0)
+                {
+                    return null;
+                }
+
+                remainingNanos = this.notEmpty.awaitNanos(remainingNanos);
+            }
+
+            return Extract();
+        }
+        finally
+        {
+            this.lock.unlock();
+        }
+    }
+
+
+    /**
+     * Moves up to {@code max} values from the beginning of 
+     * the Queue into the array, starting at index 0, under 
+     * a single lock acquisition. Does not wait.
+     * 
+     * @param array : Array to fill.
+     * 
+     * @param max : Maximum number of values to move.
+     * 
+     * @return {@code int} : Number of values moved.
+     * 
+     * @throws IndexOutOfBoundsException If {@code max} is 
+     * negative or larger than the length of the 
+     * {@code array}.
+     */
+    public final int DrainTo(T[] array, int max)
+    {
+        // error max not in array range
+        if (max < 0 || array.length < max)
+        {
+            throw new IndexOutOfBoundsException();
+        }
+
+
+        this.lock.lock();
+
+        try
+        {
+            final int count = Math.min(max, this.size);
+
+
+            // copy the part before the array wraps, then the rest
+            final int headPart = Math.min(count, this.elements.length - this.headIndex);
+
+            System.arraycopy(this.elements, this.headIndex, array, 0, headPart);
+            System.arraycopy(this.elements, 0, array, headPart, count - headPart);
+
+
+            // clear the moved slots so the values can be collected
+            for (int i = 0; i < count; i++)
+            {
+                this.elements[(this.headIndex + i) % this.elements.length] = null;
+            }
+
+            this.headIndex = (this.headIndex + count) % this.elements.length;
+            this.size -= count;
+
+
+            // every moved value made room for a producer
+            if (count > 0)
+            {
+                this.notFull.signalAll();
+            }
+
+            return count;
+        }
+        finally
+        {
+            this.lock.unlock();
+        }
+    }
+
+
+    //--------------------------------------------------
+    // This block contains methods to get the fields' data
+    // from the queue.
+
+
+    /**
+     * Returns the {@code size} of the queue.
+     * 
+     * @return {@code int}  : Size of the queue.
+     */
+    @Override
+    public final int Size()
+    {
+        this.lock.lock();
+
+        try
+        {
+            return this.size;
+        }
+        finally
+        {
+            this.lock.unlock();
+        }
+    }
+
+
+    /**
+     * Returns the number of values that can be added 
+     * before the queue is full.
+     * 
+     * @return {@code int} : Remaining capacity.
+     */
+    public final int RemainingCapacity()
+    {
+        this.lock.lock();
+
+        try
+        {
+            return this.elements.length - this.size;
+        }
+        finally
+        {
+            this.lock.unlock();
+        }
+    }
+
+
+    /**
+     * Converts the queue into array, from the beginning to 
+     * the end of the Queue.
+     * 
+     * @param arrayType : Array to fill when it is long 
+     * enough, otherwise an instance of 
+     * previously-defined-type array to make one from.
+     * 
+     * <p>
+     * Example: if the {@code queue} holds Integer, 
+     * then 
+     * {@code Integer[] array = queue.ToArray(new Integer[0])}
+     * </p>
+     * 
+     * @return {@code T[]} : Representation of the queue as array. 
+     * Empty if the queue is empty
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public final T[] ToArray(T[] arrayType)
+    {
+        this.lock.lock();
+
+        try
+        {
+            // reuse the array when it is long enough, the slot
+            // after the last value marks the end
+            if (arrayType.length < this.size)
+            {
+                arrayType = (T[]) Array.newInstance(arrayType.getClass().componentType(), this.size);
+            }
+            else if (arrayType.length > this.size)
+            {
+                arrayType[this.size] = null;
+            }
+
+
+            // copy the part before the array wraps, then the rest
+            final int headPart = Math.min(this.size, this.elements.length - this.headIndex);
+
+            System.arraycopy(this.elements, this.headIndex, arrayType, 0, headPart);
+            System.arraycopy(this.elements, 0, arrayType, headPart, this.size - headPart);
+
+            return arrayType;
+        }
+        finally
+        {
+            this.lock.unlock();
+        }
+    }
+}
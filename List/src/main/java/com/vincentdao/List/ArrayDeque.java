@@ -0,0 +1,374 @@
+package com.vincentdao.List;
+
+import java.lang.reflect.Array;
+import java.util.NoSuchElementException;
+
+
+/**
+ * <p>
+ * Array-backed implementation of the Stack and Queue ADT. 
+ * Values are stored in a circular array whose capacity is 
+ * always a power of two, so no {@code Node} is allocated 
+ * per value.
+ * </p>
+ * 
+ * <p>
+ * The top of the Stack is the end of the array, and the 
+ * Queue is dequeued from the beginning, same as 
+ * {@code LinkedList}.
+ * </p>
+ * 
+ * @version 0.1
+ * 
+ * @author vincentdao
+ */
+public final class ArrayDeque<T> implements IStack<T>, IQueue<T>
+{
+    //--------------------------------------------------
+    // This block contains fields of the deque.
+
+
+    /** Capacity used when none is given, and after clearing. */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /** Largest power-of-two capacity of an array. */
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    /** Circular array holding the values. */
+    private T[] elements;
+
+    /** Index of the first value in the array. */
+    private int headIndex;
+
+    /** Size of the deque. */
+    private int size;
+
+
+    //--------------------------------------------------
+    // This block contains constructors for the deque.
+
+
+    /**
+     * Constructs an empty deque.
+     */
+    public ArrayDeque()
+    {
+        this(DEFAULT_CAPACITY);
+    }
+
+
+    /**
+     * Constructs an empty deque that can hold at least 
+     * {@code initialCapacity} values before growing.
+     * 
+     * @param initialCapacity : Number of values to make 
+     * room for.
+     * 
+     * @throws IllegalArgumentException If the 
+     * {@code initialCapacity} is negative.
+     */
+    public ArrayDeque(int initialCapacity)
+    {
+        // error negative capacity
+        if (initialCapacity < 0)
+        {
+            throw new IllegalArgumentException();
+        }
+
+        this.elements = NewArray(CapacityFor(initialCapacity));
+        this.headIndex = 0;
+        this.size = 0;
+    }
+
+
+    //--------------------------------------------------
+    // This block contains utilities methods for the deque.
+
+
+    /**
+     * Checks if the deque is empty.
+     * 
+     * @return {@code true} is the deque is empty, {@code false} otherwise.
+     */
+    public final boolean IsEmpty()
+    {
+        return this.size == 0;
+    }
+
+
+    /**
+     * Gets the smallest power of two that can hold the 
+     * given number of values.
+     * 
+     * @param minimumCapacity : Number of values to hold.
+     * 
+     * @return {@code int} : Capacity of the array.
+     */
+    private static int CapacityFor(int minimumCapacity)
+    {
+        // error capacity cannot be a power of two
+        if (minimumCapacity > MAXIMUM_CAPACITY)
+        {
+            throw new OutOfMemoryError();
+        }
+
+        if (minimumCapacity <= DEFAULT_CAPACITY)
+        {
+            return DEFAULT_CAPACITY;
+        }
+
+        return Integer.highestOneBit(minimumCapacity - 1) << 1;
+    }
+
+
+    /**
+     * Creates the circular array. The erasure of {@code T} 
+     * is {@code Object}, so the cast is safe as long as 
+     * the array never leaves the deque.
+     * 
+     * @param capacity : Length of the array.
+     * 
+     * @return {@code T[]} : Empty array.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T[] NewArray(int capacity)
+    {
+        return (T[]) new Object[capacity];
+    }
+
+
+    /**
+     * Gets the array index of the value at given position 
+     * from the head.
+     * 
+     * @param position : Position from the head, starts from 0.
+     * 
+     * @return {@code int} : Index in the circular array.
+     */
+    private final int IndexOf(int position)
+    {
+        return (this.headIndex + position) & (this.elements.length - 1);
+    }
+
+
+    /**
+     * Doubles the capacity of the array when it is full, 
+     * unwrapping the values so that the head is at index 0.
+     */
+    private final void GrowIfFull()
+    {
+        if (this.size < this.elements.length)
+        {
+            return;
+        }
+
+
+        final T[] newElements = NewArray(CapacityFor(this.elements.length + 1));
+        final int headPart = this.elements.length - this.headIndex;
+
+        System.arraycopy(this.elements, this.headIndex, newElements, 0, headPart);
+        System.arraycopy(this.elements, 0, newElements, headPart, this.headIndex);
+
+        this.elements = newElements;
+        this.headIndex = 0;
+    }
+
+
+    //--------------------------------------------------
+    // This block contains clear method to destroy the deque
+
+
+    /**
+     * Empties the deque, and shrinks the array back to its 
+     * default capacity.
+     */
+    @Override
+    public final void Clear()
+    {
+        this.elements = NewArray(DEFAULT_CAPACITY);
+        this.headIndex = 0;
+        this.size = 0;
+    }
+
+
+    //--------------------------------------------------
+    // This block contains methods for Stack ADT
+
+
+    /**
+     * Pops the top value of the Stack, which is the last 
+     * value of the deque.
+     * 
+     * @return {@code T} : Top value of the Stack.
+     * 
+     * @throws NoSuchElementException If the deque is empty.
+     */
+    @Override
+    public final T Pop()
+    {
+        // error empty deque
+        if (IsEmpty() == true)
+        {
+            throw new NoSuchElementException();
+        }
+
+
+        // clear the slot so the value can be collected
+        final int index = IndexOf(this.size - 1);
+        final T value = this.elements[index];
+
+        this.elements[index] = null;
+        this.size--;
+
+        return value;
+    }
+
+
+    /**
+     * Pushes the value to the top of the Stack, which is 
+     * the end of the deque.
+     * 
+     * @param value : Value to push onto the Stack.
+     */
+    @Override
+    public final void Push(T value)
+    {
+        GrowIfFull();
+
+        this.elements[IndexOf(this.size)] = value;
+        this.size++;
+    }
+
+
+    /**
+     * Peeks at the top value of the Stack, which is the 
+     * last value of the deque.
+     * 
+     * @return {@code T} : Top value of the Stack. 
+     * {@code null} if the deque is empty.
+     */
+    @Override
+    public final T Peek()
+    {
+        return IsEmpty() == true ? null : this.elements[IndexOf(this.size - 1)];
+    }
+
+
+    //--------------------------------------------------
+    // This block contains methods for Queue ADT
+
+
+    /**
+     * Adds value to the end of the Queue.
+     * 
+     * @param value : Value to add to the Queue.
+     */
+    @Override
+    public final void Enqueue(T value)
+    {
+        Push(value);
+    }
+
+
+    /**
+     * Removes value from the beginning of the Queue 
+     * and returns itself.
+     * 
+     * @return {@code T} : Value at the beginning of the 
+     * Queue.
+     * 
+     * @throws NoSuchElementException If the deque is empty.
+     */
+    @Override
+    public final T Dequeue()
+    {
+        // error empty deque
+        if (IsEmpty() == true)
+        {
+            throw new NoSuchElementException();
+        }
+
+
+        // clear the slot so the value can be collected
+        final T value = this.elements[this.headIndex];
+
+        this.elements[this.headIndex] = null;
+        this.headIndex = IndexOf(1);
+        this.size--;
+
+        return value;
+    }
+
+
+    /**
+     * Gets value at the beginning of the Queue.
+     * 
+     * @return {@code T} : Value at the beginning of 
+     * the Queue. {@code null} if the deque is empty.
+     */
+    @Override
+    public final T First()
+    {
+        return IsEmpty() == true ? null : this.elements[this.headIndex];
+    }
+
+
+    //--------------------------------------------------
+    // This block contains methods to get the fields' data
+    // from the deque.
+
+
+    /**
+     * Returns the {@code size} of the deque.
+     * 
+     * @return {@code int}  : Size of the deque.
+     */
+    @Override
+    public final int Size()
+    {
+        return this.size;
+    }
+
+
+    /**
+     * Converts the deque into array, from the beginning of 
+     * the Queue to the top of the Stack.
+     * 
+     * @param arrayType : Array to fill when it is long 
+     * enough, otherwise an instance of 
+     * previously-defined-type array to make one from.
+     * 
+     * <p>
+     * Example: if the {@code deque} holds Integer, 
+     * then 
+     * {@code Integer[] array = deque.ToArray(new Integer[0])}
+     * </p>
+     * 
+     * @return {@code T[]} : Representation of the deque as array. 
+     * Empty if the deque is empty
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public final T[] ToArray(T[] arrayType)
+    {
+        // reuse the array when it is long enough, the slot
+        // after the last value marks the end
+        if (arrayType.length < this.size)
+        {
+            arrayType = (T[]) Array.newInstance(arrayType.getClass().componentType(), this.size);
+        }
+        else if (arrayType.length > this.size)
+        {
+            arrayType[this.size] = null;
+        }
+
+
+        // copy the part before the array wraps, then the rest
+        final int headPart = Math.min(this.size, this.elements.length - this.headIndex);
+
+        System.arraycopy(this.elements, this.headIndex, arrayType, 0, headPart);
+        System.arraycopy(this.elements, 0, arrayType, headPart, this.size - headPart);
+
+        return arrayType;
+    }
+}
@@ -0,0 +1,419 @@
+package com.vincentdao.List;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.NoSuchElementException;
+
+
+/**
+ * <p>
+ * Lock-free implementation of the Queue ADT, safe to share 
+ * between any number of producer and consumer threads. 
+ * Uses the Michael-Scott algorithm: the queue is a singly 
+ * linked chain that starts with a dummy {@code Node}, and 
+ * every link is made with a compare-and-set, so no thread 
+ * ever blocks another.
+ * </p>
+ * 
+ * <p>
+ * {@code Enqueue}, {@code Dequeue}, {@code First} and 
+ * {@code Size} are linearizable: each of them takes effect 
+ * atomically at a single point between its call and its 
+ * return. Every {@code Node} is numbered one more than the 
+ * {@code Node} it is linked after, so {@code Size} is the 
+ * difference between the numbers of the last {@code Node} 
+ * and of the dummy {@code Node}, read while the head does 
+ * not move. {@code ToArray} and {@code Clear} walk the 
+ * chain, so under concurrent modification they only reflect 
+ * the values that were in the queue at some point during 
+ * the walk, and are not atomic.
+ * </p>
+ * 
+ * <p>
+ * {@code null} values are not permitted, since a 
+ * {@code null} value marks a {@code Node} that has already 
+ * been dequeued.
+ * </p>
+ * 
+ * @version 0.1
+ * 
+ * @author vincentdao
+ */
+public final class ConcurrentLinkedQueue<T> implements IQueue<T>
+{
+    //--------------------------------------------------
+    // This block contains the class for node.
+
+
+    /** Represents a {@code Node} in the queue. */
+    static final class Node<T>
+    {
+        /** Value of the node, {@code null} once dequeued. */
+        volatile T value;
+
+        /** Pointer to the next node. */
+        volatile Node<T> nextNode;
+
+        /**
+         * Number of the node, one more than the node it is 
+         * linked after. Written before the node is linked, 
+         * and never changed after.
+         */
+        long index;
+
+
+        /**
+         * Constructs a {@code Node} with assigned value. 
+         * The {@code Node} would not point to any other 
+         * {@code Node}.
+         * 
+         * @param value : Value of the node.
+         */
+        Node(T value)
+        {
+            this.value = value;
+            this.nextNode = null;
+            this.index = 0;
+        }
+    }
+
+
+    //--------------------------------------------------
+    // This block contains fields of the queue.
+
+
+    /** Handle to compare-and-set {@code headNode}. */
+    private static final VarHandle HEAD_NODE;
+
+    /** Handle to compare-and-set {@code tailNode}. */
+    private static final VarHandle TAIL_NODE;
+
+    /** Handle to compare-and-set {@code Node.nextNode}. */
+    private static final VarHandle NEXT_NODE;
+
+    static
+    {
+        try
+        {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+            HEAD_NODE = lookup.findVarHandle(ConcurrentLinkedQueue.class, "headNode", Node.class);
+            TAIL_NODE = lookup.findVarHandle(ConcurrentLinkedQueue.class, "tailNode", Node.class);
+            NEXT_NODE = lookup.findVarHandle(Node.class, "nextNode", Node.class);
+        }
+        catch (ReflectiveOperationException e)
+        {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * Head pointer of the queue. Always points to the dummy 
+     * {@code Node}, the first value is the one after it.
+     */
+    private volatile Node<T> headNode;
+
+    /**
+     * Tail pointer of the queue. Points to the last 
+     * {@code Node}, or lags one {@code Node} behind it 
+     * while an {@code Enqueue} is in progress.
+     */
+    private volatile Node<T> tailNode;
+
+
+    //--------------------------------------------------
+    // This block contains constructors for the queue.
+
+
+    /**
+     * Constructs an empty queue.
+     */
+    public ConcurrentLinkedQueue()
+    {
+        final Node<T> dummyNode = new Node<>(null);
+
+        this.headNode = dummyNode;
+        this.tailNode = dummyNode;
+    }
+
+
+    //--------------------------------------------------
+    // This block contains utilities methods for the queue.
+
+
+    /**
+     * Checks if the queue is empty.
+     * 
+     * @return {@code true} is the queue is empty, {@code false} otherwise.
+     */
+    public final boolean IsEmpty()
+    {
+        return this.headNode.nextNode == null;
+    }
+
+
+    /**
+     * Removes the first value of the queue if there is one.
+     * 
+     * @return {@code T} : Value at the beginning of the 
+     * Queue. {@code null} if the queue is empty.
+     */
+    private final T Poll()
+    {
+        while (true)
+        {
+            final Node<T> workingHead = this.headNode;
+            final Node<T> workingTail = this.tailNode;
+            final Node<T> firstNode = workingHead.nextNode;
+
+
+            // head moved while reading, start again
+            if (workingHead != this.headNode)
+            {
+                continue;
+            }
+
+
+            if (workingHead == workingTail)
+            {
+                // empty queue
+                if (firstNode == null)
+                {
+                    return null;
+                }
+
+
+                // help the lagging tail forward
+                TAIL_NODE.compareAndSet(this, workingTail, firstNode);
+                continue;
+            }
+
+
+            // the first node becomes the new dummy node, then its
+            // value is cleared so it can be collected
+            final T value = firstNode.value;
+
+            if (HEAD_NODE.compareAndSet(this, workingHead, firstNode) == true)
+            {
+                firstNode.value = null;
+
+                return value;
+            }
+        }
+    }
+
+
+    //--------------------------------------------------
+    // This block contains clear method to destroy the queue
+
+
+    /**
+     * Empties the queue, by dequeuing every value. Values 
+     * enqueued while clearing may or may not be removed.
+     */
+    @Override
+    public final void Clear()
+    {
+        while (Poll() != null)
+        {
+            // keep removing
+        }
+    }
+
+
+    //--------------------------------------------------
+    // This block contains methods for Queue ADT
+
+
+    /**
+     * Adds value to the end of the Queue.
+     * 
+     * @param value : Value to add to the Queue.
+     * 
+     * @throws NullPointerException If the {@code value} 
+     * is {@code null}.
+     */
+    @Override
+    public final void Enqueue(T value)
+    {
+        // error null value
+        if (value == null)
+        {
+            throw new NullPointerException();
+        }
+
+
+        final Node<T> addingNode = new Node<>(value);
+
+        while (true)
+        {
+            final Node<T> workingTail = this.tailNode;
+            final Node<T> nextNode = workingTail.nextNode;
+
+
+            // tail moved while reading, start again
+            if (workingTail != this.tailNode)
+            {
+                continue;
+            }
+
+
+            // help the lagging tail forward
+            if (nextNode != null)
+            {
+                TAIL_NODE.compareAndSet(this, workingTail, nextNode);
+                continue;
+            }
+
+
+            // link the node after the tail, then try to swing
+            // the tail, another thread will help if this fails
+            addingNode.index = workingTail.index + 1;
+
+            if (NEXT_NODE.compareAndSet(workingTail, null, addingNode) == true)
+            {
+                TAIL_NODE.compareAndSet(this, workingTail, addingNode);
+
+                return;
+            }
+        }
+    }
+
+
+    /**
+     * Removes value from the beginning of the Queue 
+     * and returns itself.
+     * 
+     * @return {@code T} : Value at the beginning of the 
+     * Queue.
+     * 
+     * @throws NoSuchElementException If the queue is empty.
+     */
+    @Override
+    public final T Dequeue()
+    {
+        final T value = Poll();
+
+
+        // error empty queue
+        if (value == null)
+        {
+            throw new NoSuchElementException();
+        }
+
+        return value;
+    }
+
+
+    /**
+     * Gets value at the beginning of the Queue.
+     * 
+     * @return {@code T} : Value at the beginning of 
+     * the Queue. {@code null} if the queue is empty.
+     */
+    @Override
+    public final T First()
+    {
+        while (true)
+        {
+            final Node<T> workingHead = this.headNode;
+            final Node<T> firstNode = workingHead.nextNode;
+
+
+            // empty queue
+            if (firstNode == null)
+            {
+                return null;
+            }
+
+
+            // the value is only valid if the node was not
+            // dequeued while reading it
+            final T value = firstNode.value;
+
+            if (workingHead == this.headNode)
+            {
+                return value;
+            }
+        }
+    }
+
+
+    //--------------------------------------------------
+    // This block contains methods to get the fields' data
+    // from the queue.
+
+
+    /**
+     * Returns the {@code size} of the queue, from the numbers 
+     * of the dummy {@code Node} and of the last {@code Node}. 
+     * It takes effect when the last {@code Node} is found, 
+     * and starts again if a value was dequeued meanwhile.
+     * 
+     * @return {@code int}  : Size of the queue.
+     */
+    @Override
+    public final int Size()
+    {
+        while (true)
+        {
+            final Node<T> workingHead = this.headNode;
+            Node<T> lastNode = this.tailNode;
+
+
+            // the tail may lag behind the last node
+            for (Node<T> nextNode = lastNode.nextNode; nextNode != null; nextNode = lastNode.nextNode)
+            {
+                lastNode = nextNode;
+            }
+
+
+            // the head did not move, so the queue held every
+            // node after it when the last node was found
+            if (workingHead == this.headNode)
+            {
+                return (int) Math.min(lastNode.index - workingHead.index, Integer.MAX_VALUE);
+            }
+        }
+    }
+
+
+    /**
+     * Converts the queue into array, from the beginning to 
+     * the end of the Queue. This is not atomic under 
+     * concurrent modification.
+     * 
+     * @param arrayType : Array to fill when it is long 
+     * enough, otherwise an instance of 
+     * previously-defined-type array to make one from.
+     * 
+     * <p>
+     * Example: if the {@code queue} holds Integer, 
+     * then 
+     * {@code Integer[] array = queue.ToArray(new Integer[0])}
+     * </p>
+     * 
+     * @return {@code T[]} : Representation of the queue as array. 
+     * Empty if the queue is empty
+     */
+    @Override
+    public final T[] ToArray(T[] arrayType)
+    {
+        // the size may change during the walk, so the values
+        // are collected first
+        final ArrayDeque<T> values = new ArrayDeque<>();
+
+        for (Node<T> workingNode = this.headNode.nextNode; workingNode != null; workingNode = workingNode.nextNode)
+        {
+            final T value = workingNode.value;
+
+            // skip nodes dequeued during the walk
+            if (value != null)
+            {
+                values.Enqueue(value);
+            }
+        }
+
+        return values.ToArray(arrayType);
+    }
+}
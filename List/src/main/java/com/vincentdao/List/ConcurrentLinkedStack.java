@@ -0,0 +1,399 @@
+package com.vincentdao.List;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Array;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+
+
+/**
+ * <p>
+ * Lock-free implementation of the Stack ADT, safe to share 
+ * between any number of threads. Uses a Treiber stack: the 
+ * top pointer is swung with a compare-and-set, and a pushed 
+ * {@code Node} never changes once it is on the stack.
+ * </p>
+ * 
+ * <p>
+ * When the compare-and-set fails because of contention, the 
+ * thread backs off into an elimination array instead of 
+ * retrying on the top pointer right away. A {@code Push} and 
+ * a {@code Pop} that meet in the same slot cancel out and 
+ * both return without touching the top pointer.
+ * </p>
+ * 
+ * <p>
+ * {@code Push}, {@code Pop} and {@code Peek} are 
+ * linearizable. {@code Size} and {@code ToArray} read the 
+ * top pointer once and walk the chain below it, so they see 
+ * the whole stack as it was at that read.
+ * </p>
+ * 
+ * @version 0.1
+ * 
+ * @author vincentdao
+ */
+public final class ConcurrentLinkedStack<T> implements IStack<T>
+{
+    //--------------------------------------------------
+    // This block contains the class for node.
+
+
+    /** Represents a {@code Node} in the stack. */
+    static final class Node<T>
+    {
+        /** Value of the node. */
+        final T value;
+
+        /** Pointer to the node below. */
+        Node<T> nextNode;
+
+
+        /**
+         * Constructs a {@code Node} with assigned value. 
+         * The {@code Node} would not point to any other 
+         * {@code Node}.
+         * 
+         * @param value : Value of the node.
+         */
+        Node(T value)
+        {
+            this.value = value;
+            this.nextNode = null;
+        }
+    }
+
+
+    //--------------------------------------------------
+    // This block contains fields of the stack.
+
+
+    /** Number of spins a pushed node waits in a slot for a pop. */
+    private static final int ELIMINATION_SPINS = 64;
+
+    /** Handle to compare-and-set {@code topNode}. */
+    private static final VarHandle TOP_NODE;
+
+    /** Handle to compare-and-set the slots of {@code eliminationSlots}. */
+    private static final VarHandle ELIMINATION_SLOT;
+
+    static
+    {
+        try
+        {
+            TOP_NODE = MethodHandles.lookup().findVarHandle(ConcurrentLinkedStack.class, "topNode", Node.class);
+            ELIMINATION_SLOT = MethodHandles.arrayElementVarHandle(Node[].class);
+        }
+        catch (ReflectiveOperationException e)
+        {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /** Top pointer of the stack. */
+    private volatile Node<T> topNode;
+
+    /** Slots where a contended push waits for a contended pop. */
+    private final Node<T>[] eliminationSlots;
+
+
+    //--------------------------------------------------
+    // This block contains constructors for the stack.
+
+
+    /**
+     * Constructs an empty stack, with one elimination slot 
+     * for every two available processors.
+     */
+    public ConcurrentLinkedStack()
+    {
+        this(Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
+    }
+
+
+    /**
+     * Constructs an empty stack with the given number of 
+     * elimination slots.
+     * 
+     * @param eliminationSize : Number of elimination slots.
+     * 
+     * @throws IllegalArgumentException If the 
+     * {@code eliminationSize} is not positive.
+     */
+    @SuppressWarnings("unchecked")
+    public ConcurrentLinkedStack(int eliminationSize)
+    {
+        // error no elimination slot
+        if (eliminationSize <= 0)
+        {
+            throw new IllegalArgumentException();
+        }
+
+        this.topNode = null;
+        this.eliminationSlots = (Node<T>[]) new Node<?>[eliminationSize];
+    }
+
+
+    //--------------------------------------------------
+    // This block contains utilities methods for the stack.
+
+
+    /**
+     * Checks if the stack is empty.
+     * 
+     * @return {@code true} is the stack is empty, {@code false} otherwise.
+     */
+    public final boolean IsEmpty()
+    {
+        return this.topNode == null;
+    }
+
+
+    /**
+     * Offers a pushed {@code Node} to a concurrent pop, by 
+     * leaving it in a random elimination slot for a short 
+     * while.
+     * 
+     * @param addingNode : {@code Node} to hand over.
+     * 
+     * @return {@code true} if a pop took the {@code Node}, 
+     * {@code false} if it has to be pushed again.
+     */
+    private final boolean EliminatePush(Node<T> addingNode)
+    {
+        final int slot = ThreadLocalRandom.current().nextInt(this.eliminationSlots.length);
+
+
+        // slot is taken by another push
+        if (ELIMINATION_SLOT.compareAndSet(this.eliminationSlots, slot, null, addingNode) == false)
+        {
+            return false;
+        }
+
+
+        // wait for a pop to take the node
+        for (int i = 0; i < ELIMINATION_SPINS; i++)
+        {
+            if (ELIMINATION_SLOT.getVolatile(this.eliminationSlots, slot) != addingNode)
+            {
+                return true;
+            }
+
+            Thread.onSpinWait();
+        }
+
+
+        // withdraw the node, failing means a pop took it just now
+        return ELIMINATION_SLOT.compareAndSet(this.eliminationSlots, slot, addingNode, null) == false;
+    }
+
+
+    /**
+     * Takes a {@code Node} offered by a concurrent push from 
+     * a random elimination slot.
+     * 
+     * @return {@code Node} : {@code Node} handed over by a 
+     * push. {@code null} if there is none.
+     */
+    @SuppressWarnings("unchecked")
+    private final Node<T> EliminatePop()
+    {
+        final int slot = ThreadLocalRandom.current().nextInt(this.eliminationSlots.length);
+        final Node<T> offeredNode = (Node<T>) ELIMINATION_SLOT.getVolatile(this.eliminationSlots, slot);
+
+        if (offeredNode != null
+            && ELIMINATION_SLOT.compareAndSet(this.eliminationSlots, slot, offeredNode, null) == true)
+        {
+            return offeredNode;
+        }
+
+        return null;
+    }
+
+
+    //--------------------------------------------------
+    // This block contains clear method to destroy the stack
+
+
+    /**
+     * Empties the stack.
+     */
+    @Override
+    public final void Clear()
+    {
+        this.topNode = null;
+    }
+
+
+    //--------------------------------------------------
+    // This block contains methods for Stack ADT
+
+
+    /**
+     * Pops the top value of the Stack.
+     * 
+     * @return {@code T} : Top value of the Stack.
+     * 
+     * @throws NoSuchElementException If the stack is empty.
+     */
+    @Override
+    public final T Pop()
+    {
+        while (true)
+        {
+            final Node<T> workingTop = this.topNode;
+
+
+            // error empty stack
+            if (workingTop == null)
+            {
+                throw new NoSuchElementException();
+            }
+
+
+            if (TOP_NODE.compareAndSet(this, workingTop, workingTop.nextNode) == true)
+            {
+                return workingTop.value;
+            }
+
+
+            // contention, try to meet a push instead
+            final Node<T> offeredNode = EliminatePop();
+
+            if (offeredNode != null)
+            {
+                return offeredNode.value;
+            }
+        }
+    }
+
+
+    /**
+     * Pushes the value to the top of the Stack.
+     * 
+     * @param value : Value to push onto the Stack.
+     */
+    @Override
+    public final void Push(T value)
+    {
+        final Node<T> addingNode = new Node<>(value);
+
+        while (true)
+        {
+            final Node<T> workingTop = this.topNode;
+
+            addingNode.nextNode = workingTop;
+
+            if (TOP_NODE.compareAndSet(this, workingTop, addingNode) == true)
+            {
+                return;
+            }
+
+
+            // contention, try to meet a pop instead
+            if (EliminatePush(addingNode) == true)
+            {
+                return;
+            }
+        }
+    }
+
+
+    /**
+     * Peeks at the top value of the Stack.
+     * 
+     * @return {@code T} : Top value of the Stack. 
+     * {@code null} if the stack is empty.
+     */
+    @Override
+    public final T Peek()
+    {
+        final Node<T> workingTop = this.topNode;
+
+        return workingTop == null ? null : workingTop.value;
+    }
+
+
+    //--------------------------------------------------
+    // This block contains methods to get the fields' data
+    // from the stack.
+
+
+    /**
+     * Returns the {@code size} of the stack, by counting 
+     * the values below the current top. This is an O(n) 
+     * walk.
+     * 
+     * @return {@code int}  : Size of the stack.
+     */
+    @Override
+    public final int Size()
+    {
+        int size = 0;
+
+        for (Node<T> workingNode = this.topNode; workingNode != null; workingNode = workingNode.nextNode)
+        {
+            size++;
+        }
+
+        return size;
+    }
+
+
+    /**
+     * Converts the stack into array, from the bottom to the 
+     * top of the Stack.
+     * 
+     * @param arrayType : Array to fill when it is long 
+     * enough, otherwise an instance of 
+     * previously-defined-type array to make one from.
+     * 
+     * <p>
+     * Example: if the {@code stack} holds Integer, 
+     * then 
+     * {@code Integer[] array = stack.ToArray(new Integer[0])}
+     * </p>
+     * 
+     * @return {@code T[]} : Representation of the stack as array. 
+     * Empty if the stack is empty
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public final T[] ToArray(T[] arrayType)
+    {
+        // the chain below a top never changes, so it is
+        // walked twice from the same top
+        final Node<T> workingTop = this.topNode;
+        int size = 0;
+
+        for (Node<T> workingNode = workingTop; workingNode != null; workingNode = workingNode.nextNode)
+        {
+            size++;
+        }
+
+
+        // reuse the array when it is long enough, the slot
+        // after the last value marks the end
+        if (arrayType.length < size)
+        {
+            arrayType = (T[]) Array.newInstance(arrayType.getClass().componentType(), size);
+        }
+        else if (arrayType.length > size)
+        {
+            arrayType[size] = null;
+        }
+
+
+        // fill from the end, since the walk starts at the top
+        Node<T> workingNode = workingTop;
+
+        for (int i = size - 1; i >= 0; i--)
+        {
+            arrayType[i] = workingNode.value;
+            workingNode = workingNode.nextNode;
+        }
+
+        return arrayType;
+    }
+}
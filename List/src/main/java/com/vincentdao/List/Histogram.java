@@ -0,0 +1,237 @@
+package com.vincentdao.List;
+
+import java.util.Arrays;
+
+
+/**
+ * <p>
+ * Histogram of non-negative {@code long} values, such as 
+ * latencies or walk lengths, with a fixed memory footprint. 
+ * Like HdrHistogram, the buckets are log-linear: every power 
+ * of two is split into {@code SUB_BUCKET_COUNT} equal 
+ * buckets, so a recorded value is known within 1/8 of 
+ * itself, from 0 up to {@code Long.MAX_VALUE}.
+ * </p>
+ * 
+ * <p>
+ * Recording is O(1) and does not allocate. Not safe to share 
+ * between threads.
+ * </p>
+ * 
+ * @version 0.1
+ * 
+ * @author vincentdao
+ */
+public final class Histogram
+{
+    //--------------------------------------------------
+    // This block contains fields of the histogram.
+
+
+    /** Number of bits telling buckets of a power of two apart. */
+    private static final int SUB_BUCKET_BITS = 3;
+
+    /** Number of buckets per power of two. */
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    /** Number of buckets, enough for every positive {@code long}. */
+    private static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    /** Number of values recorded in every bucket. */
+    private final long[] counts;
+
+    /** Number of values recorded. */
+    private long totalCount;
+
+    /** Sum of the values recorded. */
+    private long totalSum;
+
+    /** Largest value recorded. */
+    private long maximum;
+
+
+    //--------------------------------------------------
+    // This block contains constructors for the histogram.
+
+
+    /**
+     * Constructs an empty histogram.
+     */
+    public Histogram()
+    {
+        this.counts = new long[BUCKET_COUNT];
+        this.totalCount = 0;
+        this.totalSum = 0;
+        this.maximum = 0;
+    }
+
+
+    //--------------------------------------------------
+    // This block contains utilities methods for the histogram.
+
+
+    /**
+     * Gets the bucket holding the value.
+     * 
+     * @param value : Non-negative value.
+     * 
+     * @return {@code int} : Index of the bucket.
+     */
+    private static int BucketOf(long value)
+    {
+        // small values get a bucket each
+        if (value < SUB_BUCKET_COUNT)
+        {
+            return (int) value;
+        }
+
+        final int exponent = 63 - Long.numberOfLeadingZeros(value);
+        final int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+
+    /**
+     * Gets the largest value that falls into the bucket.
+     * 
+     * @param bucket : Index of the bucket.
+     * 
+     * @return {@code long} : Upper bound of the bucket, 
+     * included.
+     */
+    private static long UpperBoundOf(int bucket)
+    {
+        // small values get a bucket each
+        if (bucket < SUB_BUCKET_COUNT)
+        {
+            return bucket;
+        }
+
+        final int exponent = bucket / SUB_BUCKET_COUNT + SUB_BUCKET_BITS - 1;
+        final long subBucket = SUB_BUCKET_COUNT + bucket % SUB_BUCKET_COUNT;
+        final int shift = exponent - SUB_BUCKET_BITS;
+
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+
+    //--------------------------------------------------
+    // This block contains recording methods
+
+
+    /**
+     * Records a value. Negative values are recorded as 0.
+     * 
+     * @param value : Value to record.
+     */
+    public final void Record(long value)
+    {
+        final long recordedValue = Math.max(0, value);
+
+        this.counts[BucketOf(recordedValue)]++;
+        this.totalCount++;
+        this.totalSum += recordedValue;
+        this.maximum = Math.max(this.maximum, recordedValue);
+    }
+
+
+    /**
+     * Forgets every recorded value.
+     */
+    public final void Reset()
+    {
+        Arrays.fill(this.counts, 0);
+        this.totalCount = 0;
+        this.totalSum = 0;
+        this.maximum = 0;
+    }
+
+
+    //--------------------------------------------------
+    // This block contains methods to get the fields' data 
+    // from the histogram.
+
+
+    /**
+     * Returns the number of values recorded.
+     * 
+     * @return {@code long} : Number of values.
+     */
+    public final long GetCount()
+    {
+        return this.totalCount;
+    }
+
+
+    /**
+     * Returns the largest value recorded.
+     * 
+     * @return {@code long} : Largest value. {@code 0} if 
+     * nothing was recorded.
+     */
+    public final long GetMaximum()
+    {
+        return this.maximum;
+    }
+
+
+    /**
+     * Returns the mean of the values recorded.
+     * 
+     * @return {@code double} : Mean value. {@code 0} if 
+     * nothing was recorded.
+     */
+    public final double GetMean()
+    {
+        return this.totalCount == 0 ? 0 : (double) this.totalSum / this.totalCount;
+    }
+
+
+    /**
+     * Returns the value under which the given percentage of 
+     * the recorded values fall, within the precision of the 
+     * buckets.
+     * 
+     * @param percentile : Percentage, from 0 to 100.
+     * 
+     * @return {@code long} : Value at the percentile. 
+     * {@code 0} if nothing was recorded.
+     * 
+     * @throws IllegalArgumentException If the 
+     * {@code percentile} is not in the range from {@code 0} 
+     * to {@code 100}.
+     */
+    public final long GetValueAtPercentile(double percentile)
+    {
+        // error not a percentage
+        if (!(percentile >= 0 && percentile <= 100))
+        {
+            throw new IllegalArgumentException();
+        }
+
+
+        // nothing recorded
+        if (this.totalCount == 0)
+        {
+            return 0;
+        }
+
+
+        // walk the buckets up to the rank of the percentile
+        final long rank = Math.max(1, (long) Math.ceil(percentile / 100 * this.totalCount));
+        long seenCount = 0;
+
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++)
+        {
+            seenCount += this.counts[bucket];
+
+            if (seenCount >= rank)
+            {
+                return Math.min(UpperBoundOf(bucket), this.maximum);
+            }
+        }
+
+        return this.maximum;
+    }
+}
@@ -0,0 +1,189 @@
+package com.vincentdao.List;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+
+/**
+ * Codec turning the values of a {@code List} into bytes and 
+ * back, used by {@code List.WriteTo} and 
+ * {@code List.ReadFrom}.
+ * 
+ * <p>
+ * A codec is either fixed-width, where every value takes 
+ * {@code Width()} bytes and records are written back to 
+ * back, or variable-width, where every record is prefixed 
+ * with its length. The codecs for the common types are 
+ * given as constants. They do not accept {@code null} 
+ * values.
+ * </p>
+ * 
+ * @version 0.1
+ * 
+ * @author vincentdao
+ */
+public interface IElementCodec<T>
+{
+    /** {@code Width()} of a codec whose values vary in size. */
+    public static final int VARIABLE_WIDTH = -1;
+
+
+    /** Codec of {@code Integer}, 4 bytes per value. */
+    public static final IElementCodec<Integer> INTEGER = new IElementCodec<Integer>()
+    {
+        @Override
+        public int Width()
+        {
+            return Integer.BYTES;
+        }
+
+
+        @Override
+        public void Encode(Integer value, ByteBuffer buffer)
+        {
+            buffer.putInt(value);
+        }
+
+
+        @Override
+        public Integer Decode(ByteBuffer buffer)
+        {
+            return buffer.getInt();
+        }
+    };
+
+
+    /** Codec of {@code Long}, 8 bytes per value. */
+    public static final IElementCodec<Long> LONG = new IElementCodec<Long>()
+    {
+        @Override
+        public int Width()
+        {
+            return Long.BYTES;
+        }
+
+
+        @Override
+        public void Encode(Long value, ByteBuffer buffer)
+        {
+            buffer.putLong(value);
+        }
+
+
+        @Override
+        public Long Decode(ByteBuffer buffer)
+        {
+            return buffer.getLong();
+        }
+    };
+
+
+    /** Codec of {@code Double}, 8 bytes per value. */
+    public static final IElementCodec<Double> DOUBLE = new IElementCodec<Double>()
+    {
+        @Override
+        public int Width()
+        {
+            return Double.BYTES;
+        }
+
+
+        @Override
+        public void Encode(Double value, ByteBuffer buffer)
+        {
+            buffer.putDouble(value);
+        }
+
+
+        @Override
+        public Double Decode(ByteBuffer buffer)
+        {
+            return buffer.getDouble();
+        }
+    };
+
+
+    /** Codec of {@code String}, as UTF-8 bytes. */
+    public static final IElementCodec<String> STRING = new IElementCodec<String>()
+    {
+        @Override
+        public int Width()
+        {
+            return VARIABLE_WIDTH;
+        }
+
+
+        @Override
+        public int SizeOf(String value)
+        {
+            // a UTF-16 char never takes more than 3 bytes
+            return value.length() * 3;
+        }
+
+
+        @Override
+        public void Encode(String value, ByteBuffer buffer)
+        {
+            buffer.put(value.getBytes(StandardCharsets.UTF_8));
+        }
+
+
+        @Override
+        public String Decode(ByteBuffer buffer)
+        {
+            final byte[] bytes = new byte[buffer.remaining()];
+
+            buffer.get(bytes);
+
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    };
+
+
+    /**
+     * Gets the number of bytes of every value.
+     * 
+     * @return {@code int} : Bytes per value. 
+     * {@code VARIABLE_WIDTH} if the values vary in size.
+     */
+    public int Width();
+
+
+    /**
+     * Gets the most bytes {@code Encode} writes for the 
+     * value, so that room can be made for it beforehand.
+     * 
+     * @param value : Value to write.
+     * 
+     * @return {@code int} : Most bytes of the value. 
+     * {@code Width()} by default.
+     */
+    public default int SizeOf(T value)
+    {
+        return Width();
+    }
+
+
+    /**
+     * Writes the value at the position of the buffer. 
+     * The buffer has at least {@code SizeOf(value)} bytes 
+     * remaining.
+     * 
+     * @param value : Value to write.
+     * 
+     * @param buffer : Buffer to write to.
+     */
+    public void Encode(T value, ByteBuffer buffer);
+
+
+    /**
+     * Reads a value from the position of the buffer. For a 
+     * variable-width codec the remaining bytes of the buffer 
+     * are exactly the record, and must all be read.
+     * 
+     * @param buffer : Buffer to read from.
+     * 
+     * @return {@code T} : Value read.
+     */
+    public T Decode(ByteBuffer buffer);
+}
@@ -0,0 +1,81 @@
+package com.vincentdao.List;
+
+
+/**
+ * Listener receiving the operations of a {@code List}, set 
+ * with {@code List.SetListener}. A list without listener 
+ * only checks a {@code null} field per operation, so 
+ * instrumentation costs nothing when it is off.
+ * 
+ * <p>
+ * The listener is called on the thread running the 
+ * operation, right after it, so it should return quickly.
+ * </p>
+ * 
+ * @version 0.1
+ * 
+ * @author vincentdao
+ */
+public interface IListListener
+{
+    /** Operations reported to the listener. */
+    public enum Operation
+    {
+        ADD_FIRST,
+        ADD_LAST,
+        ADD_AT,
+        ADD_ALL,
+        SPLICE,
+        REMOVE_FIRST,
+        REMOVE_LAST,
+        REMOVE_AT,
+        REMOVE_RANGE,
+        CLEAR,
+        GET_AT,
+        SWAP,
+        SORT,
+        PARALLEL_SORT,
+        TO_ARRAY
+    }
+
+
+    /**
+     * Called after every operation of the list. 
+     * {@code AddAt} at either end of the list is reported 
+     * as {@code ADD_FIRST} or {@code ADD_LAST}, and a 
+     * {@code ParallelSort} too small to split as 
+     * {@code SORT}, since they are run by those. 
+     * {@code ReadFrom} is reported as {@code ADD_ALL}. 
+     * Moving through a cursor or an iterator, and 
+     * {@code WriteTo}, are not reported.
+     * 
+     * @param operation : Operation that ran.
+     * 
+     * @param size : Size of the list after the operation.
+     */
+    public void OnOperation(Operation operation, int size);
+
+
+    /**
+     * Called after every walk to an index.
+     * 
+     * @param index : Index walked to.
+     * 
+     * @param hops : Number of {@code Node}s walked over.
+     */
+    public void OnSeek(int index, int hops);
+
+
+    /**
+     * Called after the operations that are timed, which are 
+     * {@code SORT}, {@code PARALLEL_SORT} and 
+     * {@code TO_ARRAY}, which covers every export to an 
+     * array.
+     * 
+     * @param operation : Operation that ran.
+     * 
+     * @param elapsedNanos : Time the operation took, in 
+     * nanoseconds.
+     */
+    public void OnTimed(Operation operation, long elapsedNanos);
+}
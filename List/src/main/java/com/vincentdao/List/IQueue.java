@@ -9,7 +9,7 @@ package com.vincentdao.List;
  * 
  * @author vincentdao
  */
-public interface IQueue<T extends Comparable<T>>
+public interface IQueue<T>
 {
     /**
      * Adds value to the beginning of the Queue. 
@@ -50,9 +50,9 @@ public interface IQueue<T extends Comparable<T>>
     /**
      * Converts the list into array.
      * 
-     * @param arrayType : Type of array to sort (must be the 
-     * same type as defined). This parameter accepts an 
-     * instance of previously-defined-type array.
+     * @param arrayType : Array to fill when it is long 
+     * enough, otherwise an instance of 
+     * previously-defined-type array to make one from.
      * 
      * <p>
      * Example: if the {@code list} holds Integer, 
@@ -61,10 +61,7 @@ public interface IQueue<T extends Comparable<T>>
      * </p>
      * 
      * @return {@code T[]} : Representation of the list as array. 
-     * {@code null} if the list is empty
-     * 
-     * @throws NullPointerException If there is {@code null} 
-     * node in the list.
+     * Empty if the list is empty
      */
     public T[] ToArray(T[] arrayType);
 
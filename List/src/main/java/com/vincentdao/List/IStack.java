@@ -9,7 +9,7 @@ package com.vincentdao.List;
  * 
  * @author vincentdao
  */
-public interface IStack<T extends Comparable<T>>
+public interface IStack<T>
 {
     /**
      * Pushes the value to the top of the Stack. 
@@ -47,9 +47,9 @@ public interface IStack<T extends Comparable<T>>
     /**
      * Converts the list into array.
      * 
-     * @param arrayType : Type of array to sort (must be the 
-     * same type as defined). This parameter accepts an 
-     * instance of previously-defined-type array.
+     * @param arrayType : Array to fill when it is long 
+     * enough, otherwise an instance of 
+     * previously-defined-type array to make one from.
      * 
      * <p>
      * Example: if the {@code list} holds Integer, 
@@ -58,10 +58,7 @@ public interface IStack<T extends Comparable<T>>
      * </p>
      * 
      * @return {@code T[]} : Representation of the list as array. 
-     * {@code null} if the list is empty
-     * 
-     * @throws NullPointerException If there is {@code null} 
-     * node in the list.
+     * Empty if the list is empty
      */
     public T[] ToArray(T[] arrayType);
 
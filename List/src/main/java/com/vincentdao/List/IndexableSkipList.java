@@ -0,0 +1,988 @@
+package com.vincentdao.List;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+
+/**
+ * <p>
+ * Skip list implementation of the List, Stack and Queue ADT, 
+ * ordered by position instead of by value. Every forward 
+ * link records its span, the number of values it skips, so 
+ * an index is reached by adding up spans from the top level 
+ * down, in O(log n) expected steps.
+ * </p>
+ * 
+ * <p>
+ * {@code GetAt}, {@code AddAt}, {@code RemoveAt} and 
+ * {@code Swap} are O(log n) expected, against the O(n) walk 
+ * of {@code LinkedList}. The price is a few links per value 
+ * (4/3 on average) and a slower walk at either end. Has the 
+ * same methods as {@code LinkedList}, so the two can be 
+ * swapped for each other.
+ * </p>
+ * 
+ * @version 0.1
+ * 
+ * @author vincentdao
+ */
+public final class IndexableSkipList<T> implements IStack<T>, IQueue<T>, Iterable<T>
+{
+    //--------------------------------------------------
+    // This block contains the class for node.
+
+
+    /** Represents a {@code Node} in the skip list. */
+    static final class Node<T>
+    {
+        /** Value of the node. */
+        T value;
+
+        /** Pointer to the next node on every level of the node. */
+        final Node<T>[] nextNodes;
+
+        /**
+         * Number of values skipped by the link on every 
+         * level, counting the node it points to. A link to 
+         * {@code null} spans up to the end of the list.
+         */
+        final int[] spans;
+
+
+        /**
+         * Constructs a {@code Node} with assigned value and 
+         * number of levels. The {@code Node} would not point 
+         * to any other {@code Node}.
+         * 
+         * @param value : Value of the node.
+         * 
+         * @param level : Number of levels of the node.
+         */
+        @SuppressWarnings("unchecked")
+        Node(T value, int level)
+        {
+            this.value = value;
+            this.nextNodes = (Node<T>[]) new Node<?>[level];
+            this.spans = new int[level];
+        }
+    }
+
+
+    //--------------------------------------------------
+    // This block contains fields of the list.
+
+
+    /** Largest number of levels of a {@code Node}. */
+    private static final int MAXIMUM_LEVEL = 32;
+
+    /**
+     * Natural order of the values. The values have to be 
+     * {@code Comparable} to each other, or the sort fails 
+     * with {@code ClassCastException}.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final Comparator<Object> NATURAL_ORDER =
+        (leftValue, rightValue) -> ((Comparable) leftValue).compareTo(rightValue);
+
+    /** Sentinel before the first value, on every level. */
+    private final Node<T> headNode;
+
+    /** Tail pointer of the list. */
+    private Node<T> tailNode;
+
+    /** Number of levels in use. */
+    private int levelCount;
+
+    /** Size of the list. */
+    private int size;
+
+    /**
+     * Last {@code Node} before the index on every level, 
+     * reused by every add and removal.
+     */
+    private final Node<T>[] prevNodes;
+
+    /** Position of every {@code Node} in {@code prevNodes}. */
+    private final int[] prevPositions;
+
+    /** State of the generator drawing the levels. */
+    private long randomState;
+
+    /** Number of structural changes, checked by iterators. */
+    private int modCount;
+
+
+    //--------------------------------------------------
+    // This block contains constructors for the list.
+
+
+    /**
+     * Constructs an empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public IndexableSkipList()
+    {
+        this.headNode = new Node<>(null, MAXIMUM_LEVEL);
+        this.prevNodes = (Node<T>[]) new Node<?>[MAXIMUM_LEVEL];
+        this.prevPositions = new int[MAXIMUM_LEVEL];
+        this.tailNode = null;
+        this.levelCount = 1;
+        this.size = 0;
+        this.randomState = ThreadLocalRandom.current().nextLong() | 1L;
+        this.modCount = 0;
+    }
+
+
+    //--------------------------------------------------
+    // This block contains utilities methods for the list.
+
+
+    /**
+     * Checks if the list is empty.
+     * 
+     * @return {@code true} is the list is empty, {@code false} otherwise.
+     */
+    public final boolean IsEmpty()
+    {
+        return this.size == 0;
+    }
+
+
+    /**
+     * Draws the number of levels of a new {@code Node}. 
+     * Every level is kept with a chance of 1/4, so a level 
+     * has a quarter of the links of the level below.
+     * 
+     * @return {@code int} : Number of levels, from 1 to 
+     * {@code MAXIMUM_LEVEL}.
+     */
+    private final int RandomLevel()
+    {
+        // xorshift, two bits per level
+        long random = this.randomState;
+
+        random ^= random << 13;
+        random ^= random >>> 7;
+        random ^= random << 17;
+        this.randomState = random;
+
+        final int level = 1 + Long.numberOfTrailingZeros(random | (1L << (2 * (MAXIMUM_LEVEL - 1)))) / 2;
+
+        return Math.min(level, MAXIMUM_LEVEL);
+    }
+
+
+    /**
+     * Gets the {@code Node} at given index, by taking the 
+     * longest link that does not overshoot on every level.
+     * 
+     * @param index : Index of the node.
+     * 
+     * @return {@code Node} : Node at given index.
+     */
+    private final Node<T> GetNodeAt(int index)
+    {
+        // the head is at position 0, so the node at the
+        // index is at position index + 1
+        final int position = index + 1;
+        Node<T> workingNode = this.headNode;
+        int workingPosition = 0;
+
+        for (int level = this.levelCount - 1; level >= 0; level--)
+        {
+            while (workingNode.nextNodes[level] != null
+                && workingPosition + workingNode.spans[level] <= position)
+            {
+                workingPosition += workingNode.spans[level];
+                workingNode = workingNode.nextNodes[level];
+            }
+
+            if (workingPosition == position)
+            {
+                return workingNode;
+            }
+        }
+
+        return workingNode;
+    }
+
+
+    /**
+     * Links a new {@code Node} holding the value so that it 
+     * ends up at the given index.
+     * 
+     * @param value : Value to add.
+     * 
+     * @param index : Index of the new value, from {@code 0} 
+     * to {@code size}.
+     */
+    private final void Insert(T value, int index)
+    {
+        // last node before the index on every level, and its
+        // position
+        final Node<T>[] prevNodes = this.prevNodes;
+        final int[] prevPositions = this.prevPositions;
+        Node<T> workingNode = this.headNode;
+        int workingPosition = 0;
+
+        for (int level = this.levelCount - 1; level >= 0; level--)
+        {
+            while (workingNode.nextNodes[level] != null
+                && workingPosition + workingNode.spans[level] <= index)
+            {
+                workingPosition += workingNode.spans[level];
+                workingNode = workingNode.nextNodes[level];
+            }
+
+            prevNodes[level] = workingNode;
+            prevPositions[level] = workingPosition;
+        }
+
+
+        // new levels start from the head, spanning the
+        // whole list
+        final int addingLevel = RandomLevel();
+
+        for (int level = this.levelCount; level < addingLevel; level++)
+        {
+            prevNodes[level] = this.headNode;
+            prevPositions[level] = 0;
+            this.headNode.spans[level] = this.size;
+        }
+
+        this.levelCount = Math.max(this.levelCount, addingLevel);
+
+
+        // link the node on its levels, splitting the spans
+        // it falls into
+        final Node<T> addingNode = new Node<>(value, addingLevel);
+
+        for (int level = 0; level < addingLevel; level++)
+        {
+            final int skipped = prevPositions[0] - prevPositions[level];
+
+            addingNode.nextNodes[level] = prevNodes[level].nextNodes[level];
+            prevNodes[level].nextNodes[level] = addingNode;
+            addingNode.spans[level] = prevNodes[level].spans[level] - skipped;
+            prevNodes[level].spans[level] = skipped + 1;
+        }
+
+
+        // links above the node now skip one more value
+        for (int level = addingLevel; level < this.levelCount; level++)
+        {
+            prevNodes[level].spans[level]++;
+        }
+
+        if (addingNode.nextNodes[0] == null)
+        {
+            this.tailNode = addingNode;
+        }
+
+        this.size++;
+        this.modCount++;
+    }
+
+
+    /**
+     * Unlinks the {@code Node} at the given index.
+     * 
+     * @param index : Index of the value, from {@code 0} to 
+     * {@code size - 1}.
+     * 
+     * @return {@code T} : Value of the removed {@code Node}.
+     */
+    private final T Delete(int index)
+    {
+        // last node before the index on every level
+        final Node<T>[] prevNodes = this.prevNodes;
+        Node<T> workingNode = this.headNode;
+        int workingPosition = 0;
+
+        for (int level = this.levelCount - 1; level >= 0; level--)
+        {
+            while (workingNode.nextNodes[level] != null
+                && workingPosition + workingNode.spans[level] <= index)
+            {
+                workingPosition += workingNode.spans[level];
+                workingNode = workingNode.nextNodes[level];
+            }
+
+            prevNodes[level] = workingNode;
+        }
+
+
+        // bypass the node on its levels, and shorten the
+        // links above it
+        final Node<T> deleteNode = prevNodes[0].nextNodes[0];
+
+        for (int level = 0; level < this.levelCount; level++)
+        {
+            if (prevNodes[level].nextNodes[level] == deleteNode)
+            {
+                prevNodes[level].spans[level] += deleteNode.spans[level] - 1;
+                prevNodes[level].nextNodes[level] = deleteNode.nextNodes[level];
+            }
+            else
+            {
+                prevNodes[level].spans[level]--;
+            }
+        }
+
+
+        // drop the levels left without any node
+        while (this.levelCount > 1 && this.headNode.nextNodes[this.levelCount - 1] == null)
+        {
+            this.levelCount--;
+        }
+
+        if (deleteNode == this.tailNode)
+        {
+            this.tailNode = prevNodes[0] == this.headNode ? null : prevNodes[0];
+        }
+
+        this.size--;
+        this.modCount++;
+
+        return deleteNode.value;
+    }
+
+
+    //--------------------------------------------------
+    // This block contains clear method to destroy the list
+
+
+    /**
+     * Empties the list.
+     */
+    @Override
+    public final void Clear()
+    {
+        Arrays.fill(this.headNode.nextNodes, null);
+        Arrays.fill(this.headNode.spans, 0);
+        Arrays.fill(this.prevNodes, null);
+        this.tailNode = null;
+        this.levelCount = 1;
+        this.size = 0;
+        this.modCount++;
+    }
+
+
+    //--------------------------------------------------
+    // This block contains removal methods
+
+
+    /**
+     * Removes the first value of the list and returns 
+     * itself.
+     * 
+     * @return {@code T} : First value of the list.
+     * 
+     * @throws NoSuchElementException If the list is empty.
+     */
+    public final T RemoveFirst()
+    {
+        // error empty list
+        if (IsEmpty() == true)
+        {
+            throw new NoSuchElementException();
+        }
+
+        return Delete(0);
+    }
+
+
+    /**
+     * Removes the last value of the list and returns 
+     * itself.
+     * 
+     * @return {@code T} : Last value of the list.
+     * 
+     * @throws NoSuchElementException If the list is empty.
+     */
+    public final T RemoveLast()
+    {
+        // error empty list
+        if (IsEmpty() == true)
+        {
+            throw new NoSuchElementException();
+        }
+
+        return Delete(this.size - 1);
+    }
+
+
+    /**
+     * Removes the value at given index and returns itself.
+     * 
+     * @param index : Index of the value, starts from 0.
+     * 
+     * @return {@code T} : Value at the given index.
+     * 
+     * @throws IndexOutOfBoundsException If the {@code index} 
+     * is not in the range from {@code 0} to {@code size - 1}.
+     * 
+     * @throws NoSuchElementException If the list is empty.
+     */
+    public final T RemoveAt(int index)
+    {
+        // error index not in size range
+        if (index < 0 || this.size - 1 < index)
+        {
+            throw new IndexOutOfBoundsException();
+        }
+
+
+        // error empty list
+        if (IsEmpty() == true)
+        {
+            throw new NoSuchElementException();
+        }
+
+        return Delete(index);
+    }
+
+
+    //--------------------------------------------------
+    // This block contains adding methods
+
+
+    /**
+     * Adds the value to the beginning of the list.
+     * 
+     * @param value : Value to add.
+     */
+    public final void AddFirst(T value)
+    {
+        Insert(value, 0);
+    }
+
+
+    /**
+     * Adds the value to the end of the list.
+     * 
+     * @param value : Value to add.
+     */
+    public final void AddLast(T value)
+    {
+        Insert(value, this.size);
+    }
+
+
+    /**
+     * Adds the value to the given index.
+     * 
+     * @param value : Value to add.
+     * 
+     * @param index : Index to add to.
+     * 
+     * @throws IndexOutOfBoundsException If the {@code index} 
+     * is not in the range from {@code 0} to {@code size - 1}.
+     */
+    public final void AddAt(T value, int index)
+    {
+        // error index not in size range
+        if (index < 0 || this.size - 1 < index)
+        {
+            throw new IndexOutOfBoundsException();
+        }
+
+
+        // use AddFirst method when the index points to
+        // the start of the list
+        if (index == 0)
+        {
+            AddFirst(value);
+            return;
+        }
+
+
+        // use AddLast method when index points to 
+        // the end of the list
+        if (index == this.size - 1)
+        {
+            AddLast(value);
+            return;
+        }
+
+        Insert(value, index);
+    }
+
+
+    //--------------------------------------------------
+    // This block contains methods for Stack ADT
+
+
+    /**
+     * Pops the top value of the Stack. Equivalent to 
+     * {@code RemoveLast}.
+     * 
+     * @return {@code T} : Top value of the Stack.
+     * 
+     * @throws NoSuchElementException If the list is empty.
+     */
+    @Override
+    public final T Pop()
+    {
+        return RemoveLast();
+    }
+
+
+    /**
+     * Pushes the value to the top of the Stack. 
+     * Equivalent to {@code AddLast}.
+     * 
+     * @param value : Value to push onto the Stack.
+     */
+    @Override
+    public final void Push(T value)
+    {
+        AddLast(value);
+    }
+
+
+    /**
+     * Peeks at the top value of the Stack. Equivalent 
+     * to {@code GetLast}.
+     * 
+     * @return {@code T} : Top value of the Stack. 
+     * {@code null} if the list is empty.
+     */
+    @Override
+    public final T Peek()
+    {
+        return GetLast();
+    }
+
+
+    //--------------------------------------------------
+    // This block contains methods for Queue ADT
+
+
+    /**
+     * Adds value to the end of the Queue. Equivalent to 
+     * {@code AddLast}.
+     * 
+     * @param value : Value to add to the Queue.
+     */
+    @Override
+    public final void Enqueue(T value)
+    {
+        AddLast(value);
+    }
+
+
+    /**
+     * Removes value from the beginning of the Queue 
+     * and returns itself. Equivalent to {@code RemoveFirst}.
+     * 
+     * @return {@code T} : Value at the beginning of the 
+     * Queue.
+     * 
+     * @throws NoSuchElementException If the list is empty.
+     */
+    @Override
+    public final T Dequeue()
+    {
+        return RemoveFirst();
+    }
+
+
+    /**
+     * Gets value at the beginning of the Queue. Equivalent 
+     * to {@code GetFirst}.
+     * 
+     * @return {@code T} : Value at the beginning of 
+     * the Queue. {@code null} if the list is empty.
+     */
+    @Override
+    public final T First()
+    {
+        return GetFirst();
+    }
+
+
+    //--------------------------------------------------
+    // This block contains methods to get the fields' data 
+    // from the list.
+
+
+    /**
+     * Returns the {@code size} of the list.
+     * 
+     * @return {@code int}  : Size of the list.
+     */
+    @Override
+    public final int Size()
+    {
+        return this.size;
+    }
+
+
+    /**
+     * Returns the first value of the list.
+     * 
+     * @return {@code T} : First value of the list. 
+     * {@code null} if the list is empty.
+     */
+    public final T GetFirst()
+    {
+        final Node<T> firstNode = this.headNode.nextNodes[0];
+
+        return firstNode == null ? null : firstNode.value;
+    }
+
+
+    /**
+     * Returns the last value of the list.
+     * 
+     * @return {@code T} : Last value of the list. 
+     * {@code null} if the list is empty.
+     */
+    public final T GetLast()
+    {
+        return this.tailNode == null ? null : this.tailNode.value;
+    }
+
+
+    /**
+     * Gets the value at the given {@code index}.
+     * 
+     * @param index : Index of the value to retrieve
+     * 
+     * @return {@code T} : Value at the given {@code index}.
+     * 
+     * @throws IndexOutOfBoundsException If the {@code index} 
+     * is not in the range from {@code 0} to {@code size - 1}.
+     * 
+     * @throws NoSuchElementException If the list is empty.
+     */
+    public final T GetAt(int index)
+    {
+        // error index not in size range
+        if (index < 0 || this.size - 1 < index)
+        {
+            throw new IndexOutOfBoundsException();
+        }
+
+
+        // error list is empty
+        if (IsEmpty() == true)
+        {
+            throw new NoSuchElementException();
+        }
+
+        return GetNodeAt(index).value;
+    }
+
+
+    //--------------------------------------------------
+    // This block contains method to turn the list into
+    // "workable" collection, array to be specific
+
+
+    /**
+     * Converts the list into array.
+     * 
+     * @param arrayType : Array to fill when it is long 
+     * enough, otherwise an instance of 
+     * previously-defined-type array to make one from.
+     * 
+     * <p>
+     * Example: if the {@code list} holds Integer, 
+     * then 
+     * {@code Integer[] array = list.ToArray(new Integer[0])}
+     * </p>
+     * 
+     * @return {@code T[]} : Representation of the list as array. 
+     * Empty if the list is empty
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public final T[] ToArray(T[] arrayType)
+    {
+        // reuse the array when it is long enough, the slot
+        // after the last value marks the end
+        if (arrayType.length < this.size)
+        {
+            arrayType = (T[]) Array.newInstance(arrayType.getClass().componentType(), this.size);
+        }
+        else if (arrayType.length > this.size)
+        {
+            arrayType[this.size] = null;
+        }
+
+        Node<T> workingNode = this.headNode.nextNodes[0];
+
+        for (int i = 0; i < this.size; i++)
+        {
+            arrayType[i] = workingNode.value;
+            workingNode = workingNode.nextNodes[0];
+        }
+
+        return arrayType;
+    }
+
+
+    //--------------------------------------------------
+    // This block contains iterators over the list
+
+
+    /**
+     * Iterator walking the bottom level of the list. Any 
+     * structural change to the list makes the iterator 
+     * throw {@code ConcurrentModificationException}.
+     */
+    private final class NodeIterator implements Iterator<T>
+    {
+        /** {@code Node} returned by the next call to {@code next}. */
+        private Node<T> nextNode;
+
+        /** {@code modCount} of the list when the iterator was made. */
+        private final int expectedModCount;
+
+
+        /**
+         * Constructs an iterator before the first value.
+         */
+        NodeIterator()
+        {
+            this.nextNode = IndexableSkipList.this.headNode.nextNodes[0];
+            this.expectedModCount = IndexableSkipList.this.modCount;
+        }
+
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.nextNode != null;
+        }
+
+
+        @Override
+        public T next()
+        {
+            // error list changed under the iterator
+            if (IndexableSkipList.this.modCount != this.expectedModCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+
+
+            // error no value left
+            if (this.nextNode == null)
+            {
+                throw new NoSuchElementException();
+            }
+
+            final T value = this.nextNode.value;
+
+            this.nextNode = this.nextNode.nextNodes[0];
+
+            return value;
+        }
+    }
+
+
+    /**
+     * Returns an iterator over the values of the list, from 
+     * the first to the last.
+     * 
+     * @return {@code Iterator<T>} : Fail-fast iterator.
+     */
+    @Override
+    public final Iterator<T> iterator()
+    {
+        return new NodeIterator();
+    }
+
+
+    /**
+     * Returns a spliterator over the values of the list, 
+     * with an exact size.
+     * 
+     * @return {@code Spliterator<T>} : Fail-fast spliterator.
+     */
+    @Override
+    public final Spliterator<T> spliterator()
+    {
+        return Spliterators.spliterator(iterator(), this.size, Spliterator.ORDERED);
+    }
+
+
+    /**
+     * Returns a sequential stream over the values of the list.
+     * 
+     * @return {@code Stream<T>} : Stream of the values.
+     */
+    public final Stream<T> Stream()
+    {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+
+    /**
+     * Returns a parallel stream over the values of the list.
+     * 
+     * @return {@code Stream<T>} : Stream of the values.
+     */
+    public final Stream<T> ParallelStream()
+    {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+
+    //--------------------------------------------------
+    // This block contains swap method
+
+
+    /**
+     * Swaps two values.
+     * 
+     * @param index1 : Index of the first value.
+     * 
+     * @param index2 : Index of the second value.
+     * 
+     * @throws IndexOutOfBoundsException If the {@code index} 
+     * is not in the range from {@code 0} to {@code size - 1}.
+     */
+    public final void Swap(int index1, int index2)
+    {
+        // error index out of size range
+        if (index1 < 0 || this.size - 1 < index1)
+        {
+            throw new IndexOutOfBoundsException();
+        }
+        else if (index2 < 0 || this.size - 1 < index2)
+        {
+            throw new IndexOutOfBoundsException();
+        }
+
+
+        // swap the same value -> no swap
+        if (index1 == index2)
+        {
+            return;
+        }
+
+
+        // swap the value of the two node
+        Node<T> node1 = GetNodeAt(index1);
+        Node<T> node2 = GetNodeAt(index2);
+        T tmp;
+
+        tmp = node1.value;
+        node1.value = node2.value;
+        node2.value = tmp;
+    }
+
+
+    //--------------------------------------------------
+    // This block contains sorting methods. The values are
+    // gathered into one array, sorted there, and written
+    // back into the same nodes, so no span changes.
+
+
+    /**
+     * Sorts the list in a non-decreasing manner. The sort 
+     * is stable.
+     * 
+     * @throws ClassCastException If the values are not 
+     * {@code Comparable} to each other.
+     */
+    public final void Sort()
+    {
+        Sort(NATURAL_ORDER);
+    }
+
+
+    /**
+     * Sorts the list in the order of the given comparator. 
+     * The sort is stable.
+     * 
+     * @param comparator : Order to sort the values in.
+     * 
+     * @throws NullPointerException If the {@code comparator} 
+     * is {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    public final void Sort(Comparator<? super T> comparator)
+    {
+        // error no order
+        if (comparator == null)
+        {
+            throw new NullPointerException();
+        }
+
+
+        // no sorting when the list is empty or only has
+        // 1 value
+        if (this.size < 2)
+        {
+            return;
+        }
+
+
+        // gather, sort, then write back in order
+        final T[] values = (T[]) new Object[this.size];
+        Node<T> workingNode = this.headNode.nextNodes[0];
+
+        for (int i = 0; i < this.size; i++)
+        {
+            values[i] = workingNode.value;
+            workingNode = workingNode.nextNodes[0];
+        }
+
+        Arrays.sort(values, comparator);
+        workingNode = this.headNode.nextNodes[0];
+
+        for (int i = 0; i < this.size; i++)
+        {
+            workingNode.value = values[i];
+            workingNode = workingNode.nextNodes[0];
+        }
+
+        this.modCount++;
+    }
+
+
+    /**
+     * Sorts the list by an {@code int} key of the values, in 
+     * a non-decreasing manner. The keys are compared unboxed.
+     * 
+     * @param keyExtractor : Gets the key of a value.
+     * 
+     * @throws NullPointerException If the 
+     * {@code keyExtractor} is {@code null}.
+     */
+    public final void SortByInt(ToIntFunction<? super T> keyExtractor)
+    {
+        Sort(Comparator.comparingInt(keyExtractor));
+    }
+
+
+    /**
+     * Sorts the list by a {@code long} key of the values, in 
+     * a non-decreasing manner. The keys are compared unboxed.
+     * 
+     * @param keyExtractor : Gets the key of a value.
+     * 
+     * @throws NullPointerException If the 
+     * {@code keyExtractor} is {@code null}.
+     */
+    public final void SortByLong(ToLongFunction<? super T> keyExtractor)
+    {
+        Sort(Comparator.comparingLong(keyExtractor));
+    }
+}
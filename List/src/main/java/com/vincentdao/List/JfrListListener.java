@@ -0,0 +1,120 @@
+package com.vincentdao.List;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+
+/**
+ * <p>
+ * Listener turning the operations of a {@code List} into 
+ * Java Flight Recorder events, so they show up in a 
+ * recording next to the rest of the application, with the 
+ * stack trace of the calling site.
+ * </p>
+ * 
+ * <p>
+ * {@code com.vincentdao.List.Timed} is emitted for the timed 
+ * operations and is on by default. 
+ * {@code com.vincentdao.List.Seek} is emitted for every walk 
+ * to an index, and is off by default since there can be 
+ * millions per second; turn it on in the recording settings, 
+ * with a threshold on {@code hops} if needed. An event is 
+ * only filled and committed when it is on.
+ * </p>
+ * 
+ * @version 0.1
+ * 
+ * @author vincentdao
+ */
+public final class JfrListListener implements IListListener
+{
+    //--------------------------------------------------
+    // This block contains the events.
+
+
+    /** Event of a timed operation. */
+    @Name("com.vincentdao.List.Timed")
+    @Label("List Timed Operation")
+    @Category({"BeforeTheStorm", "List"})
+    @Description("Sort or array conversion of a List")
+    @StackTrace(true)
+    static final class TimedEvent extends Event
+    {
+        /** Name of the operation. */
+        @Label("Operation")
+        String operation;
+
+        /** Time the operation took. */
+        @Label("Elapsed")
+        @Timespan(Timespan.NANOSECONDS)
+        long elapsed;
+    }
+
+
+    /** Event of a walk to an index. */
+    @Name("com.vincentdao.List.Seek")
+    @Label("List Seek")
+    @Category({"BeforeTheStorm", "List"})
+    @Description("Walk of a List to an index")
+    @Enabled(false)
+    @StackTrace(true)
+    static final class SeekEvent extends Event
+    {
+        /** Index walked to. */
+        @Label("Index")
+        int index;
+
+        /** Number of nodes walked over. */
+        @Label("Hops")
+        int hops;
+    }
+
+
+    //--------------------------------------------------
+    // This block contains methods of the listener
+
+
+    /**
+     * Does nothing, the counts are better kept by 
+     * {@code ListMetrics}.
+     */
+    @Override
+    public final void OnOperation(Operation operation, int size)
+    {
+        // not an event
+    }
+
+
+    @Override
+    public final void OnSeek(int index, int hops)
+    {
+        final SeekEvent event = new SeekEvent();
+
+        if (event.isEnabled() == true)
+        {
+            event.index = index;
+            event.hops = hops;
+            event.commit();
+        }
+    }
+
+
+    @Override
+    public final void OnTimed(Operation operation, long elapsedNanos)
+    {
+        final TimedEvent event = new TimedEvent();
+
+        if (event.isEnabled() == true)
+        {
+            event.operation = operation.name();
+            event.elapsed = elapsedNanos;
+            event.commit();
+        }
+    }
+}
@@ -9,8 +9,38 @@ package com.vincentdao.List;
  * 
  * @author vincentdao
  */
-public final class LinkedList<T extends Comparable<T>> extends List<T> implements IStack<T>, IQueue<T>
+public final class LinkedList<T> extends List<T> implements IStack<T>, IQueue<T>
 {
+    //--------------------------------------------------
+    // This block contains constructors for the list.
+
+
+    /**
+     * Constructs an empty list, without pooling.
+     */
+    public LinkedList()
+    {
+        super();
+    }
+
+
+    /**
+     * Constructs an empty list that reuses up to 
+     * {@code poolCapacity} removed {@code Node}s. See 
+     * {@code List(int)}.
+     * 
+     * @param poolCapacity : Largest number of {@code Node}s 
+     * to keep. {@code 0} turns pooling off.
+     * 
+     * @throws IllegalArgumentException If the 
+     * {@code poolCapacity} is negative.
+     */
+    public LinkedList(int poolCapacity)
+    {
+        super(poolCapacity);
+    }
+
+
     //--------------------------------------------------
     // This block contains methods for Stack ADT
 
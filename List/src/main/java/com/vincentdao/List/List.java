@@ -1,7 +1,30 @@
 package com.vincentdao.List;
 
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
 import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.vincentdao.List.IListListener.Operation;
 
 
 /**
@@ -19,7 +42,7 @@ import java.util.NoSuchElementException;
  * 
  * @author vincentdao
  */
-public abstract class List<T extends Comparable<T>>
+public abstract class List<T> implements Iterable<T>
 {
     //--------------------------------------------------
     // This block contains the class for node.
@@ -51,25 +74,6 @@ public abstract class List<T extends Comparable<T>>
             this.prevNode = null;
             this.nextNode = null;
         }
-
-
-        /**
-         * Compare method for the {@code Node}. Same 
-         * usage as the {@code compareTo} method.
-         * 
-         * @param nodeToCompare : {@code Node} to be 
-         * compared with.
-         * 
-         * @return {@code int} : a negative number, 0 or 
-         * positive number depends on whether the value of 
-         * the first {@code Node} is lesser, equaled or 
-         * larger than the value of the second {@code Node}, 
-         * respectively.
-         */
-        int CompareTo(Node nodeToCompare)
-        {
-            return this.value.compareTo(nodeToCompare.value);
-        }
     }
 
 
@@ -77,6 +81,44 @@ public abstract class List<T extends Comparable<T>>
     // This block contains fields of the list.
 
     
+    /**
+     * Natural order of the values. The values have to be 
+     * {@code Comparable} to each other, or the sort fails 
+     * with {@code ClassCastException}, leaving the values in 
+     * an unspecified order.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final Comparator<Object> NATURAL_ORDER =
+        (leftValue, rightValue) -> ((Comparable) leftValue).compareTo(rightValue);
+
+    /** First bytes of a list written by {@code WriteTo}. */
+    private static final int FORMAT_MAGIC = 0x4C495354;
+
+    /** Version of the format written by {@code WriteTo}. */
+    private static final short FORMAT_VERSION = 1;
+
+    /** Bytes of the header: magic, version, width and count. */
+    private static final int HEADER_SIZE = Integer.BYTES + Short.BYTES + Integer.BYTES + Integer.BYTES;
+
+    /** Capacity of the buffer used by {@code WriteTo} and {@code ReadFrom}. */
+    private static final int IO_BUFFER_CAPACITY = 1 << 16;
+
+    /**
+     * Largest record of a variable-width codec, 64 MiB. 
+     * {@code ReadFrom} rejects longer records, so a corrupted 
+     * length cannot make it allocate without bound.
+     */
+    public static final int MAXIMUM_RECORD_SIZE = 1 << 26;
+
+    /**
+     * Direct buffer of every thread, reused by 
+     * {@code WriteTo} and {@code ReadFrom}. A record that 
+     * does not fit gets a larger buffer for the rest of the 
+     * call only, so the kept buffer stays small.
+     */
+    private static final ThreadLocal<ByteBuffer> IO_BUFFER =
+        ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(IO_BUFFER_CAPACITY));
+
     /** Head pointer of the list. */
     private Node headNode;
 
@@ -86,19 +128,83 @@ public abstract class List<T extends Comparable<T>>
     /** Size of the list. */
     private int size;
 
+    /** Last {@code Node} resolved by an index lookup. */
+    private Node fingerNode;
+
+    /** Index of the {@code fingerNode}. */
+    private int fingerIndex;
+
+    /** Number of structural changes, checked by the iterators. */
+    private int modCount;
+
+    /**
+     * Largest number of removed {@code Node}s kept for reuse. 
+     * {@code 0} when pooling is off.
+     */
+    private final int poolCapacity;
+
+    /** First {@code Node} of the free-list, chained by {@code nextNode}. */
+    private Node poolNode;
+
+    /** Number of {@code Node}s in the free-list. */
+    private int poolSize;
+
+    /** Number of {@code Node}s taken from the free-list. */
+    private long poolHits;
+
+    /** Number of {@code Node}s allocated while pooling is on. */
+    private long poolMisses;
+
+    /** Listener of the operations. {@code null} when there is none. */
+    private IListListener listener;
+
 
     //--------------------------------------------------
     // This block contains constructors for the list.
 
 
     /**
-     * Constructs an empty list.
+     * Constructs an empty list, without pooling.
      */
     public List()
     {
+        this(0);
+    }
+
+
+    /**
+     * Constructs an empty list that keeps up to 
+     * {@code poolCapacity} removed {@code Node}s in a 
+     * free-list, and reuses them when adding. A queue whose 
+     * size stays under the capacity then adds and removes 
+     * without allocating.
+     * 
+     * @param poolCapacity : Largest number of {@code Node}s 
+     * to keep. {@code 0} turns pooling off.
+     * 
+     * @throws IllegalArgumentException If the 
+     * {@code poolCapacity} is negative.
+     */
+    public List(int poolCapacity)
+    {
+        // error negative capacity
+        if (poolCapacity < 0)
+        {
+            throw new IllegalArgumentException();
+        }
+
         this.headNode = null;
         this.tailNode = null;
         this.size = 0;
+        this.fingerNode = null;
+        this.fingerIndex = 0;
+        this.modCount = 0;
+        this.poolCapacity = poolCapacity;
+        this.poolNode = null;
+        this.poolSize = 0;
+        this.poolHits = 0;
+        this.poolMisses = 0;
+        this.listener = null;
     }
 
 
@@ -133,17 +239,52 @@ public abstract class List<T extends Comparable<T>>
 
 
     /**
-     * Gets the {@code Node} at given index.
+     * Gets the {@code Node} at given index. The walk starts 
+     * from whichever of the head, the tail or the last 
+     * resolved {@code Node} (the finger) is the closest to 
+     * the index, so nearby lookups are cheap. The finger is 
+     * then moved to the resolved {@code Node}.
      * 
      * @param index - {@code int}: Index of the node.
      * 
      * @return {@code Node} : Node at given index
+     * 
+     * @throws NullPointerException If there is {@code null} 
+     * node in the list.
      */
     private final Node GetNodeAt(int index)
     {
+        // start from the head
         Node workingNode = this.headNode;
+        int workingIndex = 0;
+
 
-        for (int i = 0; i < index; i++)
+        // start from the tail if it is closer
+        if (this.size - 1 - index < index)
+        {
+            workingNode = this.tailNode;
+            workingIndex = this.size - 1;
+        }
+
+
+        // start from the finger if it is even closer
+        if (this.fingerNode != null
+            && Math.abs(index - this.fingerIndex) < Math.abs(index - workingIndex))
+        {
+            workingNode = this.fingerNode;
+            workingIndex = this.fingerIndex;
+        }
+
+
+        // the walk is one hop per index
+        if (this.listener != null)
+        {
+            this.listener.OnSeek(index, Math.abs(index - workingIndex));
+        }
+
+
+        // walk forward to the index
+        while (workingIndex < index)
         {
             // error null node in list
             if (workingNode == null)
@@ -152,12 +293,146 @@ public abstract class List<T extends Comparable<T>>
             }
 
             workingNode = workingNode.nextNode;
+            workingIndex++;
+        }
+
+
+        // walk backward to the index
+        while (workingIndex > index)
+        {
+            // error null node in list
+            if (workingNode == null)
+            {
+                throw new NullPointerException();
+            }
+
+            workingNode = workingNode.prevNode;
+            workingIndex--;
         }
 
+        this.fingerNode = workingNode;
+        this.fingerIndex = index;
+
         return workingNode;
     }
 
 
+    /**
+     * Gets a {@code Node} holding the value, from the 
+     * free-list if it has one.
+     * 
+     * @param value : Value of the node.
+     * 
+     * @return {@code Node} : Unlinked {@code Node}.
+     */
+    private final Node NewNode(T value)
+    {
+        final Node reusedNode = this.poolNode;
+
+
+        // allocate when the free-list is empty
+        if (reusedNode == null)
+        {
+            if (this.poolCapacity > 0)
+            {
+                this.poolMisses++;
+            }
+
+            return new Node(value);
+        }
+
+        this.poolNode = reusedNode.nextNode;
+        this.poolSize--;
+        this.poolHits++;
+        reusedNode.value = value;
+        reusedNode.nextNode = null;
+
+        return reusedNode;
+    }
+
+
+    /**
+     * Clears a removed {@code Node}, so it holds no value 
+     * or link, and keeps it in the free-list if there is 
+     * room.
+     * 
+     * @param deleteNode : {@code Node} already unlinked 
+     * from the list.
+     */
+    private final void RecycleNode(Node deleteNode)
+    {
+        deleteNode.value = null;
+        deleteNode.prevNode = null;
+        deleteNode.nextNode = null;
+
+        if (this.poolSize < this.poolCapacity)
+        {
+            deleteNode.nextNode = this.poolNode;
+            this.poolNode = deleteNode;
+            this.poolSize++;
+        }
+    }
+
+
+    /**
+     * Reports an operation to the listener, if there is one.
+     * 
+     * @param operation : Operation that ran.
+     */
+    private final void Notify(Operation operation)
+    {
+        if (this.listener != null)
+        {
+            this.listener.OnOperation(operation, this.size);
+        }
+    }
+
+
+    /**
+     * Reads the clock for a timed operation, only if there 
+     * is a listener.
+     * 
+     * @return {@code long} : Start time in nanoseconds. 
+     * {@code 0} if there is no listener.
+     */
+    private final long StartTimer()
+    {
+        return this.listener == null ? 0 : System.nanoTime();
+    }
+
+
+    /**
+     * Reports a timed operation to the listener, if there 
+     * is one.
+     * 
+     * @param operation : Operation that ran.
+     * 
+     * @param startTime : Time returned by {@code StartTimer}.
+     */
+    private final void NotifyTimed(Operation operation, long startTime)
+    {
+        if (this.listener != null)
+        {
+            this.listener.OnTimed(operation, System.nanoTime() - startTime);
+            this.listener.OnOperation(operation, this.size);
+        }
+    }
+
+
+    /**
+     * Sets the listener receiving the operations of the 
+     * list, for metrics or tracing. See {@code ListMetrics} 
+     * and {@code JfrListListener}.
+     * 
+     * @param listener : Listener of the operations. 
+     * {@code null} to stop reporting.
+     */
+    public final void SetListener(IListListener listener)
+    {
+        this.listener = listener;
+    }
+
+
     //--------------------------------------------------
     // This block contains clear method to destroy the list
 
@@ -170,6 +445,9 @@ public abstract class List<T extends Comparable<T>>
         this.headNode = null;
         this.tailNode = null;
         this.size = 0;
+        this.fingerNode = null;
+        this.modCount++;
+        Notify(Operation.CLEAR);
     }
    
 
@@ -178,59 +456,63 @@ public abstract class List<T extends Comparable<T>>
 
 
     /**
-     * Removes the first value of the list and returns 
-     * itself.
+     * Unlinks the given {@code Node} from the list, using its 
+     * {@code prevNode} and {@code nextNode} pointers. Moves the 
+     * head or tail pointer when the {@code Node} is at either 
+     * end of the list.
      * 
-     * @return {@code T} : First value of the list.
+     * @param deleteNode : {@code Node} to remove.
      * 
-     * @throws NoSuchElementException If the list is empty.
+     * @return {@code T} : Value of the removed {@code Node}.
      */
-    public final T RemoveFirst()
+    private final T UnlinkNode(Node deleteNode)
     {
-        // error empty list
-        if (IsEmpty() == true)
+        // relink the previous node, or move the head
+        if (deleteNode.prevNode == null)
         {
-            throw new NoSuchElementException();
+            this.headNode = deleteNode.nextNode;
+        }
+        else
+        {
+            deleteNode.prevNode.nextNode = deleteNode.nextNode;
         }
-        
-
-        final Node workingNode = this.headNode;
 
 
-        // remove list with only one node
-        if (HasOnlyOneElement() == true)
+        // relink the next node, or move the tail
+        if (deleteNode.nextNode == null)
+        {
+            this.tailNode = deleteNode.prevNode;
+        }
+        else
         {
-            this.headNode = null;
-            this.tailNode = null;
-            this.size--;
+            deleteNode.nextNode.prevNode = deleteNode.prevNode;
+        }
 
-            return workingNode.value;
+        // the finger cannot point to a removed node
+        if (deleteNode == this.fingerNode)
+        {
+            this.fingerNode = null;
         }
 
+        final T value = deleteNode.value;
 
-        // remove head from list
-        workingNode.nextNode.prevNode = null;
-        this.headNode = workingNode.nextNode;
+        RecycleNode(deleteNode);
         this.size--;
+        this.modCount++;
 
-        return workingNode.value;
+        return value;
     }
 
 
     /**
-     * Removes the last value of the list and returns 
-     * itself
-     * 
-     * @return {@code T} : Last value of the list.
+     * Removes the first value of the list and returns 
+     * itself.
      * 
-     * @throws NoSuchElementException If the list is empty, 
-     * or if it cannot find the {@code Node} before the 
-     * tail {@code Node}.
+     * @return {@code T} : First value of the list.
      * 
-     * @throws NullPointerException If there is {@code null} 
-     * {@code Node} in the list.
+     * @throws NoSuchElementException If the list is empty.
      */
-    public final T RemoveLast()
+    public final T RemoveFirst()
     {
         // error empty list
         if (IsEmpty() == true)
@@ -238,48 +520,42 @@ public abstract class List<T extends Comparable<T>>
             throw new NoSuchElementException();
         }
 
-
-        Node workingNode = this.headNode;
-        final Node deleteNode = this.tailNode;
+        final T value = UnlinkNode(this.headNode);
 
 
-        // delete only single node in list
-        if (HasOnlyOneElement() == true)
+        // every remaining node moved one index down
+        if (this.fingerNode != null)
         {
-            this.headNode = null;
-            this.tailNode = null;
-            this.size--;
-
-            return deleteNode.value;
+            this.fingerIndex--;
         }
 
+        Notify(Operation.REMOVE_FIRST);
 
-        // find the node before the tail
-        for (int i = 0; i < this.size; i++)
-        {
-            // error null node in list
-            if (workingNode == null)
-            {
-                throw new NullPointerException();
-            }
-
-
-            // remove tail from list
-            if (workingNode == deleteNode)
-            {
-                this.tailNode = workingNode.prevNode;
-                workingNode.prevNode.nextNode = null;
-                this.size--;
+        return value;
+    }
 
-                return deleteNode.value;
-            }
 
-            workingNode = workingNode.nextNode;
+    /**
+     * Removes the last value of the list and returns 
+     * itself.
+     * 
+     * @return {@code T} : Last value of the list.
+     * 
+     * @throws NoSuchElementException If the list is empty.
+     */
+    public final T RemoveLast()
+    {
+        // error empty list
+        if (IsEmpty() == true)
+        {
+            throw new NoSuchElementException();
         }
 
+        final T value = UnlinkNode(this.tailNode);
+
+        Notify(Operation.REMOVE_LAST);
 
-        // error cannot find the node before tail
-        throw new NoSuchElementException();
+        return value;
     }
 
 
@@ -312,96 +588,247 @@ public abstract class List<T extends Comparable<T>>
         {
             throw new NoSuchElementException();
         }
-        
 
-        Node workingNode = this.headNode;
+        final Node deleteNode = GetNodeAt(index);
+        final Node nextNode = deleteNode.nextNode;
+        final T value = UnlinkNode(deleteNode);
 
 
-        // search for the node at given index
-        for (int i = 0; i < index; i++)
+        // keep the finger at the same index for the next lookup
+        if (nextNode != null)
         {
-            // error null node in list
-            if (workingNode == null)
-            {
-                throw new NullPointerException();
-            }
-
-            workingNode = workingNode.nextNode;
+            this.fingerNode = nextNode;
+            this.fingerIndex = index;
         }
 
+        Notify(Operation.REMOVE_AT);
 
-        // remove the node
-        workingNode.prevNode.nextNode = workingNode.nextNode;
-        this.size--;
-
-        return workingNode.value;
+        return value;
     }
 
 
-    //--------------------------------------------------
-    // This block contains adding methods
-
-
     /**
-     * Adds the value to the beginning of the list.
+     * Removes the values from index {@code fromIndex}, 
+     * included, to index {@code toIndex}, excluded. The 
+     * first value is found with a single seek, and the 
+     * whole segment is then unlinked at once, so this is 
+     * O(k) for k removed values past the seek.
      * 
-     * @param value : Value to add.
+     * @param fromIndex : Index of the first value to remove.
+     * 
+     * @param toIndex : Index after the last value to remove.
+     * 
+     * @throws IndexOutOfBoundsException If {@code fromIndex} 
+     * is negative, {@code toIndex} is greater than 
+     * {@code size}, or {@code fromIndex} is greater than 
+     * {@code toIndex}.
      */
-    public final void AddFirst(T value)
+    public final void RemoveRange(int fromIndex, int toIndex)
     {
-        Node addingNode = new Node(value);
+        // error range not in size range
+        if (fromIndex < 0 || this.size < toIndex || toIndex < fromIndex)
+        {
+            throw new IndexOutOfBoundsException();
+        }
 
 
-        // add node to empty list
-        if (IsEmpty() == true)
+        // nothing to remove
+        if (fromIndex == toIndex)
         {
-            this.headNode = addingNode;
-            this.tailNode = addingNode;
-            this.size++;
-
+            Notify(Operation.REMOVE_RANGE);
             return;
         }
-        
 
-        // add node to the head of the list
-        addingNode.nextNode = headNode;
-        this.headNode = addingNode;
-        this.size++;
-    }
 
+        // find both ends of the segment
+        final Node firstNode = GetNodeAt(fromIndex);
+        Node lastNode = firstNode;
 
-    /**
-     * Adds the value to the end of the list.
-     * 
-     * @param value : Value to add.
-     */
-    public final void AddLast(T value)
-    {
-        Node addingNode = new Node(value);
+        for (int i = fromIndex + 1; i < toIndex; i++)
+        {
+            lastNode = lastNode.nextNode;
+        }
 
+        final Node prevNode = firstNode.prevNode;
+        final Node nextNode = lastNode.nextNode;
 
-        // add node to empty list
-        if (IsEmpty() == true)
+
+        // relink the previous node, or move the head
+        if (prevNode == null)
         {
-            this.headNode = addingNode;
-            this.tailNode = addingNode;
-            this.size++;
+            this.headNode = nextNode;
+        }
+        else
+        {
+            prevNode.nextNode = nextNode;
+        }
 
-            return;
+
+        // relink the next node, or move the tail
+        if (nextNode == null)
+        {
+            this.tailNode = prevNode;
+        }
+        else
+        {
+            nextNode.prevNode = prevNode;
         }
 
+        // recycle the nodes while the free-list has room,
+        // otherwise just detach the segment
+        if (this.poolSize < this.poolCapacity)
+        {
+            Node workingNode = firstNode;
 
-        // add node to the tail of the list
-        addingNode.prevNode = this.tailNode;
-        addingNode.prevNode.nextNode = addingNode;
-        this.tailNode = addingNode;
-        this.size++;
-    }
+            lastNode.nextNode = null;
 
+            while (workingNode != null && this.poolSize < this.poolCapacity)
+            {
+                final Node deleteNode = workingNode;
 
-    /**
-     * Adds the value to the given index.
-     * 
+                workingNode = workingNode.nextNode;
+                RecycleNode(deleteNode);
+            }
+        }
+        else
+        {
+            firstNode.prevNode = null;
+            lastNode.nextNode = null;
+        }
+
+        this.size -= toIndex - fromIndex;
+        this.modCount++;
+
+
+        // keep the finger at the same index for the next lookup
+        this.fingerNode = nextNode;
+        this.fingerIndex = fromIndex;
+        Notify(Operation.REMOVE_RANGE);
+    }
+
+
+    //--------------------------------------------------
+    // This block contains adding methods
+
+
+    /**
+     * Links the {@code Node} right before another 
+     * {@code Node} of the list, or at the end of the list.
+     * 
+     * @param addingNode : {@code Node} to add.
+     * 
+     * @param nextNode : {@code Node} that will follow the 
+     * added {@code Node}. {@code null} to add at the end.
+     */
+    private final void LinkBefore(Node addingNode, Node nextNode)
+    {
+        addingNode.nextNode = nextNode;
+        addingNode.prevNode = nextNode == null ? this.tailNode : nextNode.prevNode;
+
+
+        // relink the previous node, or move the head
+        if (addingNode.prevNode == null)
+        {
+            this.headNode = addingNode;
+        }
+        else
+        {
+            addingNode.prevNode.nextNode = addingNode;
+        }
+
+
+        // relink the next node, or move the tail
+        if (nextNode == null)
+        {
+            this.tailNode = addingNode;
+        }
+        else
+        {
+            nextNode.prevNode = addingNode;
+        }
+
+        this.size++;
+        this.modCount++;
+    }
+
+
+    /**
+     * Adds the value to the beginning of the list.
+     * 
+     * @param value : Value to add.
+     */
+    public final void AddFirst(T value)
+    {
+        Node addingNode = NewNode(value);
+
+        this.modCount++;
+
+
+        // add node to empty list
+        if (IsEmpty() == true)
+        {
+            this.headNode = addingNode;
+            this.tailNode = addingNode;
+            this.size++;
+            Notify(Operation.ADD_FIRST);
+
+            return;
+        }
+        
+
+        // add node to the head of the list
+        addingNode.nextNode = this.headNode;
+        this.headNode.prevNode = addingNode;
+        this.headNode = addingNode;
+        this.size++;
+
+
+        // every other node moved one index up
+        if (this.fingerNode != null)
+        {
+            this.fingerIndex++;
+        }
+
+        Notify(Operation.ADD_FIRST);
+    }
+
+
+    /**
+     * Adds the value to the end of the list.
+     * 
+     * @param value : Value to add.
+     */
+    public final void AddLast(T value)
+    {
+        Node addingNode = NewNode(value);
+
+        this.modCount++;
+
+
+        // add node to empty list
+        if (IsEmpty() == true)
+        {
+            this.headNode = addingNode;
+            this.tailNode = addingNode;
+            this.size++;
+            Notify(Operation.ADD_LAST);
+
+            return;
+        }
+
+
+        // add node to the tail of the list
+        addingNode.prevNode = this.tailNode;
+        addingNode.prevNode.nextNode = addingNode;
+        this.tailNode = addingNode;
+        this.size++;
+        Notify(Operation.ADD_LAST);
+    }
+
+
+    /**
+     * Adds the value to the given index.
+     * 
      * @param value : Value to add.
      * 
      * @param index : Index to add to.
@@ -440,27 +867,192 @@ public abstract class List<T extends Comparable<T>>
         }
 
 
-        Node workingNode = this.headNode;
+        // get the node currently at the index
+        final Node workingNode = GetNodeAt(index);
+        Node addingNode = NewNode(value);
+
+        LinkBefore(addingNode, workingNode);
 
 
-        // get the node before the index
-        for (int i = 0; i < index - 1; i++)
+        // the new node now sits at the index
+        this.fingerNode = addingNode;
+        this.fingerIndex = index;
+        Notify(Operation.ADD_AT);
+    }
+
+
+    /**
+     * Links a chain of {@code Node}s at the end of the list.
+     * 
+     * @param chainHead : First {@code Node} of the chain.
+     * 
+     * @param chainTail : Last {@code Node} of the chain.
+     * 
+     * @param chainSize : Number of {@code Node}s in the chain.
+     */
+    private final void LinkChainLast(Node chainHead, Node chainTail, int chainSize)
+    {
+        // the chain becomes the list
+        if (IsEmpty() == true)
         {
-            // error null node in list
-            if (workingNode == null)
-            {
-                throw new NullPointerException();
-            }
+            this.headNode = chainHead;
+        }
+        else
+        {
+            chainHead.prevNode = this.tailNode;
+            this.tailNode.nextNode = chainHead;
+        }
 
-            workingNode = workingNode.nextNode;
+        this.tailNode = chainTail;
+        this.size += chainSize;
+        this.modCount++;
+    }
+
+
+    /**
+     * Adds every value of the array to the end of the list, 
+     * in order. The {@code Node}s are chained first and then 
+     * linked to the list at once.
+     * 
+     * @param values : Values to add.
+     * 
+     * @throws NullPointerException If the {@code values} 
+     * is {@code null}.
+     */
+    public final void AddAll(T[] values)
+    {
+        AddAll(values, 0, values.length);
+    }
+
+
+    /**
+     * Adds part of the array to the end of the list, in 
+     * order. The {@code Node}s are chained first and then 
+     * linked to the list at once.
+     * 
+     * @param values : Array holding the values to add.
+     * 
+     * @param offset : Index of the first value to add.
+     * 
+     * @param length : Number of values to add.
+     * 
+     * @throws IndexOutOfBoundsException If the part is not 
+     * inside the array.
+     * 
+     * @throws NullPointerException If the {@code values} 
+     * is {@code null}.
+     */
+    public final void AddAll(T[] values, int offset, int length)
+    {
+        // error part not inside the array
+        if (offset < 0 || length < 0 || values.length - length < offset)
+        {
+            throw new IndexOutOfBoundsException();
         }
 
-        Node addingNode = new Node(value);
 
-        addingNode.nextNode = workingNode.nextNode;
-        workingNode.nextNode = addingNode;
-        addingNode.prevNode = workingNode;
-        this.size++;
+        // nothing to add
+        if (length == 0)
+        {
+            Notify(Operation.ADD_ALL);
+            return;
+        }
+
+
+        // chain the nodes
+        final Node chainHead = NewNode(values[offset]);
+        Node chainTail = chainHead;
+
+        for (int i = offset + 1; i < offset + length; i++)
+        {
+            final Node addingNode = NewNode(values[i]);
+
+            addingNode.prevNode = chainTail;
+            chainTail.nextNode = addingNode;
+            chainTail = addingNode;
+        }
+
+        LinkChainLast(chainHead, chainTail, length);
+        Notify(Operation.ADD_ALL);
+    }
+
+
+    /**
+     * Adds every value of the iterable to the end of the 
+     * list, in order. The {@code Node}s are chained first and 
+     * then linked to the list at once, so a list can add its 
+     * own values.
+     * 
+     * @param values : Values to add.
+     * 
+     * @throws NullPointerException If the {@code values} 
+     * is {@code null}.
+     */
+    public final void AddAll(Iterable<? extends T> values)
+    {
+        final Iterator<? extends T> iterator = values.iterator();
+
+
+        // nothing to add
+        if (iterator.hasNext() == false)
+        {
+            Notify(Operation.ADD_ALL);
+            return;
+        }
+
+
+        // chain the nodes
+        final Node chainHead = NewNode(iterator.next());
+        Node chainTail = chainHead;
+        int chainSize = 1;
+
+        while (iterator.hasNext() == true)
+        {
+            final Node addingNode = NewNode(iterator.next());
+
+            addingNode.prevNode = chainTail;
+            chainTail.nextNode = addingNode;
+            chainTail = addingNode;
+            chainSize++;
+        }
+
+        LinkChainLast(chainHead, chainTail, chainSize);
+        Notify(Operation.ADD_ALL);
+    }
+
+
+    /**
+     * Moves every value of the other list to the end of this 
+     * list, in O(1). The {@code Node}s of the other list are 
+     * linked as they are, and the other list is left empty.
+     * 
+     * @param otherList : List to take the values from.
+     * 
+     * @throws IllegalArgumentException If the 
+     * {@code otherList} is this list.
+     * 
+     * @throws NullPointerException If the {@code otherList} 
+     * is {@code null}.
+     */
+    public final void Splice(List<T> otherList)
+    {
+        // error splicing into itself
+        if (otherList == this)
+        {
+            throw new IllegalArgumentException();
+        }
+
+
+        // nothing to move
+        if (otherList.IsEmpty() == true)
+        {
+            Notify(Operation.SPLICE);
+            return;
+        }
+
+        LinkChainLast(otherList.headNode, otherList.tailNode, otherList.size);
+        otherList.Clear();
+        Notify(Operation.SPLICE);
     }
 
 
@@ -534,22 +1126,35 @@ public abstract class List<T extends Comparable<T>>
             throw new NoSuchElementException();
         }
 
-        
-        Node workingNode = this.headNode;
+        final T value = GetNodeAt(index).value;
 
+        Notify(Operation.GET_AT);
 
-        // get the node at index
-        for (int i = 0; i < index; i++)
-        {
-            if (workingNode == null)
-            {
-                throw new NullPointerException();
-            }
+        return value;
+    }
 
-            workingNode = workingNode.nextNode;
-        }
 
-        return workingNode.value;
+    /**
+     * Returns how many added {@code Node}s were taken from 
+     * the free-list.
+     * 
+     * @return {@code long} : Number of pool hits.
+     */
+    public final long GetPoolHits()
+    {
+        return this.poolHits;
+    }
+
+
+    /**
+     * Returns how many added {@code Node}s had to be 
+     * allocated while pooling is on.
+     * 
+     * @return {@code long} : Number of pool misses.
+     */
+    public final long GetPoolMisses()
+    {
+        return this.poolMisses;
     }
 
 
@@ -559,11 +1164,34 @@ public abstract class List<T extends Comparable<T>>
 
 
     /**
-     * Converts the list into array.
+     * Copies the values into the array from the given 
+     * offset, walking the chain once.
+     * 
+     * @param destination : Array to copy into.
+     * 
+     * @param offset : Index of the array to copy the first 
+     * value to.
+     */
+    private final void CopyNodes(T[] destination, int offset)
+    {
+        int i = offset;
+
+        for (Node workingNode = this.headNode; workingNode != null; workingNode = workingNode.nextNode)
+        {
+            destination[i++] = workingNode.value;
+        }
+    }
+
+
+    /**
+     * Converts the list into array. The values are copied 
+     * into {@code arrayType} when it is long enough, and the 
+     * slot after the last value is set to {@code null}. 
+     * Otherwise a new array of the same type is made.
      * 
-     * @param arrayType : Type of array to sort (must be the 
-     * same type as defined). This parameter accepts an 
-     * instance of previously-defined-type array.
+     * @param arrayType : Array to fill when it is long 
+     * enough, otherwise an instance of 
+     * previously-defined-type array to make one from.
      * 
      * <p>
      * Example: if the {@code list} holds Integer, 
@@ -572,55 +1200,931 @@ public abstract class List<T extends Comparable<T>>
      * </p>
      * 
      * @return {@code T[]} : Representation of the list as array. 
-     * {@code null} if the list is empty
-     * 
-     * @throws NullPointerException If there is {@code null} 
-     * node in the list.
+     * Empty if the list is empty
      */
     @SuppressWarnings("unchecked")
     public final T[] ToArray(T[] arrayType)
     {
-        // return null if empty list
-        if (IsEmpty() == true)
-        {
-            return null;
-        }
-
-
-        arrayType = (T[]) Array.newInstance(arrayType.getClass().componentType(), this.size);
-        Node workingNode = this.headNode;
+        final long startTime = StartTimer();
 
 
-        // copy from list to array
-        for (int i = 0; i < this.size; i++)
+        // reuse the array when it is long enough, the slot
+        // after the last value marks the end
+        if (arrayType.length < this.size)
         {
-            // error null node in list
-            if (workingNode == null)
-            {
-                throw new NullPointerException();
-            }
-
-            arrayType[i] = workingNode.value;
-            workingNode = workingNode.nextNode;
+            arrayType = (T[]) Array.newInstance(arrayType.getClass().componentType(), this.size);
+        }
+        else if (arrayType.length > this.size)
+        {
+            arrayType[this.size] = null;
         }
 
+        CopyNodes(arrayType, 0);
+        NotifyTimed(Operation.TO_ARRAY, startTime);
+
         return arrayType;
     }
 
 
-    //--------------------------------------------------
-    // This block contains swap method
-
-
     /**
-     * Swaps two values.
+     * Converts the list into an array made by the given 
+     * factory, without reflection.
      * 
-     * @param index1 : Index of the first node.
+     * <p>
+     * Example: if the {@code list} holds Integer, 
+     * then 
+     * {@code Integer[] array = list.ToArray(Integer[]::new)}
+     * </p>
      * 
-     * @param index2 : Index of the second node.
+     * @param generator : Makes an array of the given length.
      * 
-     * @throws IndexOutOfBoundsException If the {@code index} 
-     * is not in the range from {@code 0} to {@code size - 1}.
+     * @return {@code T[]} : Representation of the list as array. 
+     * Empty if the list is empty
+     * 
+     * @throws IllegalArgumentException If the 
+     * {@code generator} makes an array shorter than the 
+     * list.
+     */
+    public final T[] ToArray(IntFunction<T[]> generator)
+    {
+        final long startTime = StartTimer();
+        final T[] array = generator.apply(this.size);
+
+
+        // error array too short
+        if (array.length < this.size)
+        {
+            throw new IllegalArgumentException();
+        }
+
+        CopyNodes(array, 0);
+        NotifyTimed(Operation.TO_ARRAY, startTime);
+
+        return array;
+    }
+
+
+    /**
+     * Copies the values into the array, from the given 
+     * offset on. The rest of the array is left untouched.
+     * 
+     * @param destination : Array to copy into.
+     * 
+     * @param offset : Index of the array to copy the first 
+     * value to.
+     * 
+     * @throws IndexOutOfBoundsException If the 
+     * {@code offset} is negative, or the list does not fit 
+     * in the array from the {@code offset} on.
+     */
+    public final void CopyTo(T[] destination, int offset)
+    {
+        // error list not fitting in the array
+        if (offset < 0 || destination.length - offset < this.size)
+        {
+            throw new IndexOutOfBoundsException();
+        }
+
+
+        final long startTime = StartTimer();
+
+        CopyNodes(destination, offset);
+        NotifyTimed(Operation.TO_ARRAY, startTime);
+    }
+
+
+    /**
+     * Exports the list in chunks through a single buffer, so 
+     * a very large list is never copied into one array. The 
+     * buffer is filled from index {@code 0} and handed to the 
+     * {@code consumer} with the number of values in it, every 
+     * time it is full and once more for the last values.
+     * 
+     * <p>
+     * The buffer is reused for the next chunk right after 
+     * the {@code consumer} returns, so the {@code consumer} 
+     * must not keep it.
+     * </p>
+     * 
+     * @param buffer : Array to fill a chunk into.
+     * 
+     * @param consumer : Takes the buffer and the number of 
+     * values in it.
+     * 
+     * @throws IllegalArgumentException If the {@code buffer} 
+     * is empty.
+     */
+    public final void ExportChunks(T[] buffer, ObjIntConsumer<T[]> consumer)
+    {
+        // error empty buffer
+        if (buffer.length == 0)
+        {
+            throw new IllegalArgumentException();
+        }
+
+
+        final long startTime = StartTimer();
+        int count = 0;
+
+        for (Node workingNode = this.headNode; workingNode != null; workingNode = workingNode.nextNode)
+        {
+            buffer[count++] = workingNode.value;
+
+            if (count == buffer.length)
+            {
+                consumer.accept(buffer, count);
+                count = 0;
+            }
+        }
+
+
+        // last values that did not fill the buffer
+        if (count > 0)
+        {
+            consumer.accept(buffer, count);
+        }
+
+        NotifyTimed(Operation.TO_ARRAY, startTime);
+    }
+
+
+    //--------------------------------------------------
+    // This block contains methods to write the list to a 
+    // channel and read it back
+
+
+    /**
+     * Writes the filled part of the buffer to the channel, 
+     * and clears the buffer.
+     * 
+     * @param channel : Channel to write to.
+     * 
+     * @param buffer : Buffer being filled.
+     * 
+     * @throws IOException If the channel fails to write.
+     */
+    private static void Flush(WritableByteChannel channel, ByteBuffer buffer) throws IOException
+    {
+        buffer.flip();
+
+        while (buffer.hasRemaining() == true)
+        {
+            channel.write(buffer);
+        }
+
+        buffer.clear();
+    }
+
+
+    /**
+     * Makes room in the buffer for a record, flushing it 
+     * when it is too full, and replacing it with a larger 
+     * one, not kept after the call, when the record is 
+     * larger than the buffer.
+     * 
+     * @param channel : Channel to write to.
+     * 
+     * @param buffer : Buffer being filled.
+     * 
+     * @param recordSize : Bytes of the record.
+     * 
+     * @return {@code ByteBuffer} : Buffer with room for the 
+     * record.
+     * 
+     * @throws IOException If the channel fails to write.
+     */
+    private static ByteBuffer Reserve(WritableByteChannel channel, ByteBuffer buffer, int recordSize)
+        throws IOException
+    {
+        if (buffer.remaining() >= recordSize)
+        {
+            return buffer;
+        }
+
+        Flush(channel, buffer);
+
+
+        // record larger than the buffer
+        if (buffer.capacity() < recordSize)
+        {
+            buffer = ByteBuffer.allocateDirect(recordSize);
+        }
+
+        return buffer;
+    }
+
+
+    /**
+     * Reads from the channel until the buffer holds at 
+     * least the given number of unread bytes, replacing it 
+     * with a larger one, not kept after the call, when they 
+     * do not fit. The buffer never holds more unread bytes 
+     * than allowed, so the channel is not read past the 
+     * bytes the caller knows to be its own.
+     * 
+     * @param channel : Channel to read from.
+     * 
+     * @param buffer : Buffer being read, in read mode.
+     * 
+     * @param needed : Bytes needed.
+     * 
+     * @param allowed : Largest number of unread bytes, not 
+     * less than {@code needed}.
+     * 
+     * @return {@code ByteBuffer} : Buffer holding the bytes, 
+     * in read mode.
+     * 
+     * @throws EOFException If the channel ends first.
+     * 
+     * @throws IOException If the channel fails to read.
+     */
+    private static ByteBuffer Fill(ReadableByteChannel channel, ByteBuffer buffer, int needed, long allowed)
+        throws IOException
+    {
+        if (buffer.remaining() >= needed)
+        {
+            return buffer;
+        }
+
+
+        // keep the unread bytes at the start of the buffer
+        if (buffer.capacity() < needed)
+        {
+            final ByteBuffer largerBuffer = ByteBuffer.allocateDirect(needed);
+
+            largerBuffer.put(buffer);
+            buffer = largerBuffer;
+        }
+        else
+        {
+            buffer.compact();
+        }
+
+        buffer.limit((int) Math.min(buffer.capacity(), allowed));
+
+        while (buffer.position() < needed)
+        {
+            // error channel ended inside a record
+            if (channel.read(buffer) < 0)
+            {
+                throw new EOFException();
+            }
+        }
+
+        buffer.flip();
+
+        return buffer;
+    }
+
+
+    /**
+     * Writes the list to the channel, walking the chain once 
+     * through a reused direct buffer. The format is a header 
+     * made of a magic number, the format version, the width 
+     * of the codec and the number of values, followed by one 
+     * record per value. Records of a variable-width codec are 
+     * prefixed with their length.
+     * 
+     * @param channel : Channel to write to. It is not closed.
+     * 
+     * @param codec : Codec turning the values into bytes.
+     * 
+     * @throws IllegalArgumentException If a variable-width 
+     * {@code codec} writes a record longer than 
+     * {@code MAXIMUM_RECORD_SIZE}. The values before it 
+     * may already be written.
+     * 
+     * @throws IllegalStateException If a fixed-width 
+     * {@code codec} writes another number of bytes than its 
+     * width.
+     * 
+     * @throws IOException If the channel fails to write.
+     */
+    public final void WriteTo(WritableByteChannel channel, IElementCodec<? super T> codec) throws IOException
+    {
+        final int width = codec.Width();
+        ByteBuffer buffer = IO_BUFFER.get();
+
+        buffer.clear();
+        buffer.putInt(FORMAT_MAGIC).putShort(FORMAT_VERSION).putInt(width).putInt(this.size);
+
+        for (Node workingNode = this.headNode; workingNode != null; workingNode = workingNode.nextNode)
+        {
+            if (width == IElementCodec.VARIABLE_WIDTH)
+            {
+                buffer = Reserve(channel, buffer, Integer.BYTES + codec.SizeOf(workingNode.value));
+
+
+                // leave room for the length, known once written
+                final int lengthIndex = buffer.position();
+
+                buffer.position(lengthIndex + Integer.BYTES);
+                codec.Encode(workingNode.value, buffer);
+
+                final int length = buffer.position() - lengthIndex - Integer.BYTES;
+
+
+                // error record too long to be read back
+                if (length > MAXIMUM_RECORD_SIZE)
+                {
+                    throw new IllegalArgumentException();
+                }
+
+                buffer.putInt(lengthIndex, length);
+            }
+            else
+            {
+                buffer = Reserve(channel, buffer, width);
+
+                final int startIndex = buffer.position();
+
+                codec.Encode(workingNode.value, buffer);
+
+
+                // error codec not writing its width
+                if (buffer.position() - startIndex != width)
+                {
+                    throw new IllegalStateException();
+                }
+            }
+        }
+
+        Flush(channel, buffer);
+    }
+
+
+    /**
+     * Reads a list written by {@code WriteTo} from the 
+     * channel, and adds its values to the end of this list, 
+     * in order. The {@code Node}s are chained in one pass 
+     * and then linked to the list at once, so the list is 
+     * left unchanged when reading fails.
+     * 
+     * <p>
+     * The channel is read through a buffer, but never past 
+     * the last record, so it is left right after the list 
+     * and may hold more data, such as another list. Records 
+     * of a fixed-width codec are read ahead in bulk, those of 
+     * a variable-width codec one at a time along with the 
+     * length of the next one. A non-blocking channel is 
+     * polled until the bytes arrive.
+     * </p>
+     * 
+     * @param channel : Channel to read from. It is not closed.
+     * 
+     * @param codec : Codec the list was written with.
+     * 
+     * @return {@code int} : Number of values added.
+     * 
+     * @throws StreamCorruptedException If the channel does 
+     * not hold a list of this format and codec width, a 
+     * record length is negative or larger than 
+     * {@code MAXIMUM_RECORD_SIZE}, or the {@code codec} does 
+     * not read a whole record.
+     * 
+     * @throws EOFException If the channel ends before the 
+     * last value.
+     * 
+     * @throws IOException If the channel fails to read.
+     */
+    public final int ReadFrom(ReadableByteChannel channel, IElementCodec<? extends T> codec) throws IOException
+    {
+        final int width = codec.Width();
+        ByteBuffer buffer = IO_BUFFER.get();
+
+        buffer.clear().flip();
+        buffer = Fill(channel, buffer, HEADER_SIZE, HEADER_SIZE);
+
+
+        // error not a list of this format and width
+        if (buffer.getInt() != FORMAT_MAGIC || buffer.getShort() != FORMAT_VERSION || buffer.getInt() != width)
+        {
+            throw new StreamCorruptedException();
+        }
+
+        final int count = buffer.getInt();
+
+
+        // error negative count
+        if (count < 0)
+        {
+            throw new StreamCorruptedException();
+        }
+
+
+        // nothing to add
+        if (count == 0)
+        {
+            Notify(Operation.ADD_ALL);
+            return 0;
+        }
+
+
+        // chain the nodes
+        Node chainHead = null;
+        Node chainTail = null;
+
+        for (int i = 0; i < count; i++)
+        {
+            int recordSize = width;
+
+
+            // bytes known to belong to the list: every record 
+            // left for a fixed width, the record and the length 
+            // of the next one for a variable width
+            long allowed;
+
+            if (width == IElementCodec.VARIABLE_WIDTH)
+            {
+                buffer = Fill(channel, buffer, Integer.BYTES, Integer.BYTES);
+                recordSize = buffer.getInt();
+
+
+                // error length that no record can have
+                if (recordSize < 0 || recordSize > MAXIMUM_RECORD_SIZE)
+                {
+                    throw new StreamCorruptedException();
+                }
+
+                allowed = recordSize + (i + 1 < count ? Integer.BYTES : 0);
+            }
+            else
+            {
+                allowed = (long) (count - i) * width;
+            }
+
+
+            // the codec sees only the record
+            buffer = Fill(channel, buffer, recordSize, allowed);
+
+            final int limit = buffer.limit();
+            final int endIndex = buffer.position() + recordSize;
+
+            buffer.limit(endIndex);
+
+            final Node addingNode = NewNode(codec.Decode(buffer));
+
+
+            // error codec not reading the whole record
+            if (buffer.position() != endIndex)
+            {
+                throw new StreamCorruptedException();
+            }
+
+            buffer.limit(limit);
+
+            if (chainHead == null)
+            {
+                chainHead = addingNode;
+            }
+            else
+            {
+                addingNode.prevNode = chainTail;
+                chainTail.nextNode = addingNode;
+            }
+
+            chainTail = addingNode;
+        }
+
+        LinkChainLast(chainHead, chainTail, count);
+        Notify(Operation.ADD_ALL);
+
+        return count;
+    }
+
+
+    //--------------------------------------------------
+    // This block contains iterators over the list
+
+
+    /**
+     * Cursor walking the {@code Node}s of the list in both 
+     * directions. Adding or removing through the cursor is 
+     * O(1). Any other structural change to the list makes 
+     * the cursor throw {@code ConcurrentModificationException}.
+     */
+    private final class NodeCursor implements ListIterator<T>
+    {
+        /** {@code Node} returned by the next call to {@code next}. */
+        private Node nextNode;
+
+        /** Index of the {@code nextNode}. */
+        private int nextIndex;
+
+        /** {@code Node} returned by the last move, if any. */
+        private Node lastReturned;
+
+        /** {@code modCount} the cursor agrees with. */
+        private int expectedModCount;
+
+
+        /**
+         * Constructs a cursor before the given index.
+         * 
+         * @param index : Index of the first {@code Node} 
+         * returned by {@code next}.
+         */
+        NodeCursor(int index)
+        {
+            this.nextNode = index == List.this.size ? null : GetNodeAt(index);
+            this.nextIndex = index;
+            this.lastReturned = null;
+            this.expectedModCount = List.this.modCount;
+        }
+
+
+        /**
+         * Checks that the list was not changed behind the 
+         * cursor.
+         * 
+         * @throws ConcurrentModificationException If it was.
+         */
+        private void CheckModCount()
+        {
+            if (List.this.modCount != this.expectedModCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.nextIndex < List.this.size;
+        }
+
+
+        @Override
+        public T next()
+        {
+            CheckModCount();
+
+            // error no more node
+            if (hasNext() == false)
+            {
+                throw new NoSuchElementException();
+            }
+
+            this.lastReturned = this.nextNode;
+            this.nextNode = this.nextNode.nextNode;
+            this.nextIndex++;
+
+            return this.lastReturned.value;
+        }
+
+
+        @Override
+        public boolean hasPrevious()
+        {
+            return this.nextIndex > 0;
+        }
+
+
+        @Override
+        public T previous()
+        {
+            CheckModCount();
+
+            // error no more node
+            if (hasPrevious() == false)
+            {
+                throw new NoSuchElementException();
+            }
+
+            this.nextNode = this.nextNode == null ? List.this.tailNode : this.nextNode.prevNode;
+            this.lastReturned = this.nextNode;
+            this.nextIndex--;
+
+            return this.lastReturned.value;
+        }
+
+
+        @Override
+        public int nextIndex()
+        {
+            return this.nextIndex;
+        }
+
+
+        @Override
+        public int previousIndex()
+        {
+            return this.nextIndex - 1;
+        }
+
+
+        @Override
+        public void remove()
+        {
+            CheckModCount();
+
+            // error nothing to remove
+            if (this.lastReturned == null)
+            {
+                throw new IllegalStateException();
+            }
+
+
+            // removing after next shifts the cursor back, 
+            // removing after previous does not
+            if (this.lastReturned == this.nextNode)
+            {
+                this.nextNode = this.lastReturned.nextNode;
+            }
+            else
+            {
+                this.nextIndex--;
+            }
+
+            UnlinkNode(this.lastReturned);
+            List.this.fingerNode = null;
+            this.lastReturned = null;
+            this.expectedModCount = List.this.modCount;
+        }
+
+
+        @Override
+        public void set(T value)
+        {
+            CheckModCount();
+
+            // error nothing to replace
+            if (this.lastReturned == null)
+            {
+                throw new IllegalStateException();
+            }
+
+            this.lastReturned.value = value;
+        }
+
+
+        @Override
+        public void add(T value)
+        {
+            CheckModCount();
+
+            LinkBefore(NewNode(value), this.nextNode);
+            List.this.fingerNode = null;
+            this.nextIndex++;
+            this.lastReturned = null;
+            this.expectedModCount = List.this.modCount;
+        }
+
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action)
+        {
+            while (this.nextIndex < List.this.size)
+            {
+                CheckModCount();
+
+                this.lastReturned = this.nextNode;
+                this.nextNode = this.nextNode.nextNode;
+                this.nextIndex++;
+                action.accept(this.lastReturned.value);
+            }
+
+            CheckModCount();
+        }
+    }
+
+
+    /**
+     * Spliterator over a run of {@code Node}s. Splitting 
+     * walks to the middle of the run, so both halves know 
+     * their exact size.
+     */
+    private final class NodeSpliterator implements Spliterator<T>
+    {
+        /** Next {@code Node} to visit. */
+        private Node currentNode;
+
+        /** Number of {@code Node}s left to visit. */
+        private int remaining;
+
+        /** {@code modCount} the spliterator agrees with. */
+        private final int expectedModCount;
+
+
+        /**
+         * Constructs a spliterator over a run of 
+         * {@code Node}s.
+         * 
+         * @param currentNode : First {@code Node} of the run.
+         * 
+         * @param remaining : Number of {@code Node}s in the run.
+         * 
+         * @param expectedModCount : {@code modCount} of the 
+         * list when the run was taken.
+         */
+        NodeSpliterator(Node currentNode, int remaining, int expectedModCount)
+        {
+            this.currentNode = currentNode;
+            this.remaining = remaining;
+            this.expectedModCount = expectedModCount;
+        }
+
+
+        /**
+         * Checks that the list was not changed since the run 
+         * was taken, before any {@code Node} of it is read.
+         * 
+         * @throws ConcurrentModificationException If it was.
+         */
+        private void CheckModCount()
+        {
+            if (List.this.modCount != this.expectedModCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action)
+        {
+            CheckModCount();
+
+
+            // no more node
+            if (this.remaining == 0)
+            {
+                return false;
+            }
+
+            final T value = this.currentNode.value;
+
+            this.currentNode = this.currentNode.nextNode;
+            this.remaining--;
+            action.accept(value);
+
+            return true;
+        }
+
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action)
+        {
+            Node workingNode = this.currentNode;
+
+
+            // checked before every node, since a change to the
+            // list may have unlinked or reused the next one
+            for (int i = 0; i < this.remaining; i++)
+            {
+                CheckModCount();
+                action.accept(workingNode.value);
+                workingNode = workingNode.nextNode;
+            }
+
+            this.currentNode = workingNode;
+            this.remaining = 0;
+            CheckModCount();
+        }
+
+
+        @Override
+        public Spliterator<T> trySplit()
+        {
+            CheckModCount();
+
+
+            // too small to split
+            if (this.remaining < 2)
+            {
+                return null;
+            }
+
+
+            // hand the first half over, keep the second
+            final Node firstNode = this.currentNode;
+            final int firstHalf = this.remaining / 2;
+
+            for (int i = 0; i < firstHalf; i++)
+            {
+                this.currentNode = this.currentNode.nextNode;
+            }
+
+            this.remaining -= firstHalf;
+
+            return new NodeSpliterator(firstNode, firstHalf, this.expectedModCount);
+        }
+
+
+        @Override
+        public long estimateSize()
+        {
+            return this.remaining;
+        }
+
+
+        @Override
+        public int characteristics()
+        {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+
+
+    /**
+     * Returns an iterator over the values of the list, from 
+     * the first to the last.
+     * 
+     * @return {@code Iterator<T>} : Fail-fast iterator.
+     */
+    @Override
+    public final Iterator<T> iterator()
+    {
+        return new NodeCursor(0);
+    }
+
+
+    /**
+     * Returns a spliterator over the values of the list, 
+     * with an exact size, so that a parallel stream can 
+     * split the list evenly.
+     * 
+     * @return {@code Spliterator<T>} : Fail-fast spliterator.
+     */
+    @Override
+    public final Spliterator<T> spliterator()
+    {
+        return new NodeSpliterator(this.headNode, this.size, this.modCount);
+    }
+
+
+    /**
+     * Returns a cursor before the first value of the list. 
+     * The cursor moves in both directions, and can add, 
+     * replace or remove values at its position in O(1).
+     * 
+     * @return {@code ListIterator<T>} : Fail-fast cursor.
+     */
+    public final ListIterator<T> Cursor()
+    {
+        return new NodeCursor(0);
+    }
+
+
+    /**
+     * Returns a cursor before the value at the given index.
+     * 
+     * @param index : Index of the value returned by the 
+     * first call to {@code next}.
+     * 
+     * @return {@code ListIterator<T>} : Fail-fast cursor.
+     * 
+     * @throws IndexOutOfBoundsException If the {@code index} 
+     * is not in the range from {@code 0} to {@code size}.
+     */
+    public final ListIterator<T> Cursor(int index)
+    {
+        // error index not in size range
+        if (index < 0 || this.size < index)
+        {
+            throw new IndexOutOfBoundsException();
+        }
+
+        return new NodeCursor(index);
+    }
+
+
+    /**
+     * Returns a sequential stream over the values of the list.
+     * 
+     * @return {@code Stream<T>} : Stream of the values.
+     */
+    public final Stream<T> Stream()
+    {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+
+    /**
+     * Returns a parallel stream over the values of the list.
+     * 
+     * @return {@code Stream<T>} : Stream of the values.
+     */
+    public final Stream<T> ParallelStream()
+    {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+
+    //--------------------------------------------------
+    // This block contains swap method
+
+
+    /**
+     * Swaps two values.
+     * 
+     * @param index1 : Index of the first node.
+     * 
+     * @param index2 : Index of the second node.
+     * 
+     * @throws IndexOutOfBoundsException If the {@code index} 
+     * is not in the range from {@code 0} to {@code size - 1}.
      * 
      * @throws NoSuchElementException If the list is empty.
      */
@@ -640,6 +2144,7 @@ public abstract class List<T extends Comparable<T>>
         // swap the same node -> no swap
         if (index1 == index2)
         {
+            Notify(Operation.SWAP);
             return;
         }
 
@@ -659,91 +2164,707 @@ public abstract class List<T extends Comparable<T>>
         tmp = node1.value;
         node1.value = node2.value;
         node2.value = tmp;
+        Notify(Operation.SWAP);
     }
 
 
     //--------------------------------------------------
-    // This block contains sorting method, using QuickSort
+    // This block contains sorting methods, using Merge Sort
+
+
+    /**
+     * Number of values under which {@code ParallelSort} sorts 
+     * on the calling thread only.
+     */
+    public static final int PARALLEL_SORT_THRESHOLD = 1 << 13;
 
 
     /**
-     * Sorts the list in a non-decreasing manner using Quick Sort
+     * Sorts the list in a non-decreasing manner using Merge Sort. 
+     * The sort is stable, and relinks the {@code Node}s in place 
+     * instead of swapping their values.
+     * 
+     * @throws ClassCastException If the values are not 
+     * {@code Comparable} to each other. The list keeps all 
+     * of its values, in an unspecified order.
      */
     public final void Sort()
     {
+        Sort(NATURAL_ORDER);
+    }
+
+
+    /**
+     * Sorts the list in the order of the given comparator, 
+     * using Merge Sort. The sort is stable, and relinks the 
+     * {@code Node}s in place instead of swapping their values. 
+     * If the comparator throws, the runs still being merged 
+     * are linked back into one chain before the exception is 
+     * rethrown, so the list keeps all of its values, in an 
+     * unspecified order.
+     * 
+     * @param comparator : Order to sort the values in.
+     * 
+     * @throws NullPointerException If the {@code comparator} 
+     * is {@code null}.
+     */
+    public final void Sort(Comparator<? super T> comparator)
+    {
+        // error no order
+        if (comparator == null)
+        {
+            throw new NullPointerException();
+        }
+
+
+        final long startTime = StartTimer();
+
+
         // no sorting when the list is empty or only has
         // 1 node
-        if (IsEmpty() == true || HasOnlyOneElement() == true)
+        if (IsEmpty() == false && HasOnlyOneElement() == false)
+        {
+            // the sort leaves the head of the chain in the slot,
+            // even when the comparator throws part-way
+            final Node[] chainHeads = NewNodeArray(1);
+
+            chainHeads[0] = this.headNode;
+
+            try
+            {
+                MergeSort(chainHeads, 0, comparator);
+            }
+            finally
+            {
+                SetSortedChain(chainHeads[0]);
+            }
+        }
+
+        NotifyTimed(Operation.SORT, startTime);
+    }
+
+
+    /**
+     * Sorts the list by an {@code int} key of the values, in 
+     * a non-decreasing manner. The keys are compared unboxed, 
+     * so sorting by a field allocates nothing. The key is 
+     * extracted on every comparison, so the extractor should 
+     * be as cheap as a field read.
+     * 
+     * @param keyExtractor : Gets the key of a value.
+     * 
+     * @throws NullPointerException If the 
+     * {@code keyExtractor} is {@code null}.
+     */
+    public final void SortByInt(ToIntFunction<? super T> keyExtractor)
+    {
+        Sort(Comparator.comparingInt(keyExtractor));
+    }
+
+
+    /**
+     * Sorts the list by a {@code long} key of the values, in 
+     * a non-decreasing manner. The keys are compared unboxed, 
+     * so sorting by a field allocates nothing. The key is 
+     * extracted on every comparison, so the extractor should 
+     * be as cheap as a field read.
+     * 
+     * @param keyExtractor : Gets the key of a value.
+     * 
+     * @throws NullPointerException If the 
+     * {@code keyExtractor} is {@code null}.
+     */
+    public final void SortByLong(ToLongFunction<? super T> keyExtractor)
+    {
+        Sort(Comparator.comparingLong(keyExtractor));
+    }
+
+
+    /**
+     * Sorts the list in a non-decreasing manner, sorting 
+     * segments of the list concurrently. Same as 
+     * {@code ParallelSort(PARALLEL_SORT_THRESHOLD)}.
+     * 
+     * @throws ClassCastException If the values are not 
+     * {@code Comparable} to each other. The list keeps all 
+     * of its values, in an unspecified order.
+     */
+    public final void ParallelSort()
+    {
+        ParallelSort(NATURAL_ORDER, PARALLEL_SORT_THRESHOLD);
+    }
+
+
+    /**
+     * Sorts the list in a non-decreasing manner, sorting 
+     * segments of the list concurrently. Same as 
+     * {@code ParallelSort(Comparator.naturalOrder(), threshold)}.
+     * 
+     * @param threshold : Smallest number of values in a 
+     * segment.
+     * 
+     * @throws IllegalArgumentException If the 
+     * {@code threshold} is not positive.
+     * 
+     * @throws ClassCastException If the values are not 
+     * {@code Comparable} to each other. The list keeps all 
+     * of its values, in an unspecified order.
+     */
+    public final void ParallelSort(int threshold)
+    {
+        ParallelSort(NATURAL_ORDER, threshold);
+    }
+
+
+    /**
+     * <p>
+     * Sorts the list in the order of the given comparator, 
+     * sorting segments of the list concurrently. The chain of 
+     * {@code Node}s is cut into segments of at least 
+     * {@code threshold} values, every segment is sorted with 
+     * Merge Sort in its own fork/join task, and the sorted 
+     * segments are merged back pairwise. The sort is stable.
+     * </p>
+     * 
+     * <p>
+     * The tasks run in the {@code ForkJoinPool} of the calling 
+     * thread, or in the common pool when called from outside 
+     * of a pool. Lists smaller than twice the 
+     * {@code threshold} are sorted on the calling thread only.
+     * </p>
+     * 
+     * <p>
+     * If the comparator throws in any task, every task is 
+     * waited for, then the segments are linked back into one 
+     * chain before the exception is rethrown, so the list 
+     * keeps all of its values, in an unspecified order.
+     * </p>
+     * 
+     * @param comparator : Order to sort the values in.
+     * 
+     * @param threshold : Smallest number of values in a 
+     * segment.
+     * 
+     * @throws IllegalArgumentException If the 
+     * {@code threshold} is not positive.
+     * 
+     * @throws NullPointerException If the {@code comparator} 
+     * is {@code null}.
+     */
+    public final void ParallelSort(Comparator<? super T> comparator, int threshold)
+    {
+        // error no order
+        if (comparator == null)
+        {
+            throw new NullPointerException();
+        }
+
+
+        // error segments cannot be empty
+        if (threshold <= 0)
         {
+            throw new IllegalArgumentException();
+        }
+
+
+        // too small to be worth splitting
+        if (this.size / threshold < 2)
+        {
+            Sort(comparator);
             return;
         }
 
 
-        // sort
-        QuickSort(0, this.size - 1);
+        // a few segments per thread, so that a slow segment 
+        // does not leave the other threads idle
+        final int parallelism = ForkJoinTask.inForkJoinPool() == true
+            ? ForkJoinTask.getPool().getParallelism()
+            : ForkJoinPool.getCommonPoolParallelism();
+        final int segmentCount = Math.max(2, Math.min(this.size / threshold, parallelism * 4));
+        final long startTime = StartTimer();
+
+
+        // the tasks leave the head of every chain in the array,
+        // even when the comparator throws in any of them
+        final Node[] segmentHeads = CutSegments(segmentCount);
+
+        try
+        {
+            new SortTask(segmentHeads, 0, segmentCount, comparator).invoke();
+        }
+        finally
+        {
+            SetSortedChain(JoinChains(segmentHeads));
+        }
+
+        NotifyTimed(Operation.PARALLEL_SORT, startTime);
+    }
+
+
+    /**
+     * Sorting task of {@code ParallelSort}. Sorts a range of 
+     * segments by splitting it in two halves, sorting the 
+     * halves concurrently, and merging them. The head of the 
+     * sorted range ends up in the slot of its first segment.
+     */
+    private final class SortTask extends RecursiveAction
+    {
+        /** Version of the serialized form, never serialized in practice. */
+        private static final long serialVersionUID = 1L;
+
+        /** Heads of every segment. */
+        private final Node[] segmentHeads;
+
+        /** First segment of the range. */
+        private final int low;
+
+        /** Segment after the last of the range. */
+        private final int high;
+
+        /** Order to sort the values in. */
+        private final Comparator<? super T> comparator;
+
+
+        /**
+         * Constructs the task sorting the given segments.
+         * 
+         * @param segmentHeads : Heads of every segment.
+         * 
+         * @param low : First segment of the range.
+         * 
+         * @param high : Segment after the last of the range.
+         * 
+         * @param comparator : Order to sort the values in.
+         */
+        SortTask(Node[] segmentHeads, int low, int high, Comparator<? super T> comparator)
+        {
+            this.segmentHeads = segmentHeads;
+            this.low = low;
+            this.high = high;
+            this.comparator = comparator;
+        }
+
+
+        @Override
+        protected void compute()
+        {
+            // a single segment is sorted right away
+            if (this.high - this.low == 1)
+            {
+                MergeSort(this.segmentHeads, this.low, this.comparator);
+                return;
+            }
+
+
+            final int middle = (this.low + this.high) >>> 1;
+            final SortTask leftTask = new SortTask(this.segmentHeads, this.low, middle, this.comparator);
+
+            leftTask.fork();
+
+            try
+            {
+                new SortTask(this.segmentHeads, middle, this.high, this.comparator).compute();
+            }
+            catch (RuntimeException | Error e)
+            {
+                // the left half may still be relinking its nodes,
+                // so it has to finish before the chains are joined
+                leftTask.quietlyJoin();
+                throw e;
+            }
+
+            leftTask.join();
+            MergeChains(this.segmentHeads, this.low, middle, this.comparator);
+        }
+    }
+
+
+    /**
+     * Cuts the chain of {@code Node}s into segments of about 
+     * the same size. Every segment ends with a {@code null} 
+     * {@code nextNode}.
+     * 
+     * @param segmentCount : Number of segments.
+     * 
+     * @return {@code Node[]} : Heads of the segments.
+     */
+    private Node[] CutSegments(int segmentCount)
+    {
+        final Node[] segmentHeads = NewNodeArray(segmentCount);
+        Node workingNode = this.headNode;
+
+        for (int segment = 0; segment < segmentCount; segment++)
+        {
+            // spread the remainder over the first segments
+            final int segmentSize = this.size / segmentCount + (segment < this.size % segmentCount ? 1 : 0);
+
+            segmentHeads[segment] = workingNode;
+
+            for (int i = 1; i < segmentSize; i++)
+            {
+                workingNode = workingNode.nextNode;
+            }
+
+            final Node nextHead = workingNode.nextNode;
+
+            workingNode.nextNode = null;
+            workingNode = nextHead;
+        }
+
+        return segmentHeads;
+    }
+
+
+    /**
+     * Joins the chains left by the sorting tasks into one, 
+     * in the order of the array. A single chain is left when 
+     * every task succeeded.
+     * 
+     * @param chainHeads : Heads of the chains, or 
+     * {@code null} for a slot merged into another one. The 
+     * {@code prevNode} of every head points to the tail of 
+     * its chain.
+     * 
+     * @return {@code Node} : Head of the joined chain. Its 
+     * {@code prevNode} points to the tail of the chain.
+     */
+    private Node JoinChains(Node[] chainHeads)
+    {
+        Node joinedHead = null;
+        Node joinedTail = null;
+
+        for (Node chainHead : chainHeads)
+        {
+            // merged into an earlier slot
+            if (chainHead == null)
+            {
+                continue;
+            }
+
+            final Node chainTail = chainHead.prevNode;
+
+            if (joinedTail == null)
+            {
+                joinedHead = chainHead;
+            }
+            else
+            {
+                joinedTail.nextNode = chainHead;
+                chainHead.prevNode = joinedTail;
+            }
+
+            joinedTail = chainTail;
+        }
+
+        joinedHead.prevNode = joinedTail;
+
+        return joinedHead;
+    }
+
+
+    /**
+     * Creates an array of {@code Node}s.
+     * 
+     * @param length : Length of the array.
+     * 
+     * @return {@code Node[]} : Empty array.
+     */
+    @SuppressWarnings("unchecked")
+    private Node[] NewNodeArray(int length)
+    {
+        return (Node[]) Array.newInstance(Node.class, length);
+    }
+
+
+    /**
+     * Links the nodes of a merge stopped by a comparator 
+     * that threw back into one chain: the nodes merged so 
+     * far, then the rest of the left run, then every node 
+     * from the right one on. Only the failure path walks the 
+     * chain, to rebuild the {@code prevNode} pointers.
+     * 
+     * @param mergedHead : Head of the nodes merged so far, 
+     * or {@code null} if there is none.
+     * 
+     * @param mergedTail : Tail of the nodes merged so far, 
+     * or {@code null} if there is none.
+     * 
+     * @param leftNode : First node left in the left run.
+     * 
+     * @param leftTail : Last node left in the left run.
+     * 
+     * @param rightNode : First node left in the right run, 
+     * followed by every node not merged yet.
+     * 
+     * @return {@code Node} : Head of the chain. Its 
+     * {@code prevNode} points to the tail of the chain.
+     */
+    private Node SpliceAfterFailure(Node mergedHead, Node mergedTail, Node leftNode, Node leftTail, Node rightNode)
+    {
+        final Node chainHead;
+
+        leftTail.nextNode = rightNode;
+
+        if (mergedTail == null)
+        {
+            chainHead = leftNode;
+        }
+        else
+        {
+            mergedTail.nextNode = leftNode;
+            chainHead = mergedHead;
+        }
+
+
+        // rebuild the prevNode pointers
+        Node previousNode = null;
+
+        for (Node workingNode = chainHead; workingNode != null; workingNode = workingNode.nextNode)
+        {
+            workingNode.prevNode = previousNode;
+            previousNode = workingNode;
+        }
+
+        chainHead.prevNode = previousNode;
+
+        return chainHead;
+    }
+
+
+    /**
+     * Makes a sorted chain of {@code Node}s the content of 
+     * the list.
+     * 
+     * @param sortedHead : Head of the sorted chain, whose 
+     * {@code prevNode} points to the tail of the chain.
+     */
+    private void SetSortedChain(Node sortedHead)
+    {
+        this.tailNode = sortedHead.prevNode;
+        sortedHead.prevNode = null;
+        this.headNode = sortedHead;
+
+
+        // the nodes are relinked so the finger is stale
+        this.fingerNode = null;
+        this.modCount++;
     }
 
 
     /**
-     * Quick Sort algorithm
+     * Bottom-up Merge Sort algorithm. Each pass merges 
+     * neighbouring runs of {@code runSize} nodes into runs 
+     * twice as long, until a pass only does a single merge. 
+     * The {@code prevNode} pointers are rebuilt while merging, 
+     * so no extra pass nor extra memory is needed. If the 
+     * comparator throws, the chain is spliced back together 
+     * in an unspecified order before the exception is 
+     * rethrown.
+     * 
+     * @param chainHeads : Array holding the head of a chain 
+     * of {@code Node}s ending with a {@code null} 
+     * {@code nextNode}. The head of the sorted chain, or of 
+     * the spliced one, is put back in its place, with its 
+     * {@code prevNode} pointing to the tail of the chain.
      * 
-     * @param low : Bottom index of the (sub)list
+     * @param slot : Index of the head in the array.
      * 
-     * @param high : Top index of the (sub)list
+     * @param comparator : Order to sort the values in.
      */
-    private void QuickSort(int low, int high)
+    private void MergeSort(Node[] chainHeads, int slot, Comparator<? super T> comparator)
     {
-        if (low < high)
+        Node sortedHead = chainHeads[slot];
+        Node sortedTail = null;
+        int runSize = 1;
+
+        while (true)
         {
-            int pivot = Divide(low, high);
+            Node leftNode = sortedHead;
+            int mergeCount = 0;
+
+            sortedHead = null;
+            sortedTail = null;
+
+
+            // merge every pair of runs in this pass
+            while (leftNode != null)
+            {
+                mergeCount++;
+
+
+                // the right run starts after runSize nodes
+                Node rightNode = leftNode;
+                int leftSize = 0;
+
+                while (leftSize < runSize && rightNode != null)
+                {
+                    leftSize++;
+                    rightNode = rightNode.nextNode;
+                }
+
+                int rightSize = runSize;
+
+
+                // take the smaller node of the two runs, favouring 
+                // the left run to keep the sort stable
+                while (leftSize > 0 || (rightSize > 0 && rightNode != null))
+                {
+                    Node takenNode;
+                    boolean takesRight = leftSize == 0;
+
+                    if (takesRight == false && rightSize > 0 && rightNode != null)
+                    {
+                        try
+                        {
+                            takesRight = comparator.compare(leftNode.value, rightNode.value) > 0;
+                        }
+                        catch (RuntimeException | Error e)
+                        {
+                            // the left nodes not taken yet still link to 
+                            // each other, find the last one of them
+                            Node leftTail = leftNode;
+
+                            for (int i = 1; i < leftSize; i++)
+                            {
+                                leftTail = leftTail.nextNode;
+                            }
+
+                            chainHeads[slot] = SpliceAfterFailure(sortedHead, sortedTail, leftNode, leftTail, rightNode);
+                            throw e;
+                        }
+                    }
+
+                    if (takesRight == true)
+                    {
+                        takenNode = rightNode;
+                        rightNode = rightNode.nextNode;
+                        rightSize--;
+                    }
+                    else
+                    {
+                        takenNode = leftNode;
+                        leftNode = leftNode.nextNode;
+                        leftSize--;
+                    }
+
+
+                    // append the taken node to the merged chain
+                    if (sortedTail == null)
+                    {
+                        sortedHead = takenNode;
+                    }
+                    else
+                    {
+                        sortedTail.nextNode = takenNode;
+                    }
+
+                    takenNode.prevNode = sortedTail;
+                    sortedTail = takenNode;
+                }
+
+
+                // continue with the runs after the right run
+                leftNode = rightNode;
+            }
+
+            sortedTail.nextNode = null;
+
 
-            QuickSort(low, pivot - 1);
-            QuickSort(pivot + 1, high);
+            // only one merge means the whole chain is sorted
+            if (mergeCount <= 1)
+            {
+                break;
+            }
+
+            runSize *= 2;
         }
+
+        sortedHead.prevNode = sortedTail;
+        chainHeads[slot] = sortedHead;
     }
 
 
     /**
-     * Divide the (sub)list into 2 parts, with the left side 
-     * smaller than the {@code pivot} and the right side 
-     * larger than said {@code pivot}. {@code pivot} here is 
-     * the last node of the (sub)list
+     * Merges two sorted chains of {@code Node}s into one, 
+     * favouring the left chain on equal values to keep the 
+     * sort stable. If the comparator throws, the two chains 
+     * are spliced into one in an unspecified order before 
+     * the exception is rethrown.
      * 
-     * @param low : Bottom index of the (sub)list
+     * @param chainHeads : Array holding the heads of the 
+     * chains. The {@code prevNode} of every head points to 
+     * the tail of its chain. The head of the merged chain 
+     * is put in the left slot, and the right slot is 
+     * cleared.
      * 
-     * @param high : Top index of the (sub)list
+     * @param leftSlot : Index of the head of the left chain.
      * 
-     * @return {@code int} : Index of the {@code pivot}
+     * @param rightSlot : Index of the head of the right 
+     * chain.
+     * 
+     * @param comparator : Order to sort the values in.
      */
-    private int Divide(int low, int high)
+    private void MergeChains(Node[] chainHeads, int leftSlot, int rightSlot, Comparator<? super T> comparator)
     {
-        // pivot is the value at right most
-        Node pivot = GetNodeAt(high);
+        final Node leftTail = chainHeads[leftSlot].prevNode;
+        final Node rightTail = chainHeads[rightSlot].prevNode;
+        Node leftNode = chainHeads[leftSlot];
+        Node rightNode = chainHeads[rightSlot];
+        Node mergedHead = null;
+        Node mergedTail = null;
 
-        // swapIndex will mark the last known value that is larger 
-        // than the pivot
-        int swapIndex = low - 1;
+        chainHeads[rightSlot] = null;
 
 
-        // swap the value if the current value is smaller than pivot, else
-        // advance. This will automatically swap the small vs big value, 
-        // leaving the left side to be smaller than the pivot and the right 
-        // to be larger.
-        for (int traverseIndex = low; traverseIndex < high; traverseIndex++)
+        // take the smaller node until one chain runs out
+        while (leftNode != null && rightNode != null)
         {
-            int compare = GetNodeAt(traverseIndex).CompareTo(pivot);
+            Node takenNode;
+            final boolean takesLeft;
+
+            try
+            {
+                takesLeft = comparator.compare(leftNode.value, rightNode.value) <= 0;
+            }
+            catch (RuntimeException | Error e)
+            {
+                chainHeads[leftSlot] = SpliceAfterFailure(mergedHead, mergedTail, leftNode, leftTail, rightNode);
+                throw e;
+            }
+
+            if (takesLeft == true)
+            {
+                takenNode = leftNode;
+                leftNode = leftNode.nextNode;
+            }
+            else
+            {
+                takenNode = rightNode;
+                rightNode = rightNode.nextNode;
+            }
+
 
-            if (compare <= 0)
+            // append the taken node to the merged chain
+            if (mergedTail == null)
             {
-                swapIndex++;
-                Swap(swapIndex, traverseIndex);
+                mergedHead = takenNode;
             }
+            else
+            {
+                mergedTail.nextNode = takenNode;
+            }
+
+            takenNode.prevNode = mergedTail;
+            mergedTail = takenNode;
         }
 
 
-        // put the pivot at the last known place of larger value than pivot, 
-        // leaving the pivot to be the "border".
-        Swap(++swapIndex, high);
-        return swapIndex;
+        // append what is left of the other chain as a whole
+        final Node restNode = leftNode != null ? leftNode : rightNode;
+
+        mergedTail.nextNode = restNode;
+        restNode.prevNode = mergedTail;
+        mergedHead.prevNode = leftNode != null ? leftTail : rightTail;
+        chainHeads[leftSlot] = mergedHead;
     }
 }
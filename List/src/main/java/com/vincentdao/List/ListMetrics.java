@@ -0,0 +1,167 @@
+package com.vincentdao.List;
+
+
+/**
+ * <p>
+ * Listener collecting metrics of a {@code List}: the count 
+ * of every operation, a histogram of the {@code Node}s 
+ * walked by every seek, latency histograms of the timed 
+ * operations, and the largest size the list reached.
+ * </p>
+ * 
+ * <p>
+ * Example: 
+ * {@code ListMetrics metrics = new ListMetrics(); list.SetListener(metrics);} 
+ * then {@code metrics.GetSeekHops().GetValueAtPercentile(99)}.
+ * </p>
+ * 
+ * <p>
+ * Recording does not allocate. Not safe to share between 
+ * threads, same as the list.
+ * </p>
+ * 
+ * @version 0.1
+ * 
+ * @author vincentdao
+ */
+public final class ListMetrics implements IListListener
+{
+    //--------------------------------------------------
+    // This block contains fields of the metrics.
+
+
+    /** Count of every operation, by ordinal. */
+    private final long[] operationCounts;
+
+    /** Latencies of every operation, by ordinal, in nanoseconds. */
+    private final Histogram[] latencies;
+
+    /** Number of {@code Node}s walked by every seek. */
+    private final Histogram seekHops;
+
+    /** Largest size the list reached. */
+    private int sizeHighWaterMark;
+
+
+    //--------------------------------------------------
+    // This block contains constructors for the metrics.
+
+
+    /**
+     * Constructs empty metrics.
+     */
+    public ListMetrics()
+    {
+        final int operationCount = Operation.values().length;
+
+        this.operationCounts = new long[operationCount];
+        this.latencies = new Histogram[operationCount];
+        this.seekHops = new Histogram();
+        this.sizeHighWaterMark = 0;
+
+        for (int i = 0; i < operationCount; i++)
+        {
+            this.latencies[i] = new Histogram();
+        }
+    }
+
+
+    //--------------------------------------------------
+    // This block contains methods of the listener
+
+
+    @Override
+    public final void OnOperation(Operation operation, int size)
+    {
+        this.operationCounts[operation.ordinal()]++;
+        this.sizeHighWaterMark = Math.max(this.sizeHighWaterMark, size);
+    }
+
+
+    @Override
+    public final void OnSeek(int index, int hops)
+    {
+        this.seekHops.Record(hops);
+    }
+
+
+    @Override
+    public final void OnTimed(Operation operation, long elapsedNanos)
+    {
+        this.latencies[operation.ordinal()].Record(elapsedNanos);
+    }
+
+
+    /**
+     * Forgets every metric collected so far.
+     */
+    public final void Reset()
+    {
+        for (int i = 0; i < this.operationCounts.length; i++)
+        {
+            this.operationCounts[i] = 0;
+            this.latencies[i].Reset();
+        }
+
+        this.seekHops.Reset();
+        this.sizeHighWaterMark = 0;
+    }
+
+
+    //--------------------------------------------------
+    // This block contains methods to get the fields' data 
+    // from the metrics.
+
+
+    /**
+     * Returns how many times the operation ran.
+     * 
+     * @param operation : Operation to count.
+     * 
+     * @return {@code long} : Number of runs.
+     */
+    public final long GetCount(Operation operation)
+    {
+        return this.operationCounts[operation.ordinal()];
+    }
+
+
+    /**
+     * Returns the latencies of a timed operation, in 
+     * nanoseconds. Operations that are not timed have an 
+     * empty histogram.
+     * 
+     * @param operation : Timed operation.
+     * 
+     * @return {@code Histogram} : Live histogram of the 
+     * latencies.
+     */
+    public final Histogram GetLatencies(Operation operation)
+    {
+        return this.latencies[operation.ordinal()];
+    }
+
+
+    /**
+     * Returns the number of {@code Node}s walked by every 
+     * seek to an index.
+     * 
+     * @return {@code Histogram} : Live histogram of the hops.
+     */
+    public final Histogram GetSeekHops()
+    {
+        return this.seekHops;
+    }
+
+
+    /**
+     * Returns the largest size the list reached since the 
+     * metrics were set or reset.
+     * 
+     * @return {@code int} : Size high-water mark.
+     */
+    public final int GetSizeHighWaterMark()
+    {
+        return this.sizeHighWaterMark;
+    }
+}
@@ -0,0 +1,623 @@
+package com.vincentdao.List;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+
+/**
+ * <p>
+ * List of primitive {@code long} values, the primitive 
+ * sibling of {@code LinkedList}. Values are stored unboxed 
+ * in a circular array whose capacity is always a power of 
+ * two, so adding or removing at either end is O(1) and no 
+ * value is ever boxed.
+ * </p>
+ * 
+ * <p>
+ * Offers the same operations as {@code List}, plus the 
+ * Stack and Queue operations of {@code LinkedList}. Since a 
+ * {@code long} cannot be {@code null}, reading from an 
+ * empty list throws instead of returning {@code null}.
+ * </p>
+ * 
+ * @version 0.1
+ * 
+ * @author vincentdao
+ */
+public final class LongList
+{
+    //--------------------------------------------------
+    // This block contains fields of the list.
+
+
+    /** Capacity used when none is given, and after clearing. */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /** Largest power-of-two capacity of an array. */
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    /** Circular array holding the values. */
+    private long[] elements;
+
+    /** Index of the first value in the array. */
+    private int headIndex;
+
+    /** Size of the list. */
+    private int size;
+
+
+    //--------------------------------------------------
+    // This block contains constructors for the list.
+
+
+    /**
+     * Constructs an empty list.
+     */
+    public LongList()
+    {
+        this(DEFAULT_CAPACITY);
+    }
+
+
+    /**
+     * Constructs an empty list that can hold at least 
+     * {@code initialCapacity} values before growing.
+     * 
+     * @param initialCapacity : Number of values to make 
+     * room for.
+     * 
+     * @throws IllegalArgumentException If the 
+     * {@code initialCapacity} is negative.
+     */
+    public LongList(int initialCapacity)
+    {
+        // error negative capacity
+        if (initialCapacity < 0)
+        {
+            throw new IllegalArgumentException();
+        }
+
+        this.elements = new long[CapacityFor(initialCapacity)];
+        this.headIndex = 0;
+        this.size = 0;
+    }
+
+
+    //--------------------------------------------------
+    // This block contains utilities methods for the list.
+
+
+    /**
+     * Checks if the list is empty.
+     * 
+     * @return {@code true} is the list is empty, {@code false} otherwise.
+     */
+    public final boolean IsEmpty()
+    {
+        return this.size == 0;
+    }
+
+
+    /**
+     * Gets the smallest power of two that can hold the 
+     * given number of values.
+     * 
+     * @param minimumCapacity : Number of values to hold.
+     * 
+     * @return {@code int} : Capacity of the array.
+     */
+    private static int CapacityFor(int minimumCapacity)
+    {
+        // error capacity cannot be a power of two
+        if (minimumCapacity > MAXIMUM_CAPACITY)
+        {
+            throw new OutOfMemoryError();
+        }
+
+        if (minimumCapacity <= DEFAULT_CAPACITY)
+        {
+            return DEFAULT_CAPACITY;
+        }
+
+        return Integer.highestOneBit(minimumCapacity - 1) << 1;
+    }
+
+
+    /**
+     * Gets the array index of the value at given position 
+     * from the head.
+     * 
+     * @param position : Position from the head, starts from 0. 
+     * May be -1 for the slot before the head.
+     * 
+     * @return {@code int} : Index in the circular array.
+     */
+    private final int IndexOf(int position)
+    {
+        return (this.headIndex + position) & (this.elements.length - 1);
+    }
+
+
+    /**
+     * Moves the values into a new array of the given 
+     * capacity, with the head at index 0.
+     * 
+     * @param capacity : Length of the new array.
+     */
+    private final void Resize(int capacity)
+    {
+        final long[] newElements = new long[capacity];
+        final int headPart = Math.min(this.size, this.elements.length - this.headIndex);
+
+        System.arraycopy(this.elements, this.headIndex, newElements, 0, headPart);
+        System.arraycopy(this.elements, 0, newElements, headPart, this.size - headPart);
+
+        this.elements = newElements;
+        this.headIndex = 0;
+    }
+
+
+    /**
+     * Doubles the capacity of the array when it is full.
+     */
+    private final void GrowIfFull()
+    {
+        if (this.size == this.elements.length)
+        {
+            Resize(CapacityFor(this.elements.length + 1));
+        }
+    }
+
+
+    /**
+     * Checks that the {@code index} points to a value.
+     * 
+     * @param index : Index to check.
+     * 
+     * @throws IndexOutOfBoundsException If the {@code index} 
+     * is not in the range from {@code 0} to {@code size - 1}.
+     */
+    private final void CheckIndex(int index)
+    {
+        if (index < 0 || this.size - 1 < index)
+        {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+
+    //--------------------------------------------------
+    // This block contains clear method to destroy the list
+
+
+    /**
+     * Empties the list, and shrinks the array back to its 
+     * default capacity.
+     */
+    public final void Clear()
+    {
+        this.elements = new long[DEFAULT_CAPACITY];
+        this.headIndex = 0;
+        this.size = 0;
+    }
+
+
+    //--------------------------------------------------
+    // This block contains removal methods
+
+
+    /**
+     * Removes the first value of the list and returns 
+     * itself.
+     * 
+     * @return {@code long} : First value of the list.
+     * 
+     * @throws NoSuchElementException If the list is empty.
+     */
+    public final long RemoveFirst()
+    {
+        // error empty list
+        if (IsEmpty() == true)
+        {
+            throw new NoSuchElementException();
+        }
+
+
+        final long value = this.elements[this.headIndex];
+
+        this.headIndex = IndexOf(1);
+        this.size--;
+
+        return value;
+    }
+
+
+    /**
+     * Removes the last value of the list and returns 
+     * itself.
+     * 
+     * @return {@code long} : Last value of the list.
+     * 
+     * @throws NoSuchElementException If the list is empty.
+     */
+    public final long RemoveLast()
+    {
+        // error empty list
+        if (IsEmpty() == true)
+        {
+            throw new NoSuchElementException();
+        }
+
+
+        final long value = this.elements[IndexOf(this.size - 1)];
+
+        this.size--;
+
+        return value;
+    }
+
+
+    /**
+     * Removes the value at given index and returns itself. 
+     * The values on the shorter side of the index are 
+     * shifted to close the gap.
+     * 
+     * @param index : Index of the value, starts from 0.
+     * 
+     * @return {@code long} : Value at the given index.
+     * 
+     * @throws IndexOutOfBoundsException If the {@code index} 
+     * is not in the range from {@code 0} to {@code size - 1}.
+     */
+    public final long RemoveAt(int index)
+    {
+        // error index not in size range
+        CheckIndex(index);
+
+
+        final long value = this.elements[IndexOf(index)];
+
+
+        // shift the front part one slot toward the back
+        if (index < this.size / 2)
+        {
+            for (int i = index; i > 0; i--)
+            {
+                this.elements[IndexOf(i)] = this.elements[IndexOf(i - 1)];
+            }
+
+            this.headIndex = IndexOf(1);
+            this.size--;
+
+            return value;
+        }
+
+
+        // shift the back part one slot toward the front
+        for (int i = index; i < this.size - 1; i++)
+        {
+            this.elements[IndexOf(i)] = this.elements[IndexOf(i + 1)];
+        }
+
+        this.size--;
+
+        return value;
+    }
+
+
+    //--------------------------------------------------
+    // This block contains adding methods
+
+
+    /**
+     * Adds the value to the beginning of the list.
+     * 
+     * @param value : Value to add.
+     */
+    public final void AddFirst(long value)
+    {
+        GrowIfFull();
+
+        this.headIndex = IndexOf(-1);
+        this.elements[this.headIndex] = value;
+        this.size++;
+    }
+
+
+    /**
+     * Adds the value to the end of the list.
+     * 
+     * @param value : Value to add.
+     */
+    public final void AddLast(long value)
+    {
+        GrowIfFull();
+
+        this.elements[IndexOf(this.size)] = value;
+        this.size++;
+    }
+
+
+    /**
+     * Adds the value to the given index, so that it is the 
+     * value at that index afterward. The values on the 
+     * shorter side of the index are shifted to make room.
+     * 
+     * @param value : Value to add.
+     * 
+     * @param index : Index to add to.
+     * 
+     * @throws IndexOutOfBoundsException If the {@code index} 
+     * is not in the range from {@code 0} to {@code size}.
+     */
+    public final void AddAt(long value, int index)
+    {
+        // error index not in size range
+        if (index < 0 || this.size < index)
+        {
+            throw new IndexOutOfBoundsException();
+        }
+
+        GrowIfFull();
+
+
+        // shift the front part one slot toward the front
+        if (index < this.size / 2)
+        {
+            this.headIndex = IndexOf(-1);
+
+            for (int i = 0; i < index; i++)
+            {
+                this.elements[IndexOf(i)] = this.elements[IndexOf(i + 1)];
+            }
+        }
+
+        // shift the back part one slot toward the back
+        else
+        {
+            for (int i = this.size; i > index; i--)
+            {
+                this.elements[IndexOf(i)] = this.elements[IndexOf(i - 1)];
+            }
+        }
+
+        this.elements[IndexOf(index)] = value;
+        this.size++;
+    }
+
+
+    //--------------------------------------------------
+    // This block contains methods to get the fields' data
+    // from the list.
+
+
+    /**
+     * Returns the {@code size} of the list.
+     * 
+     * @return {@code int}  : Size of the list.
+     */
+    public final int Size()
+    {
+        return this.size;
+    }
+
+
+    /**
+     * Returns the first value of the list.
+     * 
+     * @return {@code long} : First value of the list.
+     * 
+     * @throws NoSuchElementException If the list is empty.
+     */
+    public final long GetFirst()
+    {
+        // error empty list
+        if (IsEmpty() == true)
+        {
+            throw new NoSuchElementException();
+        }
+
+        return this.elements[this.headIndex];
+    }
+
+
+    /**
+     * Returns the last value of the list.
+     * 
+     * @return {@code long} : Last value of the list.
+     * 
+     * @throws NoSuchElementException If the list is empty.
+     */
+    public final long GetLast()
+    {
+        // error empty list
+        if (IsEmpty() == true)
+        {
+            throw new NoSuchElementException();
+        }
+
+        return this.elements[IndexOf(this.size - 1)];
+    }
+
+
+    /**
+     * Gets the value at the given {@code index}.
+     * 
+     * @param index : Index of the value to retrieve
+     * 
+     * @return {@code long} : Value at the given {@code index}.
+     * 
+     * @throws IndexOutOfBoundsException If the {@code index} 
+     * is not in the range from {@code 0} to {@code size - 1}.
+     */
+    public final long GetAt(int index)
+    {
+        // error index not in size range
+        CheckIndex(index);
+
+        return this.elements[IndexOf(index)];
+    }
+
+
+    //--------------------------------------------------
+    // This block contains method to turn the list into
+    // "workable" collection, array to be specific
+
+
+    /**
+     * Converts the list into array.
+     * 
+     * @return {@code long[]} : Representation of the list as 
+     * array. Empty array if the list is empty.
+     */
+    public final long[] ToArray()
+    {
+        final long[] array = new long[this.size];
+        final int headPart = Math.min(this.size, this.elements.length - this.headIndex);
+
+        System.arraycopy(this.elements, this.headIndex, array, 0, headPart);
+        System.arraycopy(this.elements, 0, array, headPart, this.size - headPart);
+
+        return array;
+    }
+
+
+    //--------------------------------------------------
+    // This block contains swap method
+
+
+    /**
+     * Swaps two values.
+     * 
+     * @param index1 : Index of the first value.
+     * 
+     * @param index2 : Index of the second value.
+     * 
+     * @throws IndexOutOfBoundsException If the {@code index} 
+     * is not in the range from {@code 0} to {@code size - 1}.
+     */
+    public final void Swap(int index1, int index2)
+    {
+        // error index out of size range
+        CheckIndex(index1);
+        CheckIndex(index2);
+
+
+        final int arrayIndex1 = IndexOf(index1);
+        final int arrayIndex2 = IndexOf(index2);
+        final long tmp = this.elements[arrayIndex1];
+
+        this.elements[arrayIndex1] = this.elements[arrayIndex2];
+        this.elements[arrayIndex2] = tmp;
+    }
+
+
+    //--------------------------------------------------
+    // This block contains sorting method
+
+
+    /**
+     * Sorts the list in a non-decreasing manner, in the 
+     * same order as {@code Arrays.sort}.
+     */
+    public final void Sort()
+    {
+        // unwrap the values so they are one contiguous range
+        if (this.headIndex + this.size > this.elements.length)
+        {
+            Resize(this.elements.length);
+        }
+
+        Arrays.sort(this.elements, this.headIndex, this.headIndex + this.size);
+    }
+
+
+    //--------------------------------------------------
+    // This block contains methods for Stack ADT
+
+
+    /**
+     * Pops the top value of the Stack. Equivalent to 
+     * {@code RemoveLast}.
+     * 
+     * @return {@code long} : Top value of the Stack.
+     * 
+     * @throws NoSuchElementException If the list is empty.
+     */
+    public final long Pop()
+    {
+        return RemoveLast();
+    }
+
+
+    /**
+     * Pushes the value to the top of the Stack. 
+     * Equivalent to {@code AddLast}.
+     * 
+     * @param value : Value to push onto the Stack.
+     */
+    public final void Push(long value)
+    {
+        AddLast(value);
+    }
+
+
+    /**
+     * Peeks at the top value of the Stack. Equivalent 
+     * to {@code GetLast}.
+     * 
+     * @return {@code long} : Top value of the Stack.
+     * 
+     * @throws NoSuchElementException If the list is empty.
+     */
+    public final long Peek()
+    {
+        return GetLast();
+    }
+
+
+    //--------------------------------------------------
+    // This block contains methods for Queue ADT
+
+
+    /**
+     * Adds value to the end of the Queue. 
+     * Equivalent to {@code AddLast}.
+     * 
+     * @param value : Value to add to the Queue.
+     */
+    public final void Enqueue(long value)
+    {
+        AddLast(value);
+    }
+
+
+    /**
+     * Removes value from the beginning of the Queue 
+     * and returns itself. Equivalent to {@code RemoveFirst}.
+     * 
+     * @return {@code long} : Value at the beginning of the 
+     * Queue.
+     * 
+     * @throws NoSuchElementException If the list is empty.
+     */
+    public final long Dequeue()
+    {
+        return RemoveFirst();
+    }
+
+
+    /**
+     * Gets value at the beginning of the Queue. 
+     * Equivalent to {@code GetFirst}.
+     * 
+     * @return {@code long} : Value at the beginning of 
+     * the Queue.
+     * 
+     * @throws NoSuchElementException If the list is empty.
+     */
+    public final long First()
+    {
+        return GetFirst();
+    }
+}
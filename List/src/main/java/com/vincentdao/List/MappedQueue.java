@@ -0,0 +1,963 @@
+package com.vincentdao.List;
+
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.NoSuchElementException;
+
+
+/**
+ * <p>
+ * Durable implementation of the Queue ADT, whose values live 
+ * in memory-mapped segment files instead of the heap. The 
+ * queue is a rolling append log: {@code Enqueue} encodes the 
+ * value at the tail of the last segment, and 
+ * {@code Dequeue} decodes it at the head and moves the head 
+ * forward. A small mapped meta file keeps the head, the tail 
+ * and the size, so the queue is found again as it was when 
+ * it is opened on the same directory.
+ * </p>
+ * 
+ * <p>
+ * Every record is the length of the value followed by the 
+ * bytes of the {@code IElementCodec}. When a record does not 
+ * fit in the rest of a segment, the segment is marked as 
+ * ended and the next one is started. A segment the head has 
+ * left is kept for reuse, up to the recycle capacity, so a 
+ * queue whose size stays steady does not create files. Only 
+ * the head and the tail segments are mapped.
+ * </p>
+ * 
+ * <p>
+ * Written values survive a crash of the process as soon as 
+ * the call returns, since they are in the mapped pages. To 
+ * survive a crash of the machine they must reach the disk, 
+ * which happens every {@code syncInterval} changes, when a 
+ * segment is full, and on {@code Sync} and {@code Close}. 
+ * Each of those syncs the meta file along with the tail. The 
+ * meta file is also synced before a segment the head has 
+ * left is recycled, so it never points to a segment that 
+ * is gone.
+ * </p>
+ * 
+ * <p>
+ * The queue is not safe to share between threads. It locks 
+ * the meta file until it is closed, so a directory is opened 
+ * by one queue at a time, in this process or any other. 
+ * Failures of the file system are thrown as 
+ * {@code UncheckedIOException}.
+ * </p>
+ * 
+ * @version 0.1
+ * 
+ * @author vincentdao
+ */
+public final class MappedQueue<T> implements IQueue<T>, AutoCloseable
+{
+    //--------------------------------------------------
+    // This block contains fields of the queue.
+
+
+    /** Size of a segment when none is given, 64 MiB. */
+    public static final int DEFAULT_SEGMENT_SIZE = 1 << 26;
+
+    /** Number of left segments kept for reuse when none is given. */
+    public static final int DEFAULT_RECYCLE_CAPACITY = 2;
+
+    /** Length written where a segment ends early. */
+    private static final int END_OF_SEGMENT = -1;
+
+    /** First bytes of the meta file. */
+    private static final int META_MAGIC = 0x4D514D54;
+
+    /** Index of the head segment number in the meta file. */
+    private static final int META_HEAD_SEGMENT = 4;
+
+    /** Index of the head offset in the meta file. */
+    private static final int META_HEAD_OFFSET = 12;
+
+    /** Index of the tail segment number in the meta file. */
+    private static final int META_TAIL_SEGMENT = 16;
+
+    /** Index of the tail offset in the meta file. */
+    private static final int META_TAIL_OFFSET = 24;
+
+    /** Index of the size in the meta file. */
+    private static final int META_SIZE = 28;
+
+    /** Index of the segment size in the meta file. */
+    private static final int META_SEGMENT_SIZE = 32;
+
+    /** Bytes of the meta file. */
+    private static final int META_FILE_SIZE = 64;
+
+    /** Directory holding the files of the queue. */
+    private final Path directory;
+
+    /** Codec turning the values into bytes. */
+    private final IElementCodec<T> codec;
+
+    /** Bytes of a segment file. */
+    private final int segmentSize;
+
+    /** Number of changes between syncs. {@code 0} when only synced on demand. */
+    private final int syncInterval;
+
+    /** Largest number of left segments kept for reuse. */
+    private final int recycleCapacity;
+
+    /** Left segment files kept for reuse. */
+    private final ArrayDeque<Path> freeSegments;
+
+    /** Channel of the meta file, holding the lock of the directory. */
+    private FileChannel metaChannel;
+
+    /** Mapped meta file. {@code null} once closed. */
+    private MappedByteBuffer metaBuffer;
+
+    /** Mapped tail segment, written through its position. */
+    private MappedByteBuffer tailBuffer;
+
+    /** View of the head segment, read through its position. */
+    private ByteBuffer headView;
+
+    /** Number of the head segment. */
+    private long headSegment;
+
+    /** Offset of the next record to read in the head segment. */
+    private int headOffset;
+
+    /** Number of the tail segment. */
+    private long tailSegment;
+
+    /** Offset of the next record to write in the tail segment. */
+    private int tailOffset;
+
+    /** Offset of the tail segment up to which it is synced. */
+    private int syncedOffset;
+
+    /** Number of changes since the last sync. */
+    private int pendingChanges;
+
+    /** Size of the queue. */
+    private int size;
+
+
+    //--------------------------------------------------
+    // This block contains constructors for the queue.
+
+
+    /**
+     * Opens the queue in the directory with the default 
+     * segment size and recycle capacity, syncing only on 
+     * demand. The directory is created if needed.
+     * 
+     * @param directory : Directory holding the files.
+     * 
+     * @param codec : Codec turning the values into bytes.
+     * 
+     * @throws IllegalStateException If the directory is 
+     * opened by another queue.
+     * 
+     * @throws UncheckedIOException If the files cannot be 
+     * opened, the meta file is corrupted, or a segment it 
+     * points to is missing.
+     */
+    public MappedQueue(Path directory, IElementCodec<T> codec)
+    {
+        this(directory, codec, DEFAULT_SEGMENT_SIZE, 0, DEFAULT_RECYCLE_CAPACITY);
+    }
+
+
+    /**
+     * Opens the queue in the directory. The directory is 
+     * created if needed, and a queue already in it is found 
+     * again as it was.
+     * 
+     * @param directory : Directory holding the files.
+     * 
+     * @param codec : Codec turning the values into bytes.
+     * 
+     * @param segmentSize : Bytes of a segment file.
+     * 
+     * @param syncInterval : Number of changes between syncs. 
+     * {@code 0} syncs only on demand and when a segment is 
+     * full.
+     * 
+     * @param recycleCapacity : Largest number of left 
+     * segments kept for reuse.
+     * 
+     * @throws IllegalArgumentException If the 
+     * {@code segmentSize} cannot hold a record, the 
+     * {@code syncInterval} or the {@code recycleCapacity} is 
+     * negative, or the queue in the directory was made with 
+     * another {@code segmentSize}.
+     * 
+     * @throws IllegalStateException If the directory is 
+     * opened by another queue.
+     * 
+     * @throws UncheckedIOException If the files cannot be 
+     * opened, the meta file is corrupted, or a segment it 
+     * points to is missing.
+     */
+    public MappedQueue(Path directory, IElementCodec<T> codec, int segmentSize, int syncInterval,
+        int recycleCapacity)
+    {
+        // error invalid configuration
+        if (segmentSize <= Integer.BYTES || syncInterval < 0 || recycleCapacity < 0)
+        {
+            throw new IllegalArgumentException();
+        }
+
+        this.directory = directory;
+        this.codec = codec;
+        this.segmentSize = segmentSize;
+        this.syncInterval = syncInterval;
+        this.recycleCapacity = recycleCapacity;
+        this.freeSegments = new ArrayDeque<>();
+        this.pendingChanges = 0;
+
+        try
+        {
+            Files.createDirectories(directory);
+
+            final boolean isNew = Files.exists(MetaPath()) == false;
+
+            this.metaChannel = FileChannel.open(MetaPath(), StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+
+
+            // error directory opened by another queue
+            if (TryLock(this.metaChannel) == null)
+            {
+                throw new IllegalStateException();
+            }
+
+            this.metaBuffer = this.metaChannel.map(FileChannel.MapMode.READ_WRITE, 0, META_FILE_SIZE);
+
+            if (isNew == true)
+            {
+                this.metaBuffer.putInt(META_SEGMENT_SIZE, segmentSize);
+                this.metaBuffer.putInt(0, META_MAGIC);
+            }
+            else if (this.metaBuffer.getInt(0) != META_MAGIC)
+            {
+                // error not a meta file
+                throw new StreamCorruptedException();
+            }
+            else if (this.metaBuffer.getInt(META_SEGMENT_SIZE) != segmentSize)
+            {
+                // error made with another segment size
+                throw new IllegalArgumentException();
+            }
+
+            this.headSegment = this.metaBuffer.getLong(META_HEAD_SEGMENT);
+            this.headOffset = this.metaBuffer.getInt(META_HEAD_OFFSET);
+            this.tailSegment = this.metaBuffer.getLong(META_TAIL_SEGMENT);
+            this.tailOffset = this.metaBuffer.getInt(META_TAIL_OFFSET);
+            this.size = this.metaBuffer.getInt(META_SIZE);
+            this.syncedOffset = this.tailOffset;
+
+            // only the first segment of a new queue is created
+            this.tailBuffer = Map(SegmentPath(this.tailSegment), segmentSize, isNew);
+            this.headView = this.headSegment == this.tailSegment
+                ? this.tailBuffer.duplicate()
+                : Map(SegmentPath(this.headSegment), segmentSize, false);
+
+
+            // segments left before the last close can be reused
+            try (DirectoryStream<Path> freePaths = Files.newDirectoryStream(directory, "free-*.dat"))
+            {
+                for (Path freePath : freePaths)
+                {
+                    if (this.freeSegments.Size() < recycleCapacity)
+                    {
+                        this.freeSegments.Enqueue(freePath);
+                    }
+                    else
+                    {
+                        Files.delete(freePath);
+                    }
+                }
+            }
+        }
+        catch (IOException e)
+        {
+            CloseAfterFailure(e);
+            throw new UncheckedIOException(e);
+        }
+        catch (RuntimeException e)
+        {
+            CloseAfterFailure(e);
+            throw e;
+        }
+    }
+
+
+    //--------------------------------------------------
+    // This block contains utilities methods for the queue.
+
+
+    /**
+     * Checks if the queue is empty.
+     * 
+     * @return {@code true} is the queue is empty, {@code false} otherwise.
+     */
+    public final boolean IsEmpty()
+    {
+        return this.size == 0;
+    }
+
+
+    /**
+     * Gets the path of the meta file.
+     * 
+     * @return {@code Path} : Path of the meta file.
+     */
+    private final Path MetaPath()
+    {
+        return this.directory.resolve("meta.dat");
+    }
+
+
+    /**
+     * Gets the path of a segment file.
+     * 
+     * @param segment : Number of the segment.
+     * 
+     * @return {@code Path} : Path of the segment file.
+     */
+    private final Path SegmentPath(long segment)
+    {
+        return this.directory.resolve("segment-" + segment + ".dat");
+    }
+
+
+    /**
+     * Maps a file, growing it to the given size if needed. 
+     * The channel is closed right away, the mapping stays 
+     * valid until it is collected.
+     * 
+     * @param path : Path of the file.
+     * 
+     * @param mapSize : Bytes to map.
+     * 
+     * @param create : {@code true} to create the file if it 
+     * is missing, {@code false} if it must already exist.
+     * 
+     * @return {@code MappedByteBuffer} : Mapping of the file.
+     * 
+     * @throws StreamCorruptedException If the file is 
+     * missing and not to be created.
+     * 
+     * @throws IOException If the file cannot be mapped.
+     */
+    private static MappedByteBuffer Map(Path path, int mapSize, boolean create) throws IOException
+    {
+        // error segment lost
+        if (create == false && Files.exists(path) == false)
+        {
+            throw new StreamCorruptedException();
+        }
+
+        try (FileChannel channel = create == true
+            ? FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)
+            : FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE))
+        {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, mapSize);
+        }
+    }
+
+
+    /**
+     * Locks the whole file of a channel, without waiting.
+     * 
+     * @param channel : Channel of the file.
+     * 
+     * @return {@code FileLock} : Lock of the file. 
+     * {@code null} if another channel holds it.
+     * 
+     * @throws IOException If the file cannot be locked.
+     */
+    private static FileLock TryLock(FileChannel channel) throws IOException
+    {
+        try
+        {
+            return channel.tryLock();
+        }
+        catch (OverlappingFileLockException e)
+        {
+            // held by a channel of this process
+            return null;
+        }
+    }
+
+
+    /**
+     * Closes the meta file channel when the constructor 
+     * fails, which releases the lock of the directory.
+     * 
+     * @param failure : Exception the constructor failed with, 
+     * to which a failure to close is added.
+     */
+    private final void CloseAfterFailure(Exception failure)
+    {
+        if (this.metaChannel == null)
+        {
+            return;
+        }
+
+        try
+        {
+            this.metaChannel.close();
+        }
+        catch (IOException e)
+        {
+            failure.addSuppressed(e);
+        }
+    }
+
+
+    /**
+     * Checks that the queue is not closed.
+     * 
+     * @throws IllegalStateException If the queue is closed.
+     */
+    private final void EnsureOpen()
+    {
+        // error closed queue
+        if (this.metaBuffer == null)
+        {
+            throw new IllegalStateException();
+        }
+    }
+
+
+    /**
+     * Checks if a segment ends at the offset, either because 
+     * no record fits there or because it is marked as ended.
+     * 
+     * @param view : View of the segment.
+     * 
+     * @param offset : Offset of the next record.
+     * 
+     * @return {@code true} if the next record is in the next 
+     * segment, {@code false} otherwise.
+     */
+    private final boolean IsSegmentEnd(ByteBuffer view, int offset)
+    {
+        return this.segmentSize - offset < Integer.BYTES || view.getInt(offset) == END_OF_SEGMENT;
+    }
+
+
+    /**
+     * Decodes the record at the offset. The codec sees only 
+     * the bytes of the record.
+     * 
+     * @param view : View of the segment.
+     * 
+     * @param offset : Offset of the record.
+     * 
+     * @return {@code T} : Value of the record.
+     * 
+     * @throws UncheckedIOException If the codec does not 
+     * read the whole record.
+     */
+    private final T Decode(ByteBuffer view, int offset)
+    {
+        final int endIndex = offset + Integer.BYTES + view.getInt(offset);
+
+        view.limit(endIndex).position(offset + Integer.BYTES);
+
+        final T value = this.codec.Decode(view);
+
+
+        // error codec not reading the whole record
+        if (view.position() != endIndex)
+        {
+            throw new UncheckedIOException(new StreamCorruptedException());
+        }
+
+        view.limit(view.capacity());
+
+        return value;
+    }
+
+
+    /**
+     * Gets a view of the segment after the given one, 
+     * sharing the mapping of the tail when it is the tail.
+     * 
+     * @param segment : Number of the segment.
+     * 
+     * @return {@code ByteBuffer} : View of the next segment.
+     * 
+     * @throws IOException If the segment cannot be mapped, 
+     * or is missing.
+     */
+    private final ByteBuffer NextView(long segment) throws IOException
+    {
+        return segment + 1 == this.tailSegment
+            ? this.tailBuffer.duplicate()
+            : Map(SegmentPath(segment + 1), this.segmentSize, false);
+    }
+
+
+    /**
+     * Marks the tail segment as ended, syncs the rest of it, 
+     * and starts the next segment, reusing a left one when 
+     * there is one. The meta file is synced once it points 
+     * to the new tail.
+     * 
+     * @throws IOException If the next segment cannot be made.
+     */
+    private final void RollTail() throws IOException
+    {
+        if (this.segmentSize - this.tailOffset >= Integer.BYTES)
+        {
+            this.tailBuffer.putInt(this.tailOffset, END_OF_SEGMENT);
+        }
+
+        this.tailBuffer.force(this.syncedOffset, this.segmentSize - this.syncedOffset);
+
+
+        // reuse a left segment under the new name
+        final Path nextPath = SegmentPath(this.tailSegment + 1);
+
+        if (this.freeSegments.IsEmpty() == false)
+        {
+            Files.move(this.freeSegments.Dequeue(), nextPath, StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        this.tailBuffer = Map(nextPath, this.segmentSize, true);
+        this.tailSegment++;
+        this.tailOffset = 0;
+        this.syncedOffset = 0;
+        this.metaBuffer.putLong(META_TAIL_SEGMENT, this.tailSegment).putInt(META_TAIL_OFFSET, 0);
+        this.metaBuffer.force();
+        this.pendingChanges = 0;
+    }
+
+
+    /**
+     * Keeps a segment the head has left for reuse, or 
+     * deletes it when enough are kept.
+     * 
+     * @param segment : Number of the segment.
+     * 
+     * @throws IOException If the segment cannot be moved.
+     */
+    private final void RecycleSegment(long segment) throws IOException
+    {
+        final Path segmentPath = SegmentPath(segment);
+
+        if (this.freeSegments.Size() < this.recycleCapacity)
+        {
+            final Path freePath = this.directory.resolve("free-" + segment + ".dat");
+
+            Files.move(segmentPath, freePath);
+            this.freeSegments.Enqueue(freePath);
+        }
+        else
+        {
+            Files.delete(segmentPath);
+        }
+    }
+
+
+    /**
+     * Moves the head to the next segment when the head 
+     * segment ends, and recycles the segment left once the 
+     * meta file no longer points to it on the disk.
+     * 
+     * @throws IOException If the next segment cannot be 
+     * mapped, or is missing.
+     */
+    private final void SkipSegmentEnd() throws IOException
+    {
+        if (IsSegmentEnd(this.headView, this.headOffset) == false)
+        {
+            return;
+        }
+
+        this.headView = NextView(this.headSegment);
+        this.headSegment++;
+        this.headOffset = 0;
+        this.metaBuffer.putLong(META_HEAD_SEGMENT, this.headSegment).putInt(META_HEAD_OFFSET, 0);
+        this.metaBuffer.force();
+        RecycleSegment(this.headSegment - 1);
+    }
+
+
+    /**
+     * Counts a change, and syncs once {@code syncInterval} 
+     * changes are counted.
+     */
+    private final void CountChange()
+    {
+        if (this.syncInterval > 0 && ++this.pendingChanges >= this.syncInterval)
+        {
+            Sync();
+        }
+    }
+
+
+    //--------------------------------------------------
+    // This block contains methods to make the queue durable
+
+
+    /**
+     * Writes the changes of the tail segment and the meta 
+     * file to the disk.
+     * 
+     * @throws IllegalStateException If the queue is closed.
+     */
+    public final void Sync()
+    {
+        EnsureOpen();
+
+        this.tailBuffer.force(this.syncedOffset, this.tailOffset - this.syncedOffset);
+        this.metaBuffer.force();
+        this.syncedOffset = this.tailOffset;
+        this.pendingChanges = 0;
+    }
+
+
+    /**
+     * Syncs and closes the queue, and releases the lock of 
+     * the directory. The values stay in the directory, to be 
+     * found again by the next queue opened on it. Closing 
+     * twice does nothing.
+     * 
+     * @throws UncheckedIOException If the meta file cannot 
+     * be closed.
+     */
+    public final void Close()
+    {
+        if (this.metaBuffer == null)
+        {
+            return;
+        }
+
+        Sync();
+        this.metaBuffer = null;
+        this.tailBuffer = null;
+        this.headView = null;
+
+
+        // closing the channel releases the lock
+        try
+        {
+            this.metaChannel.close();
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+
+    /**
+     * Same as {@code Close}, so the queue can be used in a 
+     * try-with-resources statement.
+     */
+    @Override
+    public final void close()
+    {
+        Close();
+    }
+
+
+    //--------------------------------------------------
+    // This block contains clear method to destroy the queue
+
+
+    /**
+     * Empties the queue, by moving the head to the tail and 
+     * recycling the segments in between, once the meta file 
+     * no longer points to them on the disk.
+     * 
+     * @throws IllegalStateException If the queue is closed.
+     * 
+     * @throws UncheckedIOException If a segment cannot be 
+     * recycled.
+     */
+    @Override
+    public final void Clear()
+    {
+        EnsureOpen();
+
+        final long leftSegment = this.headSegment;
+
+        this.headSegment = this.tailSegment;
+        this.headOffset = this.tailOffset;
+        this.headView = this.tailBuffer.duplicate();
+        this.size = 0;
+        this.metaBuffer.putLong(META_HEAD_SEGMENT, this.headSegment).putInt(META_HEAD_OFFSET, this.headOffset)
+            .putInt(META_SIZE, 0);
+
+
+        // no segment left -> nothing to recycle
+        if (leftSegment < this.tailSegment)
+        {
+            this.metaBuffer.force();
+
+            try
+            {
+                for (long segment = leftSegment; segment < this.tailSegment; segment++)
+                {
+                    RecycleSegment(segment);
+                }
+            }
+            catch (IOException e)
+            {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        CountChange();
+    }
+
+
+    //--------------------------------------------------
+    // This block contains methods for Queue ADT
+
+
+    /**
+     * Adds value to the end of the Queue, by appending its 
+     * record to the tail segment.
+     * 
+     * @param value : Value to add to the Queue.
+     * 
+     * @throws IllegalArgumentException If the record of the 
+     * {@code value} is larger than a segment.
+     * 
+     * @throws IllegalStateException If the queue is closed.
+     * 
+     * @throws UncheckedIOException If the next segment 
+     * cannot be made.
+     */
+    @Override
+    public final void Enqueue(T value)
+    {
+        EnsureOpen();
+
+        final int recordSize = Integer.BYTES + this.codec.SizeOf(value);
+
+
+        // error record larger than a segment
+        if (recordSize > this.segmentSize)
+        {
+            throw new IllegalArgumentException();
+        }
+
+
+        if (this.segmentSize - this.tailOffset < recordSize)
+        {
+            try
+            {
+                RollTail();
+            }
+            catch (IOException e)
+            {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+
+        // encode after the length, known once written
+        this.tailBuffer.limit(this.segmentSize).position(this.tailOffset + Integer.BYTES);
+        this.codec.Encode(value, this.tailBuffer);
+
+        final int length = this.tailBuffer.position() - this.tailOffset - Integer.BYTES;
+
+        this.tailBuffer.putInt(this.tailOffset, length);
+        this.tailOffset += Integer.BYTES + length;
+        this.size++;
+        this.metaBuffer.putInt(META_TAIL_OFFSET, this.tailOffset).putInt(META_SIZE, this.size);
+        CountChange();
+    }
+
+
+    /**
+     * Removes value from the beginning of the Queue 
+     * and returns itself, by decoding the record at the 
+     * head and moving the head past it.
+     * 
+     * @return {@code T} : Value at the beginning of the 
+     * Queue.
+     * 
+     * @throws NoSuchElementException If the queue is empty.
+     * 
+     * @throws IllegalStateException If the queue is closed.
+     * 
+     * @throws UncheckedIOException If the next segment 
+     * cannot be mapped, or the record cannot be decoded.
+     */
+    @Override
+    public final T Dequeue()
+    {
+        EnsureOpen();
+
+
+        // error empty queue
+        if (IsEmpty() == true)
+        {
+            throw new NoSuchElementException();
+        }
+
+
+        try
+        {
+            SkipSegmentEnd();
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+
+        final T value = Decode(this.headView, this.headOffset);
+
+        this.headOffset = this.headView.position();
+        this.size--;
+        this.metaBuffer.putInt(META_HEAD_OFFSET, this.headOffset).putInt(META_SIZE, this.size);
+        CountChange();
+
+        return value;
+    }
+
+
+    /**
+     * Gets value at the beginning of the Queue.
+     * 
+     * @return {@code T} : Value at the beginning of 
+     * the Queue. {@code null} if the queue is empty.
+     * 
+     * @throws IllegalStateException If the queue is closed.
+     * 
+     * @throws UncheckedIOException If the next segment 
+     * cannot be mapped, or the record cannot be decoded.
+     */
+    @Override
+    public final T First()
+    {
+        EnsureOpen();
+
+        if (IsEmpty() == true)
+        {
+            return null;
+        }
+
+
+        try
+        {
+            SkipSegmentEnd();
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+
+        return Decode(this.headView, this.headOffset);
+    }
+
+
+    //--------------------------------------------------
+    // This block contains methods to get the fields' data
+    // from the queue.
+
+
+    /**
+     * Returns the {@code size} of the queue.
+     * 
+     * @return {@code int}  : Size of the queue.
+     */
+    @Override
+    public final int Size()
+    {
+        return this.size;
+    }
+
+
+    /**
+     * Converts the queue into array, from the beginning to 
+     * the end of the Queue, by decoding every record. 
+     * Segments between the head and the tail are mapped 
+     * while they are read.
+     * 
+     * @param arrayType : Array to fill when it is long 
+     * enough, otherwise an instance of 
+     * previously-defined-type array to make one from.
+     * 
+     * <p>
+     * Example: if the {@code queue} holds Integer, 
+     * then 
+     * {@code Integer[] array = queue.ToArray(new Integer[0])}
+     * </p>
+     * 
+     * @return {@code T[]} : Representation of the queue as array. 
+     * Empty if the queue is empty
+     * 
+     * @throws IllegalStateException If the queue is closed.
+     * 
+     * @throws UncheckedIOException If a segment cannot be 
+     * mapped, or a record cannot be decoded.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public final T[] ToArray(T[] arrayType)
+    {
+        EnsureOpen();
+
+
+        // reuse the array when it is long enough, the slot
+        // after the last value marks the end
+        if (arrayType.length < this.size)
+        {
+            arrayType = (T[]) Array.newInstance(arrayType.getClass().componentType(), this.size);
+        }
+        else if (arrayType.length > this.size)
+        {
+            arrayType[this.size] = null;
+        }
+
+
+        // walk from the head without moving it
+        ByteBuffer view = this.headView.duplicate();
+        long segment = this.headSegment;
+        int offset = this.headOffset;
+
+        try
+        {
+            for (int i = 0; i < this.size; i++)
+            {
+                if (IsSegmentEnd(view, offset) == true)
+                {
+                    view = NextView(segment);
+                    segment++;
+                    offset = 0;
+                }
+
+                arrayType[i] = Decode(view, offset);
+                offset = view.position();
+            }
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException(e);
+        }
+
+        return arrayType;
+    }
+}
@@ -0,0 +1,855 @@
+package com.vincentdao.List;
+
+import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.NoSuchElementException;
+
+
+/**
+ * <p>
+ * Implementation of a List whose values live outside of the 
+ * heap. Every value is encoded into a fixed number of bytes 
+ * by an {@code IElementCodec}, and stored in direct 
+ * {@code ByteBuffer} segments. The heap only holds the 
+ * segments themselves, so the garbage collector never has 
+ * to walk the values.
+ * </p>
+ * 
+ * <p>
+ * The segments form a circular array whose capacity is 
+ * always a power of two, so adding or removing at either 
+ * end is O(1). Values are decoded into new objects every 
+ * time they are read.
+ * </p>
+ * 
+ * <p>
+ * {@code Close} drops the segments and makes the list 
+ * unusable. Java 17 cannot unmap a direct buffer on demand, 
+ * so the memory is given back once the segments are 
+ * collected.
+ * </p>
+ * 
+ * @version 0.1
+ * 
+ * @author vincentdao
+ */
+public final class OffHeapList<T extends Comparable<T>> implements AutoCloseable
+{
+    //--------------------------------------------------
+    // This block contains fields of the list.
+
+
+    /** Capacity used when none is given, and after clearing. */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /** Largest power-of-two capacity of the list. */
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    /** Largest number of bytes in one segment. */
+    private static final int MAXIMUM_SEGMENT_BYTES = 1 << 30;
+
+    /** Codec converting the values to and from bytes. */
+    private final IElementCodec<T> codec;
+
+    /** Number of bytes of every value. */
+    private final int width;
+
+    /** Holds a value while {@code Swap} moves it, so swapping allocates nothing. */
+    private final byte[] swapBuffer;
+
+    /** Segments holding the values, {@code null} once closed. */
+    private ByteBuffer[] segments;
+
+    /** Number of values in every segment, minus 1. */
+    private int segmentMask;
+
+    /** Number of bits to shift an index by to get its segment. */
+    private int segmentShift;
+
+    /** Number of values the segments can hold. */
+    private int capacity;
+
+    /** Index of the first value in the circular array. */
+    private int headIndex;
+
+    /** Size of the list. */
+    private int size;
+
+
+    //--------------------------------------------------
+    // This block contains constructors for the list.
+
+
+    /**
+     * Constructs an empty list.
+     * 
+     * @param codec : Codec converting the values to and 
+     * from bytes.
+     */
+    public OffHeapList(IElementCodec<T> codec)
+    {
+        this(codec, DEFAULT_CAPACITY);
+    }
+
+
+    /**
+     * Constructs an empty list that can hold at least 
+     * {@code initialCapacity} values before growing.
+     * 
+     * @param codec : Codec converting the values to and 
+     * from bytes.
+     * 
+     * @param initialCapacity : Number of values to make 
+     * room for.
+     * 
+     * @throws IllegalArgumentException If the 
+     * {@code initialCapacity} is negative, or if the codec 
+     * width is not positive.
+     */
+    public OffHeapList(IElementCodec<T> codec, int initialCapacity)
+    {
+        // error negative capacity or empty values
+        if (initialCapacity < 0 || codec.Width() <= 0 || codec.Width() > MAXIMUM_SEGMENT_BYTES)
+        {
+            throw new IllegalArgumentException();
+        }
+
+        this.codec = codec;
+        this.width = codec.Width();
+        this.swapBuffer = new byte[this.width];
+        this.headIndex = 0;
+        this.size = 0;
+
+        Allocate(CapacityFor(initialCapacity));
+    }
+
+
+    //--------------------------------------------------
+    // This block contains utilities methods for the list.
+
+
+    /**
+     * Checks if the list is empty.
+     * 
+     * @return {@code true} is the list is empty, {@code false} otherwise.
+     * 
+     * @throws IllegalStateException If the list is closed.
+     */
+    public final boolean IsEmpty()
+    {
+        CheckOpen();
+
+        return this.size == 0;
+    }
+
+
+    /**
+     * Checks that the list is not closed.
+     * 
+     * @throws IllegalStateException If the list is closed.
+     */
+    private final void CheckOpen()
+    {
+        if (this.segments == null)
+        {
+            throw new IllegalStateException();
+        }
+    }
+
+
+    /**
+     * Checks that the {@code index} points to a value.
+     * 
+     * @param index : Index to check.
+     * 
+     * @throws IndexOutOfBoundsException If the {@code index} 
+     * is not in the range from {@code 0} to {@code size - 1}.
+     */
+    private final void CheckIndex(int index)
+    {
+        if (index < 0 || this.size - 1 < index)
+        {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+
+    /**
+     * Gets the smallest power of two that can hold the 
+     * given number of values.
+     * 
+     * @param minimumCapacity : Number of values to hold.
+     * 
+     * @return {@code int} : Capacity of the list.
+     */
+    private static int CapacityFor(int minimumCapacity)
+    {
+        // error capacity cannot be a power of two
+        if (minimumCapacity > MAXIMUM_CAPACITY)
+        {
+            throw new OutOfMemoryError();
+        }
+
+        if (minimumCapacity <= DEFAULT_CAPACITY)
+        {
+            return DEFAULT_CAPACITY;
+        }
+
+        return Integer.highestOneBit(minimumCapacity - 1) << 1;
+    }
+
+
+    /**
+     * Allocates empty segments for the given capacity. A 
+     * segment holds a power-of-two number of values, and 
+     * is never larger than {@code MAXIMUM_SEGMENT_BYTES}.
+     * 
+     * @param newCapacity : Power-of-two number of values.
+     */
+    private final void Allocate(int newCapacity)
+    {
+        final int segmentCapacity = Math.min(newCapacity, Integer.highestOneBit(MAXIMUM_SEGMENT_BYTES / this.width));
+
+        this.segments = new ByteBuffer[newCapacity / segmentCapacity];
+        this.segmentMask = segmentCapacity - 1;
+        this.segmentShift = Integer.numberOfTrailingZeros(segmentCapacity);
+        this.capacity = newCapacity;
+
+        for (int i = 0; i < this.segments.length; i++)
+        {
+            this.segments[i] = ByteBuffer.allocateDirect(segmentCapacity * this.width).order(ByteOrder.nativeOrder());
+        }
+    }
+
+
+    /**
+     * Gets the circular array index of the value at given 
+     * position from the head.
+     * 
+     * @param position : Position from the head, starts from 0. 
+     * May be -1 for the slot before the head.
+     * 
+     * @return {@code int} : Index in the circular array.
+     */
+    private final int IndexOf(int position)
+    {
+        return (this.headIndex + position) & (this.capacity - 1);
+    }
+
+
+    /**
+     * Gets the segment holding the given circular array 
+     * index.
+     * 
+     * @param arrayIndex : Index in the circular array.
+     * 
+     * @return {@code ByteBuffer} : Segment of the index.
+     */
+    private final ByteBuffer SegmentOf(int arrayIndex)
+    {
+        return this.segments[arrayIndex >>> this.segmentShift];
+    }
+
+
+    /**
+     * Gets the byte offset of the given circular array index 
+     * inside its segment.
+     * 
+     * @param arrayIndex : Index in the circular array.
+     * 
+     * @return {@code int} : Offset in the segment.
+     */
+    private final int OffsetOf(int arrayIndex)
+    {
+        return (arrayIndex & this.segmentMask) * this.width;
+    }
+
+
+    /**
+     * Decodes the value at the given position.
+     * 
+     * @param position : Position from the head.
+     * 
+     * @return {@code T} : Decoded value.
+     */
+    private final T Read(int position)
+    {
+        final int arrayIndex = IndexOf(position);
+        final ByteBuffer segment = SegmentOf(arrayIndex);
+
+        segment.position(OffsetOf(arrayIndex));
+
+        return this.codec.Decode(segment);
+    }
+
+
+    /**
+     * Encodes the value at the given position.
+     * 
+     * @param position : Position from the head.
+     * 
+     * @param value : Value to encode.
+     * 
+     * @throws IllegalStateException If the codec did not 
+     * write exactly {@code Width()} bytes.
+     */
+    private final void Write(int position, T value)
+    {
+        final int arrayIndex = IndexOf(position);
+        final ByteBuffer segment = SegmentOf(arrayIndex);
+        final int offset = OffsetOf(arrayIndex);
+
+        segment.position(offset);
+        this.codec.Encode(value, segment);
+
+
+        // error codec broke the fixed width
+        if (segment.position() != offset + this.width)
+        {
+            throw new IllegalStateException();
+        }
+    }
+
+
+    /**
+     * Copies the bytes of the value at one position to 
+     * another position.
+     * 
+     * @param fromPosition : Position to copy from.
+     * 
+     * @param toPosition : Position to copy to.
+     */
+    private final void Move(int fromPosition, int toPosition)
+    {
+        final int fromIndex = IndexOf(fromPosition);
+        final int toIndex = IndexOf(toPosition);
+
+        SegmentOf(toIndex).put(OffsetOf(toIndex), SegmentOf(fromIndex), OffsetOf(fromIndex), this.width);
+    }
+
+
+    /**
+     * Doubles the capacity when the list is full, copying 
+     * the values into new segments with the head at index 0.
+     */
+    private final void GrowIfFull()
+    {
+        if (this.size < this.capacity)
+        {
+            return;
+        }
+
+
+        final ByteBuffer[] oldSegments = this.segments;
+        final int oldMask = this.segmentMask;
+        final int oldShift = this.segmentShift;
+        final int oldCapacity = this.capacity;
+
+        Allocate(CapacityFor(oldCapacity + 1));
+
+
+        // copy every value to its position from the head
+        for (int i = 0; i < this.size; i++)
+        {
+            final int oldIndex = (this.headIndex + i) & (oldCapacity - 1);
+            final ByteBuffer oldSegment = oldSegments[oldIndex >>> oldShift];
+
+            SegmentOf(i).put(OffsetOf(i), oldSegment, (oldIndex & oldMask) * this.width, this.width);
+        }
+
+        this.headIndex = 0;
+    }
+
+
+    //--------------------------------------------------
+    // This block contains methods to free the list
+
+
+    /**
+     * Empties the list, and shrinks the segments back to 
+     * the default capacity.
+     * 
+     * @throws IllegalStateException If the list is closed.
+     */
+    public final void Clear()
+    {
+        CheckOpen();
+
+        Allocate(DEFAULT_CAPACITY);
+        this.headIndex = 0;
+        this.size = 0;
+    }
+
+
+    /**
+     * Drops the segments and empties the list. Any later 
+     * call on the list throws, except {@code Close} itself.
+     */
+    public final void Close()
+    {
+        this.segments = null;
+        this.capacity = 0;
+        this.headIndex = 0;
+        this.size = 0;
+    }
+
+
+    /**
+     * Same as {@code Close}, so the list can be used in a 
+     * {@code try}-with-resources statement.
+     */
+    @Override
+    public final void close()
+    {
+        Close();
+    }
+
+
+    //--------------------------------------------------
+    // This block contains removal methods
+
+
+    /**
+     * Removes the first value of the list and returns 
+     * itself.
+     * 
+     * @return {@code T} : First value of the list.
+     * 
+     * @throws NoSuchElementException If the list is empty.
+     * 
+     * @throws IllegalStateException If the list is closed.
+     */
+    public final T RemoveFirst()
+    {
+        // error empty list
+        if (IsEmpty() == true)
+        {
+            throw new NoSuchElementException();
+        }
+
+
+        final T value = Read(0);
+
+        this.headIndex = IndexOf(1);
+        this.size--;
+
+        return value;
+    }
+
+
+    /**
+     * Removes the last value of the list and returns 
+     * itself.
+     * 
+     * @return {@code T} : Last value of the list.
+     * 
+     * @throws NoSuchElementException If the list is empty.
+     * 
+     * @throws IllegalStateException If the list is closed.
+     */
+    public final T RemoveLast()
+    {
+        // error empty list
+        if (IsEmpty() == true)
+        {
+            throw new NoSuchElementException();
+        }
+
+
+        final T value = Read(this.size - 1);
+
+        this.size--;
+
+        return value;
+    }
+
+
+    /**
+     * Removes the value at given index and returns itself. 
+     * The values on the shorter side of the index are 
+     * shifted to close the gap.
+     * 
+     * @param index : Index of the value, starts from 0.
+     * 
+     * @return {@code T} : Value at the given index.
+     * 
+     * @throws IndexOutOfBoundsException If the {@code index} 
+     * is not in the range from {@code 0} to {@code size - 1}.
+     * 
+     * @throws IllegalStateException If the list is closed.
+     */
+    public final T RemoveAt(int index)
+    {
+        CheckOpen();
+
+        // error index not in size range
+        CheckIndex(index);
+
+
+        final T value = Read(index);
+
+
+        // shift the front part one slot toward the back
+        if (index < this.size / 2)
+        {
+            for (int i = index; i > 0; i--)
+            {
+                Move(i - 1, i);
+            }
+
+            this.headIndex = IndexOf(1);
+            this.size--;
+
+            return value;
+        }
+
+
+        // shift the back part one slot toward the front
+        for (int i = index; i < this.size - 1; i++)
+        {
+            Move(i + 1, i);
+        }
+
+        this.size--;
+
+        return value;
+    }
+
+
+    //--------------------------------------------------
+    // This block contains adding methods
+
+
+    /**
+     * Adds the value to the beginning of the list.
+     * 
+     * @param value : Value to add.
+     * 
+     * @throws IllegalStateException If the list is closed.
+     */
+    public final void AddFirst(T value)
+    {
+        CheckOpen();
+        GrowIfFull();
+
+        this.headIndex = IndexOf(-1);
+        Write(0, value);
+        this.size++;
+    }
+
+
+    /**
+     * Adds the value to the end of the list.
+     * 
+     * @param value : Value to add.
+     * 
+     * @throws IllegalStateException If the list is closed.
+     */
+    public final void AddLast(T value)
+    {
+        CheckOpen();
+        GrowIfFull();
+
+        Write(this.size, value);
+        this.size++;
+    }
+
+
+    /**
+     * Adds the value to the given index, so that it is the 
+     * value at that index afterward. The values on the 
+     * shorter side of the index are shifted to make room.
+     * 
+     * @param value : Value to add.
+     * 
+     * @param index : Index to add to.
+     * 
+     * @throws IndexOutOfBoundsException If the {@code index} 
+     * is not in the range from {@code 0} to {@code size}.
+     * 
+     * @throws IllegalStateException If the list is closed.
+     */
+    public final void AddAt(T value, int index)
+    {
+        CheckOpen();
+
+        // error index not in size range
+        if (index < 0 || this.size < index)
+        {
+            throw new IndexOutOfBoundsException();
+        }
+
+        GrowIfFull();
+
+
+        // shift the front part one slot toward the front
+        if (index < this.size / 2)
+        {
+            this.headIndex = IndexOf(-1);
+
+            for (int i = 0; i < index; i++)
+            {
+                Move(i + 1, i);
+            }
+        }
+
+        // shift the back part one slot toward the back
+        else
+        {
+            for (int i = this.size; i > index; i--)
+            {
+                Move(i - 1, i);
+            }
+        }
+
+        Write(index, value);
+        this.size++;
+    }
+
+
+    //--------------------------------------------------
+    // This block contains methods to get the fields' data
+    // from the list.
+
+
+    /**
+     * Returns the {@code size} of the list.
+     * 
+     * @return {@code int}  : Size of the list.
+     * 
+     * @throws IllegalStateException If the list is closed.
+     */
+    public final int Size()
+    {
+        CheckOpen();
+
+        return this.size;
+    }
+
+
+    /**
+     * Returns the first value of the list.
+     * 
+     * @return {@code T} : First value of the list. 
+     * {@code null} if the list is empty.
+     * 
+     * @throws IllegalStateException If the list is closed.
+     */
+    public final T GetFirst()
+    {
+        return IsEmpty() == true ? null : Read(0);
+    }
+
+
+    /**
+     * Returns the last value of the list.
+     * 
+     * @return {@code T} : Last value of the list. 
+     * {@code null} if the list is empty.
+     * 
+     * @throws IllegalStateException If the list is closed.
+     */
+    public final T GetLast()
+    {
+        return IsEmpty() == true ? null : Read(this.size - 1);
+    }
+
+
+    /**
+     * Gets the value at the given {@code index}.
+     * 
+     * @param index : Index of the value to retrieve
+     * 
+     * @return {@code T} : Value at the given {@code index}.
+     * 
+     * @throws IndexOutOfBoundsException If the {@code index} 
+     * is not in the range from {@code 0} to {@code size - 1}.
+     * 
+     * @throws IllegalStateException If the list is closed.
+     */
+    public final T GetAt(int index)
+    {
+        CheckOpen();
+
+        // error index not in size range
+        CheckIndex(index);
+
+        return Read(index);
+    }
+
+
+    //--------------------------------------------------
+    // This block contains method to turn the list into
+    // "workable" collection, array to be specific
+
+
+    /**
+     * Converts the list into array, decoding every value 
+     * onto the heap.
+     * 
+     * @param arrayType : Array to fill when it is long 
+     * enough, otherwise an instance of 
+     * previously-defined-type array to make one from.
+     * 
+     * <p>
+     * Example: if the {@code list} holds Integer, 
+     * then 
+     * {@code Integer[] array = list.ToArray(new Integer[0])}
+     * </p>
+     * 
+     * @return {@code T[]} : Representation of the list as array. 
+     * Empty if the list is empty
+     * 
+     * @throws IllegalStateException If the list is closed.
+     */
+    @SuppressWarnings("unchecked")
+    public final T[] ToArray(T[] arrayType)
+    {
+        CheckOpen();
+
+
+        // reuse the array when it is long enough, the slot
+        // after the last value marks the end
+        if (arrayType.length < this.size)
+        {
+            arrayType = (T[]) Array.newInstance(arrayType.getClass().componentType(), this.size);
+        }
+        else if (arrayType.length > this.size)
+        {
+            arrayType[this.size] = null;
+        }
+
+        for (int i = 0; i < this.size; i++)
+        {
+            arrayType[i] = Read(i);
+        }
+
+        return arrayType;
+    }
+
+
+    //--------------------------------------------------
+    // This block contains swap method
+
+
+    /**
+     * Swaps two values, byte by byte without decoding them.
+     * 
+     * @param index1 : Index of the first value.
+     * 
+     * @param index2 : Index of the second value.
+     * 
+     * @throws IndexOutOfBoundsException If the {@code index} 
+     * is not in the range from {@code 0} to {@code size - 1}.
+     * 
+     * @throws IllegalStateException If the list is closed.
+     */
+    public final void Swap(int index1, int index2)
+    {
+        CheckOpen();
+
+        // error index out of size range
+        CheckIndex(index1);
+        CheckIndex(index2);
+
+
+        // swap the same value -> no swap
+        if (index1 == index2)
+        {
+            return;
+        }
+
+
+        final int arrayIndex1 = IndexOf(index1);
+        final int arrayIndex2 = IndexOf(index2);
+
+        SegmentOf(arrayIndex1).get(OffsetOf(arrayIndex1), this.swapBuffer);
+        SegmentOf(arrayIndex1).put(OffsetOf(arrayIndex1), SegmentOf(arrayIndex2), OffsetOf(arrayIndex2), this.width);
+        SegmentOf(arrayIndex2).put(OffsetOf(arrayIndex2), this.swapBuffer);
+    }
+
+
+    //--------------------------------------------------
+    // This block contains sorting method, using Heap Sort
+
+
+    /**
+     * Sorts the list in a non-decreasing manner using Heap 
+     * Sort. The values are moved in place as bytes, so the 
+     * sort needs no extra memory proportional to the size, 
+     * but it is not stable. Values are still decoded to be 
+     * compared, so every comparison allocates.
+     * 
+     * @throws IllegalStateException If the list is closed.
+     */
+    public final void Sort()
+    {
+        CheckOpen();
+
+
+        // build the max heap
+        for (int i = this.size / 2 - 1; i >= 0; i--)
+        {
+            SiftDown(i, this.size);
+        }
+
+
+        // move the largest value behind the heap, one by one
+        for (int heapSize = this.size - 1; heapSize > 0; heapSize--)
+        {
+            Swap(0, heapSize);
+            SiftDown(0, heapSize);
+        }
+    }
+
+
+    /**
+     * Moves the value at the given position down the max 
+     * heap until both its children are not larger.
+     * 
+     * @param position : Position of the value.
+     * 
+     * @param heapSize : Number of values in the heap.
+     */
+    private final void SiftDown(int position, int heapSize)
+    {
+        T value = Read(position);
+
+        while (true)
+        {
+            final int leftChild = 2 * position + 1;
+
+            if (leftChild >= heapSize)
+            {
+                return;
+            }
+
+
+            // pick the larger child
+            int largerChild = leftChild;
+            T childValue = Read(leftChild);
+
+            if (leftChild + 1 < heapSize)
+            {
+                final T rightValue = Read(leftChild + 1);
+
+                if (rightValue.compareTo(childValue) > 0)
+                {
+                    largerChild = leftChild + 1;
+                    childValue = rightValue;
+                }
+            }
+
+
+            // heap order restored
+            if (childValue.compareTo(value) <= 0)
+            {
+                return;
+            }
+
+            Swap(position, largerChild);
+            position = largerChild;
+        }
+    }
+}
@@ -0,0 +1,789 @@
+package com.vincentdao.List;
+
+import java.lang.reflect.Array;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+
+/**
+ * <p>
+ * Immutable list whose changes return a new version instead 
+ * of changing the list. Every version is a height-balanced 
+ * (AVL) tree ordered by position, where every {@code Node} 
+ * knows the size of its subtree. A change copies only the 
+ * O(log n) {@code Node}s on the path to the index, and the 
+ * new version shares every other {@code Node} with the old 
+ * one.
+ * </p>
+ * 
+ * <p>
+ * {@code AddFirst}, {@code AddLast}, {@code AddAt}, 
+ * {@code RemoveAt}, {@code Set} and {@code GetAt} are all 
+ * O(log n). Since a version never changes, handing it to 
+ * another thread is an O(1) snapshot, and reading it needs 
+ * no lock.
+ * </p>
+ * 
+ * <p>
+ * Example: 
+ * {@code PersistentList<Integer> list = PersistentList.<Integer>Empty().AddLast(1).AddLast(2);}
+ * </p>
+ * 
+ * @version 0.1
+ * 
+ * @author vincentdao
+ */
+public final class PersistentList<T> implements Iterable<T>
+{
+    //--------------------------------------------------
+    // This block contains the class for node.
+
+
+    /** Represents an immutable {@code Node} of the tree. */
+    static final class Node<T>
+    {
+        /** Value of the node. */
+        final T value;
+
+        /** Subtree of the values before this one. */
+        final Node<T> leftNode;
+
+        /** Subtree of the values after this one. */
+        final Node<T> rightNode;
+
+        /** Number of values in the subtree. */
+        final int size;
+
+        /** Height of the subtree, 1 for a leaf. */
+        final int height;
+
+
+        /**
+         * Constructs a {@code Node} over two subtrees.
+         * 
+         * @param value : Value of the node.
+         * 
+         * @param leftNode : Subtree before the value.
+         * 
+         * @param rightNode : Subtree after the value.
+         */
+        Node(T value, Node<T> leftNode, Node<T> rightNode)
+        {
+            this.value = value;
+            this.leftNode = leftNode;
+            this.rightNode = rightNode;
+            this.size = SizeOf(leftNode) + 1 + SizeOf(rightNode);
+            this.height = Math.max(HeightOf(leftNode), HeightOf(rightNode)) + 1;
+        }
+    }
+
+
+    //--------------------------------------------------
+    // This block contains fields of the list.
+
+
+    /** The empty list, shared by every type. */
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    /** Root of the tree. {@code null} when the list is empty. */
+    private final Node<T> rootNode;
+
+
+    //--------------------------------------------------
+    // This block contains constructors for the list.
+
+
+    /**
+     * Constructs the version over the given tree.
+     * 
+     * @param rootNode : Root of the tree.
+     */
+    private PersistentList(Node<T> rootNode)
+    {
+        this.rootNode = rootNode;
+    }
+
+
+    /**
+     * Returns the empty list.
+     * 
+     * @return {@code PersistentList<T>} : Empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentList<T> Empty()
+    {
+        return (PersistentList<T>) EMPTY;
+    }
+
+
+    /**
+     * Builds a list holding the values of the array, in 
+     * order, in O(n).
+     * 
+     * @param values : Values of the list.
+     * 
+     * @return {@code PersistentList<T>} : List of the values.
+     * 
+     * @throws NullPointerException If the {@code values} 
+     * is {@code null}.
+     */
+    public static <T> PersistentList<T> Of(T[] values)
+    {
+        return values.length == 0 ? Empty() : new PersistentList<>(Build(values, 0, values.length));
+    }
+
+
+    //--------------------------------------------------
+    // This block contains utilities methods for the list.
+
+
+    /**
+     * Checks if the list is empty.
+     * 
+     * @return {@code true} is the list is empty, {@code false} otherwise.
+     */
+    public final boolean IsEmpty()
+    {
+        return this.rootNode == null;
+    }
+
+
+    /**
+     * Gets the size of a subtree.
+     * 
+     * @param node : Root of the subtree.
+     * 
+     * @return {@code int} : Number of values. {@code 0} for 
+     * an empty subtree.
+     */
+    static int SizeOf(Node<?> node)
+    {
+        return node == null ? 0 : node.size;
+    }
+
+
+    /**
+     * Gets the height of a subtree.
+     * 
+     * @param node : Root of the subtree.
+     * 
+     * @return {@code int} : Height. {@code 0} for an empty 
+     * subtree.
+     */
+    static int HeightOf(Node<?> node)
+    {
+        return node == null ? 0 : node.height;
+    }
+
+
+    /**
+     * Builds a perfectly balanced tree over part of an array.
+     * 
+     * @param values : Values of the tree.
+     * 
+     * @param fromIndex : First index of the part.
+     * 
+     * @param toIndex : Index after the last of the part.
+     * 
+     * @return {@code Node<T>} : Root of the tree. 
+     * {@code null} for an empty part.
+     */
+    private static <T> Node<T> Build(T[] values, int fromIndex, int toIndex)
+    {
+        if (fromIndex == toIndex)
+        {
+            return null;
+        }
+
+        final int middle = (fromIndex + toIndex) >>> 1;
+
+        return new Node<>(values[middle], Build(values, fromIndex, middle), Build(values, middle + 1, toIndex));
+    }
+
+
+    /**
+     * Makes a {@code Node} over two subtrees whose heights 
+     * differ by at most 2, rotating once or twice so that 
+     * they differ by at most 1.
+     * 
+     * @param value : Value of the node.
+     * 
+     * @param leftNode : Subtree before the value.
+     * 
+     * @param rightNode : Subtree after the value.
+     * 
+     * @return {@code Node<T>} : Root of the balanced subtree.
+     */
+    private static <T> Node<T> Balance(T value, Node<T> leftNode, Node<T> rightNode)
+    {
+        final int leftHeight = HeightOf(leftNode);
+        final int rightHeight = HeightOf(rightNode);
+
+
+        // left side too tall
+        if (leftHeight > rightHeight + 1)
+        {
+            // rotate right
+            if (HeightOf(leftNode.leftNode) >= HeightOf(leftNode.rightNode))
+            {
+                return new Node<>(leftNode.value, leftNode.leftNode,
+                    new Node<>(value, leftNode.rightNode, rightNode));
+            }
+
+
+            // rotate left, then right
+            final Node<T> pivotNode = leftNode.rightNode;
+
+            return new Node<>(pivotNode.value,
+                new Node<>(leftNode.value, leftNode.leftNode, pivotNode.leftNode),
+                new Node<>(value, pivotNode.rightNode, rightNode));
+        }
+
+
+        // right side too tall
+        if (rightHeight > leftHeight + 1)
+        {
+            // rotate left
+            if (HeightOf(rightNode.rightNode) >= HeightOf(rightNode.leftNode))
+            {
+                return new Node<>(rightNode.value,
+                    new Node<>(value, leftNode, rightNode.leftNode), rightNode.rightNode);
+            }
+
+
+            // rotate right, then left
+            final Node<T> pivotNode = rightNode.leftNode;
+
+            return new Node<>(pivotNode.value,
+                new Node<>(value, leftNode, pivotNode.leftNode),
+                new Node<>(rightNode.value, pivotNode.rightNode, rightNode.rightNode));
+        }
+
+        return new Node<>(value, leftNode, rightNode);
+    }
+
+
+    /**
+     * Copies the path to the index, with the value inserted.
+     * 
+     * @param node : Root of the subtree.
+     * 
+     * @param index : Index in the subtree, from {@code 0} to 
+     * its size.
+     * 
+     * @param value : Value to insert.
+     * 
+     * @return {@code Node<T>} : Root of the new subtree.
+     */
+    private static <T> Node<T> Insert(Node<T> node, int index, T value)
+    {
+        if (node == null)
+        {
+            return new Node<>(value, null, null);
+        }
+
+        final int leftSize = SizeOf(node.leftNode);
+
+        if (index <= leftSize)
+        {
+            return Balance(node.value, Insert(node.leftNode, index, value), node.rightNode);
+        }
+
+        return Balance(node.value, node.leftNode, Insert(node.rightNode, index - leftSize - 1, value));
+    }
+
+
+    /**
+     * Copies the path to the index, without the value at 
+     * the index.
+     * 
+     * @param node : Root of the subtree.
+     * 
+     * @param index : Index in the subtree, from {@code 0} to 
+     * its size minus 1.
+     * 
+     * @return {@code Node<T>} : Root of the new subtree.
+     */
+    private static <T> Node<T> Delete(Node<T> node, int index)
+    {
+        final int leftSize = SizeOf(node.leftNode);
+
+        if (index < leftSize)
+        {
+            return Balance(node.value, Delete(node.leftNode, index), node.rightNode);
+        }
+
+        if (index > leftSize)
+        {
+            return Balance(node.value, node.leftNode, Delete(node.rightNode, index - leftSize - 1));
+        }
+
+
+        // the node itself, replaced by the first value after
+        // it when it has two subtrees
+        if (node.leftNode == null)
+        {
+            return node.rightNode;
+        }
+
+        if (node.rightNode == null)
+        {
+            return node.leftNode;
+        }
+
+        return Balance(NodeAt(node.rightNode, 0).value, node.leftNode, Delete(node.rightNode, 0));
+    }
+
+
+    /**
+     * Copies the path to the index, with the value at the 
+     * index replaced.
+     * 
+     * @param node : Root of the subtree.
+     * 
+     * @param index : Index in the subtree.
+     * 
+     * @param value : New value.
+     * 
+     * @return {@code Node<T>} : Root of the new subtree.
+     */
+    private static <T> Node<T> Replace(Node<T> node, int index, T value)
+    {
+        final int leftSize = SizeOf(node.leftNode);
+
+        if (index < leftSize)
+        {
+            return new Node<>(node.value, Replace(node.leftNode, index, value), node.rightNode);
+        }
+
+        if (index > leftSize)
+        {
+            return new Node<>(node.value, node.leftNode, Replace(node.rightNode, index - leftSize - 1, value));
+        }
+
+        return new Node<>(value, node.leftNode, node.rightNode);
+    }
+
+
+    /**
+     * Gets the {@code Node} at the index, going down by the 
+     * sizes of the subtrees.
+     * 
+     * @param node : Root of the subtree.
+     * 
+     * @param index : Index in the subtree.
+     * 
+     * @return {@code Node<T>} : {@code Node} at the index.
+     */
+    private static <T> Node<T> NodeAt(Node<T> node, int index)
+    {
+        Node<T> workingNode = node;
+        int workingIndex = index;
+
+        while (true)
+        {
+            final int leftSize = SizeOf(workingNode.leftNode);
+
+            if (workingIndex < leftSize)
+            {
+                workingNode = workingNode.leftNode;
+            }
+            else if (workingIndex > leftSize)
+            {
+                workingIndex -= leftSize + 1;
+                workingNode = workingNode.rightNode;
+            }
+            else
+            {
+                return workingNode;
+            }
+        }
+    }
+
+
+    /**
+     * Wraps a tree into a version of the list.
+     * 
+     * @param rootNode : Root of the tree.
+     * 
+     * @return {@code PersistentList<T>} : Version over the tree.
+     */
+    private static <T> PersistentList<T> Of(Node<T> rootNode)
+    {
+        return rootNode == null ? Empty() : new PersistentList<>(rootNode);
+    }
+
+
+    //--------------------------------------------------
+    // This block contains adding methods. Every one of them
+    // returns a new version, and leaves this one unchanged.
+
+
+    /**
+     * Adds the value to the beginning of the list.
+     * 
+     * @param value : Value to add.
+     * 
+     * @return {@code PersistentList<T>} : New version with 
+     * the value.
+     */
+    public final PersistentList<T> AddFirst(T value)
+    {
+        return Of(Insert(this.rootNode, 0, value));
+    }
+
+
+    /**
+     * Adds the value to the end of the list.
+     * 
+     * @param value : Value to add.
+     * 
+     * @return {@code PersistentList<T>} : New version with 
+     * the value.
+     */
+    public final PersistentList<T> AddLast(T value)
+    {
+        return Of(Insert(this.rootNode, Size(), value));
+    }
+
+
+    /**
+     * Adds the value at the given index. The values from 
+     * the index on move one index up.
+     * 
+     * @param value : Value to add.
+     * 
+     * @param index : Index to add to.
+     * 
+     * @return {@code PersistentList<T>} : New version with 
+     * the value.
+     * 
+     * @throws IndexOutOfBoundsException If the {@code index} 
+     * is not in the range from {@code 0} to {@code size}.
+     */
+    public final PersistentList<T> AddAt(T value, int index)
+    {
+        // error index not in size range
+        if (index < 0 || Size() < index)
+        {
+            throw new IndexOutOfBoundsException();
+        }
+
+        return Of(Insert(this.rootNode, index, value));
+    }
+
+
+    /**
+     * Replaces the value at the given index.
+     * 
+     * @param index : Index of the value.
+     * 
+     * @param value : New value.
+     * 
+     * @return {@code PersistentList<T>} : New version with 
+     * the value replaced.
+     * 
+     * @throws IndexOutOfBoundsException If the {@code index} 
+     * is not in the range from {@code 0} to {@code size - 1}.
+     */
+    public final PersistentList<T> Set(int index, T value)
+    {
+        // error index not in size range
+        if (index < 0 || Size() - 1 < index)
+        {
+            throw new IndexOutOfBoundsException();
+        }
+
+        return Of(Replace(this.rootNode, index, value));
+    }
+
+
+    //--------------------------------------------------
+    // This block contains removal methods. Every one of them
+    // returns a new version, and leaves this one unchanged.
+
+
+    /**
+     * Removes the first value of the list.
+     * 
+     * @return {@code PersistentList<T>} : New version without 
+     * the value.
+     * 
+     * @throws NoSuchElementException If the list is empty.
+     */
+    public final PersistentList<T> RemoveFirst()
+    {
+        // error empty list
+        if (IsEmpty() == true)
+        {
+            throw new NoSuchElementException();
+        }
+
+        return Of(Delete(this.rootNode, 0));
+    }
+
+
+    /**
+     * Removes the last value of the list.
+     * 
+     * @return {@code PersistentList<T>} : New version without 
+     * the value.
+     * 
+     * @throws NoSuchElementException If the list is empty.
+     */
+    public final PersistentList<T> RemoveLast()
+    {
+        // error empty list
+        if (IsEmpty() == true)
+        {
+            throw new NoSuchElementException();
+        }
+
+        return Of(Delete(this.rootNode, Size() - 1));
+    }
+
+
+    /**
+     * Removes the value at the given index. The values 
+     * after it move one index down.
+     * 
+     * @param index : Index of the value, starts from 0.
+     * 
+     * @return {@code PersistentList<T>} : New version without 
+     * the value.
+     * 
+     * @throws IndexOutOfBoundsException If the {@code index} 
+     * is not in the range from {@code 0} to {@code size - 1}.
+     */
+    public final PersistentList<T> RemoveAt(int index)
+    {
+        // error index not in size range
+        if (index < 0 || Size() - 1 < index)
+        {
+            throw new IndexOutOfBoundsException();
+        }
+
+        return Of(Delete(this.rootNode, index));
+    }
+
+
+    //--------------------------------------------------
+    // This block contains methods to get the fields' data 
+    // from the list.
+
+
+    /**
+     * Returns the {@code size} of the list.
+     * 
+     * @return {@code int}  : Size of the list.
+     */
+    public final int Size()
+    {
+        return SizeOf(this.rootNode);
+    }
+
+
+    /**
+     * Returns the first value of the list.
+     * 
+     * @return {@code T} : First value of the list. 
+     * {@code null} if the list is empty.
+     */
+    public final T GetFirst()
+    {
+        return IsEmpty() == true ? null : NodeAt(this.rootNode, 0).value;
+    }
+
+
+    /**
+     * Returns the last value of the list.
+     * 
+     * @return {@code T} : Last value of the list. 
+     * {@code null} if the list is empty.
+     */
+    public final T GetLast()
+    {
+        return IsEmpty() == true ? null : NodeAt(this.rootNode, Size() - 1).value;
+    }
+
+
+    /**
+     * Gets the value at the given {@code index}.
+     * 
+     * @param index : Index of the value to retrieve
+     * 
+     * @return {@code T} : Value at the given {@code index}.
+     * 
+     * @throws IndexOutOfBoundsException If the {@code index} 
+     * is not in the range from {@code 0} to {@code size - 1}.
+     */
+    public final T GetAt(int index)
+    {
+        // error index not in size range
+        if (index < 0 || Size() - 1 < index)
+        {
+            throw new IndexOutOfBoundsException();
+        }
+
+        return NodeAt(this.rootNode, index).value;
+    }
+
+
+    //--------------------------------------------------
+    // This block contains method to turn the list into
+    // "workable" collection, array to be specific
+
+
+    /**
+     * Converts the list into array.
+     * 
+     * @param arrayType : Array to fill when it is long 
+     * enough, otherwise an instance of 
+     * previously-defined-type array to make one from.
+     * 
+     * <p>
+     * Example: if the {@code list} holds Integer, 
+     * then 
+     * {@code Integer[] array = list.ToArray(new Integer[0])}
+     * </p>
+     * 
+     * @return {@code T[]} : Representation of the list as array. 
+     * Empty if the list is empty
+     */
+    @SuppressWarnings("unchecked")
+    public final T[] ToArray(T[] arrayType)
+    {
+        // reuse the array when it is long enough, the slot
+        // after the last value marks the end
+        if (arrayType.length < Size())
+        {
+            arrayType = (T[]) Array.newInstance(arrayType.getClass().componentType(), Size());
+        }
+        else if (arrayType.length > Size())
+        {
+            arrayType[Size()] = null;
+        }
+
+        int i = 0;
+
+        for (T value : this)
+        {
+            arrayType[i++] = value;
+        }
+
+        return arrayType;
+    }
+
+
+    //--------------------------------------------------
+    // This block contains iterators over the list
+
+
+    /**
+     * Iterator walking the tree in order, with a stack of 
+     * the {@code Node}s whose right subtree is left to walk. 
+     * The version never changes, so the iterator never fails.
+     */
+    private static final class NodeIterator<T> implements Iterator<T>
+    {
+        /** {@code Node}s left to return, the next one on top. */
+        private final Node<T>[] pendingNodes;
+
+        /** Number of {@code Node}s in {@code pendingNodes}. */
+        private int pendingCount;
+
+
+        /**
+         * Constructs an iterator before the first value.
+         * 
+         * @param rootNode : Root of the tree.
+         */
+        @SuppressWarnings("unchecked")
+        NodeIterator(Node<T> rootNode)
+        {
+            this.pendingNodes = (Node<T>[]) new Node<?>[HeightOf(rootNode)];
+            this.pendingCount = 0;
+            PushLeftSpine(rootNode);
+        }
+
+
+        /**
+         * Pushes a {@code Node} and every left child below it.
+         * 
+         * @param node : Root of the subtree to walk.
+         */
+        private void PushLeftSpine(Node<T> node)
+        {
+            for (Node<T> workingNode = node; workingNode != null; workingNode = workingNode.leftNode)
+            {
+                this.pendingNodes[this.pendingCount++] = workingNode;
+            }
+        }
+
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.pendingCount > 0;
+        }
+
+
+        @Override
+        public T next()
+        {
+            // error no value left
+            if (this.pendingCount == 0)
+            {
+                throw new NoSuchElementException();
+            }
+
+            final Node<T> workingNode = this.pendingNodes[--this.pendingCount];
+
+            PushLeftSpine(workingNode.rightNode);
+
+            return workingNode.value;
+        }
+    }
+
+
+    /**
+     * Returns an iterator over the values of the list, from 
+     * the first to the last.
+     * 
+     * @return {@code Iterator<T>} : Iterator of the version.
+     */
+    @Override
+    public final Iterator<T> iterator()
+    {
+        return new NodeIterator<>(this.rootNode);
+    }
+
+
+    /**
+     * Returns a spliterator over the values of the list, 
+     * with an exact size.
+     * 
+     * @return {@code Spliterator<T>} : Spliterator of the 
+     * version.
+     */
+    @Override
+    public final Spliterator<T> spliterator()
+    {
+        return Spliterators.spliterator(iterator(), Size(), Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+
+    /**
+     * Returns a sequential stream over the values of the list.
+     * 
+     * @return {@code Stream<T>} : Stream of the values.
+     */
+    public final Stream<T> Stream()
+    {
+        return StreamSupport.stream(spliterator(), false);
+    }
+}
@@ -0,0 +1,746 @@
+package com.vincentdao.List;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+
+
+/**
+ * <p>
+ * Priority implementation of the Queue ADT, where 
+ * {@code Dequeue} returns the smallest value instead of the 
+ * oldest. Backed by a d-ary heap in an array: every value is 
+ * not greater than its {@code arity} children, so the 
+ * smallest value is at index 0.
+ * </p>
+ * 
+ * <p>
+ * {@code Enqueue} and {@code Dequeue} are O(log n), 
+ * {@code First} is O(1), and building from an array is O(n). 
+ * An arity of 4 keeps the heap shallower than a binary one, 
+ * and the children of a value share a cache line.
+ * </p>
+ * 
+ * <p>
+ * A value enqueued with {@code EnqueueWithHandle} can be 
+ * made smaller in place with {@code DecreaseKey}, in 
+ * O(log n). The heap only tracks positions once the first 
+ * handle is made, so a queue without handles pays nothing 
+ * for them.
+ * </p>
+ * 
+ * <p>
+ * {@code null} values are not permitted, since they cannot 
+ * be ordered. Equal values are dequeued in no particular 
+ * order.
+ * </p>
+ * 
+ * @version 0.1
+ * 
+ * @author vincentdao
+ */
+public final class PriorityQueue<T> implements IQueue<T>
+{
+    //--------------------------------------------------
+    // This block contains the class for handle.
+
+
+    /**
+     * Handle to a value in the queue, returned by 
+     * {@code EnqueueWithHandle} and given to 
+     * {@code DecreaseKey}.
+     */
+    public static final class Handle<T>
+    {
+        /** Queue holding the value. */
+        private final PriorityQueue<T> queue;
+
+        /** Value of the handle. */
+        private T value;
+
+        /** Index of the value in the heap. {@code -1} once dequeued. */
+        private int index;
+
+
+        /**
+         * Constructs a handle to a value of the queue.
+         * 
+         * @param queue : Queue holding the value.
+         * 
+         * @param value : Value of the handle.
+         */
+        private Handle(PriorityQueue<T> queue, T value)
+        {
+            this.queue = queue;
+            this.value = value;
+            this.index = -1;
+        }
+
+
+        /**
+         * Gets the value of the handle.
+         * 
+         * @return {@code T} : Current value.
+         */
+        public final T GetValue()
+        {
+            return this.value;
+        }
+
+
+        /**
+         * Checks if the value is still in the queue.
+         * 
+         * @return {@code true} if it is not dequeued yet, 
+         * {@code false} otherwise.
+         */
+        public final boolean IsQueued()
+        {
+            return this.index >= 0;
+        }
+    }
+
+
+    //--------------------------------------------------
+    // This block contains fields of the queue.
+
+
+    /** Number of children of a value when none is given. */
+    public static final int DEFAULT_ARITY = 4;
+
+    /** Capacity used when none is given, and after clearing. */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * Natural order of the values. The values have to be 
+     * {@code Comparable} to each other, or enqueuing fails 
+     * with {@code ClassCastException}.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final Comparator<Object> NATURAL_ORDER =
+        (leftValue, rightValue) -> ((Comparable) leftValue).compareTo(rightValue);
+
+    /** Order of the values. */
+    private final Comparator<? super T> comparator;
+
+    /** Number of children of a value. */
+    private final int arity;
+
+    /** Array holding the heap. */
+    private T[] elements;
+
+    /**
+     * Handle of every value of the heap, {@code null} for a 
+     * value enqueued without one. {@code null} until the 
+     * first handle is made.
+     */
+    private Handle<T>[] handles;
+
+    /** Size of the queue. */
+    private int size;
+
+
+    //--------------------------------------------------
+    // This block contains constructors for the queue.
+
+
+    /**
+     * Constructs an empty 4-ary queue, ordered by the 
+     * natural order of the values.
+     */
+    public PriorityQueue()
+    {
+        this(NATURAL_ORDER, DEFAULT_ARITY);
+    }
+
+
+    /**
+     * Constructs an empty 4-ary queue.
+     * 
+     * @param comparator : Order of the values, the smallest 
+     * is dequeued first.
+     * 
+     * @throws NullPointerException If the 
+     * {@code comparator} is {@code null}.
+     */
+    public PriorityQueue(Comparator<? super T> comparator)
+    {
+        this(comparator, DEFAULT_ARITY);
+    }
+
+
+    /**
+     * Constructs an empty queue.
+     * 
+     * @param comparator : Order of the values, the smallest 
+     * is dequeued first.
+     * 
+     * @param arity : Number of children of a value.
+     * 
+     * @throws IllegalArgumentException If the {@code arity} 
+     * is less than 2.
+     * 
+     * @throws NullPointerException If the 
+     * {@code comparator} is {@code null}.
+     */
+    public PriorityQueue(Comparator<? super T> comparator, int arity)
+    {
+        // error null comparator
+        if (comparator == null)
+        {
+            throw new NullPointerException();
+        }
+
+
+        // error arity too small
+        if (arity < 2)
+        {
+            throw new IllegalArgumentException();
+        }
+
+        this.comparator = comparator;
+        this.arity = arity;
+        this.elements = NewArray(DEFAULT_CAPACITY);
+        this.handles = null;
+        this.size = 0;
+    }
+
+
+    /**
+     * Constructs a 4-ary queue holding the values of the 
+     * array, ordered by the natural order of the values.
+     * 
+     * @param values : Values of the queue.
+     * 
+     * @throws NullPointerException If the {@code values} 
+     * is or holds {@code null}.
+     */
+    public PriorityQueue(T[] values)
+    {
+        this(values, NATURAL_ORDER, DEFAULT_ARITY);
+    }
+
+
+    /**
+     * Constructs a queue holding the values of the array. 
+     * The heap is built bottom-up in O(n), instead of 
+     * enqueuing every value in O(n log n).
+     * 
+     * @param values : Values of the queue.
+     * 
+     * @param comparator : Order of the values, the smallest 
+     * is dequeued first.
+     * 
+     * @param arity : Number of children of a value.
+     * 
+     * @throws IllegalArgumentException If the {@code arity} 
+     * is less than 2.
+     * 
+     * @throws NullPointerException If the {@code values} 
+     * is or holds {@code null}, or the {@code comparator} is 
+     * {@code null}.
+     */
+    public PriorityQueue(T[] values, Comparator<? super T> comparator, int arity)
+    {
+        this(comparator, arity);
+
+        this.elements = NewArray(Math.max(DEFAULT_CAPACITY, values.length));
+
+        for (T value : values)
+        {
+            // error null value
+            if (value == null)
+            {
+                throw new NullPointerException();
+            }
+
+            this.elements[this.size++] = value;
+        }
+
+
+        // sift down every value that has children, the last
+        // one first
+        for (int i = (this.size - 2) / arity; i >= 0; i--)
+        {
+            SiftDown(i, this.elements[i], null, this.size);
+        }
+    }
+
+
+    //--------------------------------------------------
+    // This block contains utilities methods for the queue.
+
+
+    /**
+     * Checks if the queue is empty.
+     * 
+     * @return {@code true} is the queue is empty, {@code false} otherwise.
+     */
+    public final boolean IsEmpty()
+    {
+        return this.size == 0;
+    }
+
+
+    /**
+     * Creates the heap array. The erasure of {@code T} 
+     * is {@code Object}, so the cast is safe as long as 
+     * the array never leaves the queue.
+     * 
+     * @param capacity : Length of the array.
+     * 
+     * @return {@code T[]} : Empty array.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T[] NewArray(int capacity)
+    {
+        return (T[]) new Object[capacity];
+    }
+
+
+    /**
+     * Doubles the capacity of the arrays when they are full.
+     */
+    private final void GrowIfFull()
+    {
+        if (this.size < this.elements.length)
+        {
+            return;
+        }
+
+        final int capacity = this.elements.length * 2;
+        final T[] newElements = NewArray(capacity);
+
+        System.arraycopy(this.elements, 0, newElements, 0, this.size);
+        this.elements = newElements;
+
+        if (this.handles != null)
+        {
+            this.handles = Arrays.copyOf(this.handles, capacity);
+        }
+    }
+
+
+    /**
+     * Puts a value at an index of the heap, and moves its 
+     * handle along with it when there are handles.
+     * 
+     * @param index : Index in the heap.
+     * 
+     * @param value : Value to put.
+     * 
+     * @param handle : Handle of the value, or {@code null}.
+     */
+    private final void Place(int index, T value, Handle<T> handle)
+    {
+        this.elements[index] = value;
+
+        if (this.handles != null)
+        {
+            this.handles[index] = handle;
+
+            if (handle != null)
+            {
+                handle.index = index;
+            }
+        }
+    }
+
+
+    /**
+     * Gets the handle at an index of the heap.
+     * 
+     * @param index : Index in the heap.
+     * 
+     * @return {@code Handle<T>} : Handle of the value. 
+     * {@code null} if there is none.
+     */
+    private final Handle<T> HandleAt(int index)
+    {
+        return this.handles == null ? null : this.handles[index];
+    }
+
+
+    /**
+     * Moves a value up from an index while it is smaller 
+     * than its parent. Every comparison is made before the 
+     * parents are shifted down into the hole, so a comparator 
+     * that throws leaves the heap untouched, and the value is 
+     * written once at the end.
+     * 
+     * @param index : Index of the hole to start from.
+     * 
+     * @param value : Value to place.
+     * 
+     * @param handle : Handle of the value, or {@code null}.
+     */
+    private final void SiftUp(int index, T value, Handle<T> handle)
+    {
+        // find where the value stops first
+        int targetIndex = index;
+
+        while (targetIndex > 0)
+        {
+            final int parentIndex = (targetIndex - 1) / this.arity;
+
+            if (this.comparator.compare(value, this.elements[parentIndex]) >= 0)
+            {
+                break;
+            }
+
+            targetIndex = parentIndex;
+        }
+
+
+        // then shift the parents down into the hole
+        int holeIndex = index;
+
+        while (holeIndex > targetIndex)
+        {
+            final int parentIndex = (holeIndex - 1) / this.arity;
+
+            Place(holeIndex, this.elements[parentIndex], HandleAt(parentIndex));
+            holeIndex = parentIndex;
+        }
+
+        Place(targetIndex, value, handle);
+    }
+
+
+    /**
+     * Moves a value down from an index while one of its 
+     * children is smaller. Every comparison is made before 
+     * the smallest children are shifted up into the hole, so 
+     * a comparator that throws leaves the heap untouched, and 
+     * the value is written once at the end.
+     * 
+     * @param index : Index of the hole to start from.
+     * 
+     * @param value : Value to place.
+     * 
+     * @param handle : Handle of the value, or {@code null}.
+     * 
+     * @param heapSize : Number of values in the heap, the 
+     * slots after them are left alone.
+     */
+    private final void SiftDown(int index, T value, Handle<T> handle, int heapSize)
+    {
+        // find where the value stops first
+        int targetIndex = index;
+
+        while (true)
+        {
+            final int firstChild = targetIndex * this.arity + 1;
+
+            if (firstChild >= heapSize)
+            {
+                break;
+            }
+
+
+            // smallest of the children
+            final int lastChild = Math.min(firstChild + this.arity, heapSize);
+            int smallestChild = firstChild;
+
+            for (int childIndex = firstChild + 1; childIndex < lastChild; childIndex++)
+            {
+                if (this.comparator.compare(this.elements[childIndex], this.elements[smallestChild]) < 0)
+                {
+                    smallestChild = childIndex;
+                }
+            }
+
+            if (this.comparator.compare(this.elements[smallestChild], value) >= 0)
+            {
+                break;
+            }
+
+            targetIndex = smallestChild;
+        }
+
+
+        // then shift the children on the path up into the 
+        // hole, from the target back to the hole
+        T shiftedValue = value;
+        Handle<T> shiftedHandle = handle;
+        int pathIndex = targetIndex;
+
+        while (true)
+        {
+            final T upValue = this.elements[pathIndex];
+            final Handle<T> upHandle = HandleAt(pathIndex);
+
+            Place(pathIndex, shiftedValue, shiftedHandle);
+
+            if (pathIndex == index)
+            {
+                break;
+            }
+
+            shiftedValue = upValue;
+            shiftedHandle = upHandle;
+            pathIndex = (pathIndex - 1) / this.arity;
+        }
+    }
+
+
+    //--------------------------------------------------
+    // This block contains clear method to destroy the queue
+
+
+    /**
+     * Empties the queue, and shrinks the array back to its 
+     * default capacity. Every handle stops being queued.
+     */
+    @Override
+    public final void Clear()
+    {
+        if (this.handles != null)
+        {
+            for (int i = 0; i < this.size; i++)
+            {
+                if (this.handles[i] != null)
+                {
+                    this.handles[i].index = -1;
+                }
+            }
+
+            this.handles = null;
+        }
+
+        this.elements = NewArray(DEFAULT_CAPACITY);
+        this.size = 0;
+    }
+
+
+    //--------------------------------------------------
+    // This block contains methods for Queue ADT
+
+
+    /**
+     * Adds value to the Queue, at its place in the heap.
+     * 
+     * @param value : Value to add to the Queue.
+     * 
+     * @throws NullPointerException If the {@code value} 
+     * is {@code null}.
+     */
+    @Override
+    public final void Enqueue(T value)
+    {
+        // error null value
+        if (value == null)
+        {
+            throw new NullPointerException();
+        }
+
+        GrowIfFull();
+
+
+        // counted only once placed, so a comparator that
+        // throws leaves no empty slot in the queue
+        SiftUp(this.size, value, null);
+        this.size++;
+    }
+
+
+    /**
+     * Removes the smallest value from the Queue and returns 
+     * itself. If the comparator throws, the queue is left 
+     * unchanged.
+     * 
+     * @return {@code T} : Smallest value of the Queue.
+     * 
+     * @throws NoSuchElementException If the queue is empty.
+     */
+    @Override
+    public final T Dequeue()
+    {
+        // error empty queue
+        if (IsEmpty() == true)
+        {
+            throw new NoSuchElementException();
+        }
+
+        final T value = this.elements[0];
+        final Handle<T> handle = HandleAt(0);
+        final int lastIndex = this.size - 1;
+        final T lastValue = this.elements[lastIndex];
+        final Handle<T> lastHandle = HandleAt(lastIndex);
+
+
+        // the last value sinks from the root, over the heap 
+        // without its slot, before anything is removed, so a 
+        // comparator that throws leaves the queue unchanged
+        if (lastIndex > 0)
+        {
+            SiftDown(0, lastValue, lastHandle, lastIndex);
+        }
+
+        Place(lastIndex, null, null);
+        this.size = lastIndex;
+
+        if (handle != null)
+        {
+            handle.index = -1;
+        }
+
+        return value;
+    }
+
+
+    /**
+     * Gets the smallest value of the Queue.
+     * 
+     * @return {@code T} : Smallest value of the Queue. 
+     * {@code null} if the queue is empty.
+     */
+    @Override
+    public final T First()
+    {
+        return this.elements[0];
+    }
+
+
+    //--------------------------------------------------
+    // This block contains methods for handles
+
+
+    /**
+     * Adds value to the Queue, and returns a handle to 
+     * decrease it later. The first call starts tracking the 
+     * position of every value.
+     * 
+     * @param value : Value to add to the Queue.
+     * 
+     * @return {@code Handle<T>} : Handle to the value.
+     * 
+     * @throws NullPointerException If the {@code value} 
+     * is {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    public final Handle<T> EnqueueWithHandle(T value)
+    {
+        // error null value
+        if (value == null)
+        {
+            throw new NullPointerException();
+        }
+
+        if (this.handles == null)
+        {
+            this.handles = (Handle<T>[]) new Handle<?>[this.elements.length];
+        }
+
+        GrowIfFull();
+
+        final Handle<T> handle = new Handle<>(this, value);
+
+
+        // counted only once placed, so a comparator that
+        // throws leaves no empty slot in the queue
+        SiftUp(this.size, value, handle);
+        this.size++;
+
+        return handle;
+    }
+
+
+    /**
+     * Replaces the value of a handle with a value that is 
+     * not greater, and moves it up to its new place.
+     * 
+     * @param handle : Handle to the value.
+     * 
+     * @param value : New value.
+     * 
+     * @throws IllegalArgumentException If the {@code handle} 
+     * is not queued in this queue, or the {@code value} is 
+     * greater than the current one.
+     * 
+     * @throws NullPointerException If the {@code handle} or 
+     * the {@code value} is {@code null}.
+     */
+    public final void DecreaseKey(Handle<T> handle, T value)
+    {
+        // error null value
+        if (value == null)
+        {
+            throw new NullPointerException();
+        }
+
+
+        // error handle not queued here
+        if (handle.queue != this || handle.index < 0)
+        {
+            throw new IllegalArgumentException();
+        }
+
+
+        // error value increased
+        if (this.comparator.compare(value, handle.value) > 0)
+        {
+            throw new IllegalArgumentException();
+        }
+
+        SiftUp(handle.index, value, handle);
+        handle.value = value;
+    }
+
+
+    //--------------------------------------------------
+    // This block contains methods to get the fields' data
+    // from the queue.
+
+
+    /**
+     * Returns the {@code size} of the queue.
+     * 
+     * @return {@code int}  : Size of the queue.
+     */
+    @Override
+    public final int Size()
+    {
+        return this.size;
+    }
+
+
+    /**
+     * Converts the queue into array, in the order of the 
+     * heap. Only the first value is sure to be the 
+     * smallest, the rest are not sorted.
+     * 
+     * @param arrayType : Array to fill when it is long 
+     * enough, otherwise an instance of 
+     * previously-defined-type array to make one from.
+     * 
+     * <p>
+     * Example: if the {@code queue} holds Integer, 
+     * then 
+     * {@code Integer[] array = queue.ToArray(new Integer[0])}
+     * </p>
+     * 
+     * @return {@code T[]} : Representation of the queue as array. 
+     * Empty if the queue is empty
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public final T[] ToArray(T[] arrayType)
+    {
+        // reuse the array when it is long enough, the slot
+        // after the last value marks the end
+        if (arrayType.length < this.size)
+        {
+            arrayType = (T[]) Array.newInstance(arrayType.getClass().componentType(), this.size);
+        }
+        else if (arrayType.length > this.size)
+        {
+            arrayType[this.size] = null;
+        }
+
+        System.arraycopy(this.elements, 0, arrayType, 0, this.size);
+
+        return arrayType;
+    }
+}
@@ -0,0 +1,880 @@
+package com.vincentdao.List;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+
+/**
+ * <p>
+ * List that keeps its values in non-decreasing order, so it 
+ * never has to be sorted. Backed by a skip list ordered by 
+ * value, whose forward links also record their span, the 
+ * number of values they skip. Searching by value and by 
+ * index are then both O(log n) expected.
+ * </p>
+ * 
+ * <p>
+ * {@code Add}, {@code Remove}, {@code Contains}, 
+ * {@code IndexOf}, {@code Floor}, {@code Ceiling}, 
+ * {@code GetAt} and {@code RemoveAt} are O(log n) expected. 
+ * Equal values are kept in the order they were added.
+ * </p>
+ * 
+ * <p>
+ * {@code null} values are not permitted, since they cannot 
+ * be ordered.
+ * </p>
+ * 
+ * @version 0.1
+ * 
+ * @author vincentdao
+ */
+public final class SortedList<T> implements Iterable<T>
+{
+    //--------------------------------------------------
+    // This block contains the class for node.
+
+
+    /** Represents a {@code Node} in the skip list. */
+    static final class Node<T>
+    {
+        /** Value of the node. */
+        final T value;
+
+        /** Pointer to the next node on every level of the node. */
+        final Node<T>[] nextNodes;
+
+        /**
+         * Number of values skipped by the link on every 
+         * level, counting the node it points to. A link to 
+         * {@code null} spans up to the end of the list.
+         */
+        final int[] spans;
+
+
+        /**
+         * Constructs a {@code Node} with assigned value and 
+         * number of levels. The {@code Node} would not point 
+         * to any other {@code Node}.
+         * 
+         * @param value : Value of the node.
+         * 
+         * @param level : Number of levels of the node.
+         */
+        @SuppressWarnings("unchecked")
+        Node(T value, int level)
+        {
+            this.value = value;
+            this.nextNodes = (Node<T>[]) new Node<?>[level];
+            this.spans = new int[level];
+        }
+    }
+
+
+    //--------------------------------------------------
+    // This block contains fields of the list.
+
+
+    /** Largest number of levels of a {@code Node}. */
+    private static final int MAXIMUM_LEVEL = 32;
+
+    /**
+     * Natural order of the values. The values have to be 
+     * {@code Comparable} to each other, or adding fails 
+     * with {@code ClassCastException}.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final Comparator<Object> NATURAL_ORDER =
+        (leftValue, rightValue) -> ((Comparable) leftValue).compareTo(rightValue);
+
+    /** Order of the values. */
+    private final Comparator<? super T> comparator;
+
+    /** Sentinel before the first value, on every level. */
+    private final Node<T> headNode;
+
+    /** Tail pointer of the list. */
+    private Node<T> tailNode;
+
+    /**
+     * Last {@code Node} before the searched value or index 
+     * on every level, reused by every search.
+     */
+    private final Node<T>[] prevNodes;
+
+    /** Position of every {@code Node} in {@code prevNodes}. */
+    private final int[] prevPositions;
+
+    /** Number of levels in use. */
+    private int levelCount;
+
+    /** Size of the list. */
+    private int size;
+
+    /** State of the generator drawing the levels. */
+    private long randomState;
+
+    /** Number of structural changes, checked by iterators. */
+    private int modCount;
+
+
+    //--------------------------------------------------
+    // This block contains constructors for the list.
+
+
+    /**
+     * Constructs an empty list, ordered by the natural order 
+     * of the values.
+     */
+    public SortedList()
+    {
+        this(NATURAL_ORDER);
+    }
+
+
+    /**
+     * Constructs an empty list, ordered by the given 
+     * comparator.
+     * 
+     * @param comparator : Order of the values.
+     * 
+     * @throws NullPointerException If the {@code comparator} 
+     * is {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    public SortedList(Comparator<? super T> comparator)
+    {
+        // error no order
+        if (comparator == null)
+        {
+            throw new NullPointerException();
+        }
+
+        this.comparator = comparator;
+        this.headNode = new Node<>(null, MAXIMUM_LEVEL);
+        this.tailNode = null;
+        this.prevNodes = (Node<T>[]) new Node<?>[MAXIMUM_LEVEL];
+        this.prevPositions = new int[MAXIMUM_LEVEL];
+        this.levelCount = 1;
+        this.size = 0;
+        this.randomState = ThreadLocalRandom.current().nextLong() | 1L;
+        this.modCount = 0;
+    }
+
+
+    //--------------------------------------------------
+    // This block contains utilities methods for the list.
+
+
+    /**
+     * Checks if the list is empty.
+     * 
+     * @return {@code true} is the list is empty, {@code false} otherwise.
+     */
+    public final boolean IsEmpty()
+    {
+        return this.size == 0;
+    }
+
+
+    /**
+     * Draws the number of levels of a new {@code Node}. 
+     * Every level is kept with a chance of 1/4, so a level 
+     * has a quarter of the links of the level below.
+     * 
+     * @return {@code int} : Number of levels, from 1 to 
+     * {@code MAXIMUM_LEVEL}.
+     */
+    private final int RandomLevel()
+    {
+        // xorshift, two bits per level
+        long random = this.randomState;
+
+        random ^= random << 13;
+        random ^= random >>> 7;
+        random ^= random << 17;
+        this.randomState = random;
+
+        final int level = 1 + Long.numberOfTrailingZeros(random | (1L << (2 * (MAXIMUM_LEVEL - 1)))) / 2;
+
+        return Math.min(level, MAXIMUM_LEVEL);
+    }
+
+
+    /**
+     * Fills {@code prevNodes} with the last {@code Node} 
+     * before the value on every level, and 
+     * {@code prevPositions} with their positions.
+     * 
+     * @param value : Value to search for.
+     * 
+     * @param afterEqual : {@code true} to stop after the 
+     * values equal to {@code value}, {@code false} to stop 
+     * before them.
+     * 
+     * @return {@code Node} : Last {@code Node} before the 
+     * value on the bottom level. The head when there is none.
+     */
+    private final Node<T> SearchValue(T value, boolean afterEqual)
+    {
+        // error null value
+        if (value == null)
+        {
+            throw new NullPointerException();
+        }
+
+        final int stopAt = afterEqual == true ? 0 : -1;
+        Node<T> workingNode = this.headNode;
+        int workingPosition = 0;
+
+        for (int level = this.levelCount - 1; level >= 0; level--)
+        {
+            while (workingNode.nextNodes[level] != null
+                && this.comparator.compare(workingNode.nextNodes[level].value, value) <= stopAt)
+            {
+                workingPosition += workingNode.spans[level];
+                workingNode = workingNode.nextNodes[level];
+            }
+
+            this.prevNodes[level] = workingNode;
+            this.prevPositions[level] = workingPosition;
+        }
+
+        return workingNode;
+    }
+
+
+    /**
+     * Fills {@code prevNodes} with the last {@code Node} 
+     * before the index on every level.
+     * 
+     * @param index : Index to search for.
+     * 
+     * @return {@code Node} : {@code Node} at the index.
+     */
+    private final Node<T> SearchIndex(int index)
+    {
+        Node<T> workingNode = this.headNode;
+        int workingPosition = 0;
+
+        for (int level = this.levelCount - 1; level >= 0; level--)
+        {
+            while (workingNode.nextNodes[level] != null
+                && workingPosition + workingNode.spans[level] <= index)
+            {
+                workingPosition += workingNode.spans[level];
+                workingNode = workingNode.nextNodes[level];
+            }
+
+            this.prevNodes[level] = workingNode;
+            this.prevPositions[level] = workingPosition;
+        }
+
+        return workingNode.nextNodes[0];
+    }
+
+
+    /**
+     * Unlinks the {@code Node} right after 
+     * {@code prevNodes[0]}. {@code prevNodes} must have been 
+     * filled by a search stopping right before it.
+     * 
+     * @return {@code T} : Value of the removed {@code Node}.
+     */
+    private final T Unlink()
+    {
+        final Node<T> deleteNode = this.prevNodes[0].nextNodes[0];
+
+
+        // bypass the node on its levels, and shorten the
+        // links above it
+        for (int level = 0; level < this.levelCount; level++)
+        {
+            final Node<T> prevNode = this.prevNodes[level];
+
+            if (prevNode.nextNodes[level] == deleteNode)
+            {
+                prevNode.spans[level] += deleteNode.spans[level] - 1;
+                prevNode.nextNodes[level] = deleteNode.nextNodes[level];
+            }
+            else
+            {
+                prevNode.spans[level]--;
+            }
+        }
+
+
+        // drop the levels left without any node
+        while (this.levelCount > 1 && this.headNode.nextNodes[this.levelCount - 1] == null)
+        {
+            this.levelCount--;
+        }
+
+        if (deleteNode == this.tailNode)
+        {
+            this.tailNode = this.prevNodes[0] == this.headNode ? null : this.prevNodes[0];
+        }
+
+        this.size--;
+        this.modCount++;
+
+        return deleteNode.value;
+    }
+
+
+    //--------------------------------------------------
+    // This block contains clear method to destroy the list
+
+
+    /**
+     * Empties the list.
+     */
+    public final void Clear()
+    {
+        Arrays.fill(this.headNode.nextNodes, null);
+        Arrays.fill(this.headNode.spans, 0);
+        Arrays.fill(this.prevNodes, null);
+        this.tailNode = null;
+        this.levelCount = 1;
+        this.size = 0;
+        this.modCount++;
+    }
+
+
+    //--------------------------------------------------
+    // This block contains adding methods
+
+
+    /**
+     * Adds the value at its place in the order, after the 
+     * values equal to it.
+     * 
+     * @param value : Value to add.
+     * 
+     * @throws NullPointerException If the {@code value} 
+     * is {@code null}.
+     */
+    public final void Add(T value)
+    {
+        SearchValue(value, true);
+
+
+        // new levels start from the head, spanning the
+        // whole list
+        final int addingLevel = RandomLevel();
+
+        for (int level = this.levelCount; level < addingLevel; level++)
+        {
+            this.prevNodes[level] = this.headNode;
+            this.prevPositions[level] = 0;
+            this.headNode.spans[level] = this.size;
+        }
+
+        this.levelCount = Math.max(this.levelCount, addingLevel);
+
+
+        // link the node on its levels, splitting the spans
+        // it falls into
+        final Node<T> addingNode = new Node<>(value, addingLevel);
+
+        for (int level = 0; level < addingLevel; level++)
+        {
+            final Node<T> prevNode = this.prevNodes[level];
+            final int skipped = this.prevPositions[0] - this.prevPositions[level];
+
+            addingNode.nextNodes[level] = prevNode.nextNodes[level];
+            prevNode.nextNodes[level] = addingNode;
+            addingNode.spans[level] = prevNode.spans[level] - skipped;
+            prevNode.spans[level] = skipped + 1;
+        }
+
+
+        // links above the node now skip one more value
+        for (int level = addingLevel; level < this.levelCount; level++)
+        {
+            this.prevNodes[level].spans[level]++;
+        }
+
+        if (addingNode.nextNodes[0] == null)
+        {
+            this.tailNode = addingNode;
+        }
+
+        this.size++;
+        this.modCount++;
+    }
+
+
+    //--------------------------------------------------
+    // This block contains removal methods
+
+
+    /**
+     * Removes the first value equal to the given value.
+     * 
+     * @param value : Value to remove.
+     * 
+     * @return {@code true} if a value was removed, 
+     * {@code false} if there was no equal value.
+     * 
+     * @throws NullPointerException If the {@code value} 
+     * is {@code null}.
+     */
+    public final boolean Remove(T value)
+    {
+        final Node<T> candidateNode = SearchValue(value, false).nextNodes[0];
+
+
+        // no equal value
+        if (candidateNode == null || this.comparator.compare(candidateNode.value, value) != 0)
+        {
+            return false;
+        }
+
+        Unlink();
+
+        return true;
+    }
+
+
+    /**
+     * Removes the first value of the list and returns 
+     * itself. This is the smallest value.
+     * 
+     * @return {@code T} : First value of the list.
+     * 
+     * @throws NoSuchElementException If the list is empty.
+     */
+    public final T RemoveFirst()
+    {
+        // error empty list
+        if (IsEmpty() == true)
+        {
+            throw new NoSuchElementException();
+        }
+
+        SearchIndex(0);
+
+        return Unlink();
+    }
+
+
+    /**
+     * Removes the last value of the list and returns 
+     * itself. This is the largest value.
+     * 
+     * @return {@code T} : Last value of the list.
+     * 
+     * @throws NoSuchElementException If the list is empty.
+     */
+    public final T RemoveLast()
+    {
+        // error empty list
+        if (IsEmpty() == true)
+        {
+            throw new NoSuchElementException();
+        }
+
+        SearchIndex(this.size - 1);
+
+        return Unlink();
+    }
+
+
+    /**
+     * Removes the value at given index and returns itself.
+     * 
+     * @param index : Index of the value, starts from 0.
+     * 
+     * @return {@code T} : Value at the given index.
+     * 
+     * @throws IndexOutOfBoundsException If the {@code index} 
+     * is not in the range from {@code 0} to {@code size - 1}.
+     */
+    public final T RemoveAt(int index)
+    {
+        // error index not in size range
+        if (index < 0 || this.size - 1 < index)
+        {
+            throw new IndexOutOfBoundsException();
+        }
+
+        SearchIndex(index);
+
+        return Unlink();
+    }
+
+
+    //--------------------------------------------------
+    // This block contains searching methods
+
+
+    /**
+     * Checks if the list holds a value equal to the given 
+     * value.
+     * 
+     * @param value : Value to search for.
+     * 
+     * @return {@code true} if there is an equal value, 
+     * {@code false} otherwise.
+     * 
+     * @throws NullPointerException If the {@code value} 
+     * is {@code null}.
+     */
+    public final boolean Contains(T value)
+    {
+        return IndexOf(value) >= 0;
+    }
+
+
+    /**
+     * Gets the index of the first value equal to the given 
+     * value.
+     * 
+     * @param value : Value to search for.
+     * 
+     * @return {@code int} : Index of the first equal value. 
+     * {@code -1} if there is none.
+     * 
+     * @throws NullPointerException If the {@code value} 
+     * is {@code null}.
+     */
+    public final int IndexOf(T value)
+    {
+        final Node<T> candidateNode = SearchValue(value, false).nextNodes[0];
+
+
+        // no equal value
+        if (candidateNode == null || this.comparator.compare(candidateNode.value, value) != 0)
+        {
+            return -1;
+        }
+
+
+        // the node before is at position index, since the
+        // head is at position 0
+        return this.prevPositions[0];
+    }
+
+
+    /**
+     * Gets the largest value lesser than or equal to the 
+     * given value.
+     * 
+     * @param value : Value to search for.
+     * 
+     * @return {@code T} : Largest value not greater than 
+     * {@code value}. {@code null} if there is none.
+     * 
+     * @throws NullPointerException If the {@code value} 
+     * is {@code null}.
+     */
+    public final T Floor(T value)
+    {
+        final Node<T> floorNode = SearchValue(value, true);
+
+        return floorNode == this.headNode ? null : floorNode.value;
+    }
+
+
+    /**
+     * Gets the smallest value greater than or equal to the 
+     * given value.
+     * 
+     * @param value : Value to search for.
+     * 
+     * @return {@code T} : Smallest value not lesser than 
+     * {@code value}. {@code null} if there is none.
+     * 
+     * @throws NullPointerException If the {@code value} 
+     * is {@code null}.
+     */
+    public final T Ceiling(T value)
+    {
+        final Node<T> ceilingNode = SearchValue(value, false).nextNodes[0];
+
+        return ceilingNode == null ? null : ceilingNode.value;
+    }
+
+
+    //--------------------------------------------------
+    // This block contains methods to get the fields' data 
+    // from the list.
+
+
+    /**
+     * Returns the {@code size} of the list.
+     * 
+     * @return {@code int}  : Size of the list.
+     */
+    public final int Size()
+    {
+        return this.size;
+    }
+
+
+    /**
+     * Returns the first value of the list, which is the 
+     * smallest value.
+     * 
+     * @return {@code T} : First value of the list. 
+     * {@code null} if the list is empty.
+     */
+    public final T GetFirst()
+    {
+        final Node<T> firstNode = this.headNode.nextNodes[0];
+
+        return firstNode == null ? null : firstNode.value;
+    }
+
+
+    /**
+     * Returns the last value of the list, which is the 
+     * largest value.
+     * 
+     * @return {@code T} : Last value of the list. 
+     * {@code null} if the list is empty.
+     */
+    public final T GetLast()
+    {
+        return this.tailNode == null ? null : this.tailNode.value;
+    }
+
+
+    /**
+     * Gets the value at the given {@code index}.
+     * 
+     * @param index : Index of the value to retrieve
+     * 
+     * @return {@code T} : Value at the given {@code index}.
+     * 
+     * @throws IndexOutOfBoundsException If the {@code index} 
+     * is not in the range from {@code 0} to {@code size - 1}.
+     */
+    public final T GetAt(int index)
+    {
+        // error index not in size range
+        if (index < 0 || this.size - 1 < index)
+        {
+            throw new IndexOutOfBoundsException();
+        }
+
+        return SearchIndex(index).value;
+    }
+
+
+    //--------------------------------------------------
+    // This block contains method to turn the list into
+    // "workable" collection, array to be specific
+
+
+    /**
+     * Converts the list into array, in order.
+     * 
+     * @param arrayType : Array to fill when it is long 
+     * enough, otherwise an instance of 
+     * previously-defined-type array to make one from.
+     * 
+     * <p>
+     * Example: if the {@code list} holds Integer, 
+     * then 
+     * {@code Integer[] array = list.ToArray(new Integer[0])}
+     * </p>
+     * 
+     * @return {@code T[]} : Representation of the list as array. 
+     * Empty if the list is empty
+     */
+    @SuppressWarnings("unchecked")
+    public final T[] ToArray(T[] arrayType)
+    {
+        // reuse the array when it is long enough, the slot
+        // after the last value marks the end
+        if (arrayType.length < this.size)
+        {
+            arrayType = (T[]) Array.newInstance(arrayType.getClass().componentType(), this.size);
+        }
+        else if (arrayType.length > this.size)
+        {
+            arrayType[this.size] = null;
+        }
+
+        Node<T> workingNode = this.headNode.nextNodes[0];
+
+        for (int i = 0; i < this.size; i++)
+        {
+            arrayType[i] = workingNode.value;
+            workingNode = workingNode.nextNodes[0];
+        }
+
+        return arrayType;
+    }
+
+
+    //--------------------------------------------------
+    // This block contains iterators and views over the list
+
+
+    /**
+     * Iterator walking the bottom level of the list, up to 
+     * a bound. Any structural change to the list makes the 
+     * iterator throw {@code ConcurrentModificationException}.
+     */
+    private final class NodeIterator implements Iterator<T>
+    {
+        /** {@code Node} returned by the next call to {@code next}. */
+        private Node<T> nextNode;
+
+        /**
+         * Values from this one on are not returned. 
+         * {@code null} to walk to the end.
+         */
+        private final T toValue;
+
+        /** {@code modCount} of the list when the iterator was made. */
+        private final int expectedModCount;
+
+
+        /**
+         * Constructs an iterator before the given 
+         * {@code Node}.
+         * 
+         * @param nextNode : First {@code Node} to return.
+         * 
+         * @param toValue : Values from this one on are not 
+         * returned. {@code null} to walk to the end.
+         */
+        NodeIterator(Node<T> nextNode, T toValue)
+        {
+            this.nextNode = nextNode;
+            this.toValue = toValue;
+            this.expectedModCount = SortedList.this.modCount;
+        }
+
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.nextNode != null
+                && (this.toValue == null || SortedList.this.comparator.compare(this.nextNode.value, this.toValue) < 0);
+        }
+
+
+        @Override
+        public T next()
+        {
+            // error list changed under the iterator
+            if (SortedList.this.modCount != this.expectedModCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+
+
+            // error no value left
+            if (hasNext() == false)
+            {
+                throw new NoSuchElementException();
+            }
+
+            final T value = this.nextNode.value;
+
+            this.nextNode = this.nextNode.nextNodes[0];
+
+            return value;
+        }
+    }
+
+
+    /**
+     * Returns an iterator over the values of the list, in 
+     * order.
+     * 
+     * @return {@code Iterator<T>} : Fail-fast iterator.
+     */
+    @Override
+    public final Iterator<T> iterator()
+    {
+        return new NodeIterator(this.headNode.nextNodes[0], null);
+    }
+
+
+    /**
+     * Returns a spliterator over the values of the list, 
+     * with an exact size. It is only reported as sorted when 
+     * the list is in natural order, since its comparator is 
+     * always {@code null}.
+     * 
+     * @return {@code Spliterator<T>} : Fail-fast spliterator.
+     */
+    @Override
+    public final Spliterator<T> spliterator()
+    {
+        // a sorted spliterator without comparator means natural
+        // order, which a custom comparator does not follow
+        final int characteristics = this.comparator == NATURAL_ORDER
+            ? Spliterator.ORDERED | Spliterator.SORTED | Spliterator.NONNULL
+            : Spliterator.ORDERED | Spliterator.NONNULL;
+
+        return Spliterators.spliterator(iterator(), this.size, characteristics);
+    }
+
+
+    /**
+     * Returns a sequential stream over the values of the 
+     * list, in order.
+     * 
+     * @return {@code Stream<T>} : Stream of the values.
+     */
+    public final Stream<T> Stream()
+    {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+
+    /**
+     * Returns a view of the values from {@code fromValue}, 
+     * included, to {@code toValue}, excluded. The search for 
+     * {@code fromValue} is done every time the view is 
+     * iterated, so the view follows later changes to the 
+     * list. Iterating it costs O(log n) plus the number of 
+     * values in the range.
+     * 
+     * @param fromValue : Lowest value of the range.
+     * 
+     * @param toValue : Value ending the range.
+     * 
+     * @return {@code Iterable<T>} : View of the range, with 
+     * fail-fast iterators.
+     * 
+     * @throws IllegalArgumentException If {@code fromValue} 
+     * is greater than {@code toValue}.
+     * 
+     * @throws NullPointerException If {@code fromValue} or 
+     * {@code toValue} is {@code null}.
+     */
+    public final Iterable<T> Range(T fromValue, T toValue)
+    {
+        // error no bound
+        if (fromValue == null || toValue == null)
+        {
+            throw new NullPointerException();
+        }
+
+
+        // error empty range the wrong way round
+        if (this.comparator.compare(fromValue, toValue) > 0)
+        {
+            throw new IllegalArgumentException();
+        }
+
+        return () -> new NodeIterator(SearchValue(fromValue, false).nextNodes[0], toValue);
+    }
+}
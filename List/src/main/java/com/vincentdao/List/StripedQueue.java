@@ -0,0 +1,646 @@
+package com.vincentdao.List;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.NoSuchElementException;
+
+
+/**
+ * <p>
+ * Bounded lock-free implementation of the Queue ADT, striped 
+ * over several lanes so that threads on different cores do 
+ * not contend on the same head and tail. Every lane is a 
+ * ring buffer with a sequence number per slot (Vyukov's 
+ * bounded MPMC queue), and its head and tail are padded 
+ * onto cache lines of their own.
+ * </p>
+ * 
+ * <p>
+ * A thread enqueues into its home lane, picked from a hash 
+ * of its id, and moves on to the next lanes only when that 
+ * one is full. A thread dequeues from its home lane first, 
+ * and steals from the next lanes when it is empty.
+ * </p>
+ * 
+ * <p>
+ * The ordering is relaxed: every lane is FIFO, but the queue 
+ * as a whole is not. Values enqueued by one thread are 
+ * dequeued in order as long as its home lane never fills, 
+ * and values enqueued by different threads come out in no 
+ * particular order. {@code First}, {@code Size}, 
+ * {@code ToArray} and {@code Clear} are not atomic under 
+ * concurrent modification.
+ * </p>
+ * 
+ * <p>
+ * A slot is held from the moment a thread claims it until 
+ * it is done with it. Another thread that reaches a held 
+ * slot moves on to the next lanes, and spins when every 
+ * lane is held up that way, so a thread paused in the 
+ * middle of an operation can delay the others.
+ * </p>
+ * 
+ * <p>
+ * {@code null} values are not permitted, since a 
+ * {@code null} slot marks a value that is being moved.
+ * </p>
+ * 
+ * @version 0.1
+ * 
+ * @author vincentdao
+ */
+public final class StripedQueue<T> implements IQueue<T>
+{
+    //--------------------------------------------------
+    // This block contains the classes for lanes. The tail 
+    // and the head are declared in a chain of classes with 
+    // padding in between, since the JVM lays out the fields 
+    // of a superclass before those of its subclasses.
+
+
+    /** Padding before the tail of a lane. */
+    abstract static class LanePadding0
+    {
+        long p00, p01, p02, p03, p04, p05, p06, p07;
+    }
+
+
+    /** Tail of a lane. */
+    abstract static class LaneTail extends LanePadding0
+    {
+        /** Position of the next value to enqueue. */
+        volatile long tail;
+    }
+
+
+    /** Padding between the tail and the head of a lane. */
+    abstract static class LanePadding1 extends LaneTail
+    {
+        long p10, p11, p12, p13, p14, p15, p16, p17;
+    }
+
+
+    /** Head of a lane. */
+    abstract static class LaneHead extends LanePadding1
+    {
+        /** Position of the next value to dequeue. */
+        volatile long head;
+    }
+
+
+    /** Padding after the head of a lane. */
+    abstract static class LanePadding2 extends LaneHead
+    {
+        long p20, p21, p22, p23, p24, p25, p26, p27;
+    }
+
+
+    /**
+     * Ring buffer of a lane. The slot of position {@code p} 
+     * is free for the enqueue of {@code p} when its sequence 
+     * is {@code p}, and holds the value for the dequeue of 
+     * {@code p} when its sequence is {@code p + 1}.
+     */
+    static final class Lane extends LanePadding2
+    {
+        /** Values of the ring. */
+        final Object[] elements;
+
+        /** Sequence number of every slot. */
+        final long[] sequences;
+
+        /** Capacity minus 1, to wrap a position into a slot. */
+        final int mask;
+
+
+        /**
+         * Constructs an empty lane.
+         * 
+         * @param capacity : Number of slots, a power of two.
+         */
+        Lane(int capacity)
+        {
+            this.elements = new Object[capacity];
+            this.sequences = new long[capacity];
+            this.mask = capacity - 1;
+
+            for (int i = 0; i < capacity; i++)
+            {
+                this.sequences[i] = i;
+            }
+        }
+
+
+        /**
+         * Adds the value at the tail if there is room.
+         * 
+         * @param value : Value to add.
+         * 
+         * @return {@code true} if the value was added, 
+         * {@code false} if the lane is full.
+         */
+        boolean Offer(Object value)
+        {
+            long position = this.tail;
+
+            while (true)
+            {
+                final int slot = (int) position & this.mask;
+                final long difference = (long) SEQUENCE.getAcquire(this.sequences, slot) - position;
+
+                if (difference == 0)
+                {
+                    // slot free, claim the position
+                    if (TAIL.compareAndSet(this, position, position + 1) == true)
+                    {
+                        this.elements[slot] = value;
+                        SEQUENCE.setRelease(this.sequences, slot, position + 1);
+
+                        return true;
+                    }
+
+                    position = this.tail;
+                }
+                else if (difference < 0)
+                {
+                    // slot still holds the value of the last lap,
+                    // or a dequeue of it is in progress
+                    return false;
+                }
+                else
+                {
+                    // another thread claimed the position
+                    position = this.tail;
+                }
+            }
+        }
+
+
+        /**
+         * Removes the value at the head if there is one.
+         * 
+         * @return {@code Object} : Value at the head. 
+         * {@code null} if the lane is empty.
+         */
+        Object Poll()
+        {
+            long position = this.head;
+
+            while (true)
+            {
+                final int slot = (int) position & this.mask;
+                final long difference = (long) SEQUENCE.getAcquire(this.sequences, slot) - (position + 1);
+
+                if (difference == 0)
+                {
+                    // slot filled, claim the position
+                    if (HEAD.compareAndSet(this, position, position + 1) == true)
+                    {
+                        final Object value = this.elements[slot];
+
+                        this.elements[slot] = null;
+                        SEQUENCE.setRelease(this.sequences, slot, position + this.mask + 1);
+
+                        return value;
+                    }
+
+                    position = this.head;
+                }
+                else if (difference < 0)
+                {
+                    // slot not filled yet, or an enqueue into it
+                    // is in progress
+                    return null;
+                }
+                else
+                {
+                    // another thread claimed the position
+                    position = this.head;
+                }
+            }
+        }
+
+
+        /**
+         * Reads the value at the head without removing it.
+         * 
+         * @return {@code Object} : Value at the head. 
+         * {@code null} if the lane is empty.
+         */
+        Object Peek()
+        {
+            while (true)
+            {
+                final long position = this.head;
+                final int slot = (int) position & this.mask;
+
+                if ((long) SEQUENCE.getAcquire(this.sequences, slot) != position + 1)
+                {
+                    return null;
+                }
+
+
+                // the value is only valid if it was not
+                // dequeued while reading it
+                final Object value = this.elements[slot];
+
+                if (value != null && position == this.head)
+                {
+                    return value;
+                }
+            }
+        }
+
+
+        /**
+         * Counts the values of the lane.
+         * 
+         * @return {@code int} : Number of values.
+         */
+        int Size()
+        {
+            while (true)
+            {
+                final long headPosition = this.head;
+                final long tailPosition = this.tail;
+
+
+                // head read before tail, so a stable head
+                // bounds the count
+                if (headPosition == this.head)
+                {
+                    return (int) Math.max(0, tailPosition - headPosition);
+                }
+            }
+        }
+    }
+
+
+    //--------------------------------------------------
+    // This block contains fields of the queue.
+
+
+    /** Number of slots of a lane when none is given. */
+    public static final int DEFAULT_LANE_CAPACITY = 1024;
+
+    /** Handle to compare-and-set {@code Lane.tail}. */
+    private static final VarHandle TAIL;
+
+    /** Handle to compare-and-set {@code Lane.head}. */
+    private static final VarHandle HEAD;
+
+    /** Handle to read and write the slots of {@code Lane.sequences}. */
+    private static final VarHandle SEQUENCE;
+
+    static
+    {
+        try
+        {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+            TAIL = lookup.findVarHandle(LaneTail.class, "tail", long.class);
+            HEAD = lookup.findVarHandle(LaneHead.class, "head", long.class);
+            SEQUENCE = MethodHandles.arrayElementVarHandle(long[].class);
+        }
+        catch (ReflectiveOperationException e)
+        {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /** Lanes of the queue. */
+    private final Lane[] lanes;
+
+    /** Number of lanes minus 1, to wrap a lane index. */
+    private final int laneMask;
+
+
+    //--------------------------------------------------
+    // This block contains constructors for the queue.
+
+
+    /**
+     * Constructs an empty queue with one lane per available 
+     * processor, rounded up to a power of two, of 
+     * {@code DEFAULT_LANE_CAPACITY} slots each.
+     */
+    public StripedQueue()
+    {
+        this(Runtime.getRuntime().availableProcessors(), DEFAULT_LANE_CAPACITY);
+    }
+
+
+    /**
+     * Constructs an empty queue. Both numbers are rounded up 
+     * to a power of two.
+     * 
+     * @param laneCount : Number of lanes.
+     * 
+     * @param laneCapacity : Number of slots of a lane.
+     * 
+     * @throws IllegalArgumentException If the 
+     * {@code laneCount} or the {@code laneCapacity} is not 
+     * positive, or larger than {@code 2^30}.
+     */
+    public StripedQueue(int laneCount, int laneCapacity)
+    {
+        // error invalid size
+        if (laneCount <= 0 || laneCount > 1 << 30 || laneCapacity <= 0 || laneCapacity > 1 << 30)
+        {
+            throw new IllegalArgumentException();
+        }
+
+        final int roundedCount = RoundUp(laneCount);
+        final int roundedCapacity = RoundUp(laneCapacity);
+
+        this.lanes = new Lane[roundedCount];
+        this.laneMask = roundedCount - 1;
+
+        for (int i = 0; i < roundedCount; i++)
+        {
+            this.lanes[i] = new Lane(roundedCapacity);
+        }
+    }
+
+
+    //--------------------------------------------------
+    // This block contains utilities methods for the queue.
+
+
+    /**
+     * Checks if the queue is empty.
+     * 
+     * @return {@code true} is the queue is empty, {@code false} otherwise.
+     */
+    public final boolean IsEmpty()
+    {
+        for (Lane lane : this.lanes)
+        {
+            if (lane.Size() > 0)
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+
+    /**
+     * Checks if every lane is full.
+     * 
+     * @return {@code true} if no lane has room, {@code false} 
+     * otherwise.
+     */
+    private final boolean IsFull()
+    {
+        for (Lane lane : this.lanes)
+        {
+            if (lane.Size() <= lane.mask)
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+
+    /**
+     * Gets the smallest power of two not less than the 
+     * given number.
+     * 
+     * @param number : Positive number.
+     * 
+     * @return {@code int} : Power of two.
+     */
+    private static int RoundUp(int number)
+    {
+        return number == 1 ? 1 : Integer.highestOneBit(number - 1) << 1;
+    }
+
+
+    /**
+     * Gets the home lane of the current thread, from a hash 
+     * of its id.
+     * 
+     * @return {@code int} : Index of the lane.
+     */
+    private final int HomeLane()
+    {
+        final long mixed = Thread.currentThread().getId() * 0x9E3779B97F4A7C15L;
+
+        return (int) (mixed >>> 32) & this.laneMask;
+    }
+
+
+    //--------------------------------------------------
+    // This block contains clear method to destroy the queue
+
+
+    /**
+     * Empties the queue, by dequeuing every value. Values 
+     * enqueued while clearing may or may not be removed.
+     */
+    @Override
+    public final void Clear()
+    {
+        for (Lane lane : this.lanes)
+        {
+            while (lane.Poll() != null)
+            {
+                // keep removing
+            }
+        }
+    }
+
+
+    //--------------------------------------------------
+    // This block contains methods for Queue ADT
+
+
+    /**
+     * Adds value to the home lane of the thread, or to the 
+     * next lane with room.
+     * 
+     * @param value : Value to add to the Queue.
+     * 
+     * @throws IllegalStateException If every lane is full.
+     * 
+     * @throws NullPointerException If the {@code value} 
+     * is {@code null}.
+     */
+    @Override
+    public final void Enqueue(T value)
+    {
+        // error null value
+        if (value == null)
+        {
+            throw new NullPointerException();
+        }
+
+        final int homeLane = HomeLane();
+
+        while (true)
+        {
+            for (int i = 0; i <= this.laneMask; i++)
+            {
+                if (this.lanes[(homeLane + i) & this.laneMask].Offer(value) == true)
+                {
+                    return;
+                }
+            }
+
+
+            // error every lane full, not only held by a dequeue
+            if (IsFull() == true)
+            {
+                throw new IllegalStateException();
+            }
+
+            Thread.onSpinWait();
+        }
+    }
+
+
+    /**
+     * Removes a value from the home lane of the thread, or 
+     * steals one from the next lane that has one.
+     * 
+     * @return {@code T} : Value at the head of a lane.
+     * 
+     * @throws NoSuchElementException If every lane is empty.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public final T Dequeue()
+    {
+        final int homeLane = HomeLane();
+
+        while (true)
+        {
+            for (int i = 0; i <= this.laneMask; i++)
+            {
+                final Object value = this.lanes[(homeLane + i) & this.laneMask].Poll();
+
+                if (value != null)
+                {
+                    return (T) value;
+                }
+            }
+
+
+            // error every lane empty, not only held by an enqueue
+            if (IsEmpty() == true)
+            {
+                throw new NoSuchElementException();
+            }
+
+            Thread.onSpinWait();
+        }
+    }
+
+
+    /**
+     * Gets the value that a {@code Dequeue} on this thread 
+     * would take, if no other thread gets to it first.
+     * 
+     * @return {@code T} : Value at the head of a lane. 
+     * {@code null} if every lane was found empty.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public final T First()
+    {
+        final int homeLane = HomeLane();
+
+        for (int i = 0; i <= this.laneMask; i++)
+        {
+            final Object value = this.lanes[(homeLane + i) & this.laneMask].Peek();
+
+            if (value != null)
+            {
+                return (T) value;
+            }
+        }
+
+        return null;
+    }
+
+
+    //--------------------------------------------------
+    // This block contains methods to get the fields' data
+    // from the queue.
+
+
+    /**
+     * Returns the {@code size} of the queue, by adding up 
+     * the sizes of the lanes. This is not atomic under 
+     * concurrent modification.
+     * 
+     * @return {@code int}  : Size of the queue.
+     */
+    @Override
+    public final int Size()
+    {
+        long size = 0;
+
+        for (Lane lane : this.lanes)
+        {
+            size += lane.Size();
+        }
+
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+
+    /**
+     * Converts the queue into array, lane after lane. This 
+     * is not atomic under concurrent modification.
+     * 
+     * @param arrayType : Array to fill when it is long 
+     * enough, otherwise an instance of 
+     * previously-defined-type array to make one from.
+     * 
+     * <p>
+     * Example: if the {@code queue} holds Integer, 
+     * then 
+     * {@code Integer[] array = queue.ToArray(new Integer[0])}
+     * </p>
+     * 
+     * @return {@code T[]} : Representation of the queue as array. 
+     * Empty if the queue is empty
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public final T[] ToArray(T[] arrayType)
+    {
+        // the size may change during the walk, so the values
+        // are collected first
+        final ArrayDeque<T> values = new ArrayDeque<>();
+
+        for (Lane lane : this.lanes)
+        {
+            final long tailPosition = lane.tail;
+
+            for (long position = lane.head; position < tailPosition; position++)
+            {
+                final int slot = (int) position & lane.mask;
+
+
+                // skip slots dequeued or not filled yet
+                if ((long) SEQUENCE.getAcquire(lane.sequences, slot) == position + 1)
+                {
+                    final Object value = lane.elements[slot];
+
+                    if (value != null)
+                    {
+                        values.Enqueue((T) value);
+                    }
+                }
+            }
+        }
+
+        return values.ToArray(arrayType);
+    }
+}
@@ -0,0 +1,1214 @@
+package com.vincentdao.List;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+
+/**
+ * <p>
+ * Unrolled implementation of the List, Stack and Queue ADT. 
+ * Every {@code Chunk} of the chain holds a small array of 
+ * values instead of a single value, so a walk reads the 
+ * values from contiguous memory and only touches one chunk 
+ * header per {@code chunkCapacity} values.
+ * </p>
+ * 
+ * <p>
+ * Lookups skip whole chunks. Adding into a full chunk splits 
+ * it in two halves, and a chunk that falls under half full 
+ * after a removal is merged with a neighbour when both fit in 
+ * one chunk. Adding at either end of the list starts a new 
+ * chunk instead of splitting, so a list built by appending 
+ * stays fully packed.
+ * </p>
+ * 
+ * <p>
+ * Has the same methods as {@code LinkedList}, so the two can 
+ * be swapped for each other.
+ * </p>
+ * 
+ * @version 0.1
+ * 
+ * @author vincentdao
+ */
+public final class UnrolledList<T> implements IStack<T>, IQueue<T>, Iterable<T>
+{
+    //--------------------------------------------------
+    // This block contains the class for chunk.
+
+
+    /** Represents a {@code Chunk} of values in the list. */
+    final class Chunk
+    {
+        /** Values of the chunk, packed from index 0. */
+        final T[] values;
+
+        /** Number of values in the chunk. */
+        int count;
+
+        /** Pointer to the previous chunk. */
+        Chunk prevChunk;
+
+        /** Pointer to the next chunk. */
+        Chunk nextChunk;
+
+
+        /**
+         * Constructs an empty {@code Chunk}. The 
+         * {@code Chunk} would not point to any of the 
+         * other {@code Chunk}.
+         * 
+         * @param capacity : Number of values the chunk holds.
+         */
+        @SuppressWarnings("unchecked")
+        Chunk(int capacity)
+        {
+            this.values = (T[]) new Object[capacity];
+            this.count = 0;
+            this.prevChunk = null;
+            this.nextChunk = null;
+        }
+    }
+
+
+    //--------------------------------------------------
+    // This block contains fields of the list.
+
+
+    /** Number of values in a chunk when none is given. */
+    public static final int DEFAULT_CHUNK_CAPACITY = 32;
+
+    /**
+     * Natural order of the values. The values have to be 
+     * {@code Comparable} to each other, or the sort fails 
+     * with {@code ClassCastException}.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final Comparator<Object> NATURAL_ORDER =
+        (leftValue, rightValue) -> ((Comparable) leftValue).compareTo(rightValue);
+
+    /** Number of values a chunk holds. */
+    private final int chunkCapacity;
+
+    /** Head pointer of the list. */
+    private Chunk headChunk;
+
+    /** Tail pointer of the list. */
+    private Chunk tailChunk;
+
+    /** Size of the list. */
+    private int size;
+
+    /**
+     * Last {@code Chunk} resolved by an index lookup. 
+     * {@code null} when there is none.
+     */
+    private Chunk fingerChunk;
+
+    /** Index of the first value of the {@code fingerChunk}. */
+    private int fingerStart;
+
+    /** Number of structural changes, checked by iterators. */
+    private int modCount;
+
+
+    //--------------------------------------------------
+    // This block contains constructors for the list.
+
+
+    /**
+     * Constructs an empty list, with 
+     * {@code DEFAULT_CHUNK_CAPACITY} values per chunk.
+     */
+    public UnrolledList()
+    {
+        this(DEFAULT_CHUNK_CAPACITY);
+    }
+
+
+    /**
+     * Constructs an empty list with the given number of 
+     * values per chunk.
+     * 
+     * @param chunkCapacity : Number of values a chunk holds.
+     * 
+     * @throws IllegalArgumentException If the 
+     * {@code chunkCapacity} is less than 2.
+     */
+    public UnrolledList(int chunkCapacity)
+    {
+        // error a chunk cannot be split
+        if (chunkCapacity < 2)
+        {
+            throw new IllegalArgumentException();
+        }
+
+        this.chunkCapacity = chunkCapacity;
+        this.headChunk = null;
+        this.tailChunk = null;
+        this.size = 0;
+        this.fingerChunk = null;
+        this.fingerStart = 0;
+        this.modCount = 0;
+    }
+
+
+    //--------------------------------------------------
+    // This block contains utilities methods for the list.
+
+
+    /**
+     * Checks if the list is empty.
+     * 
+     * @return {@code true} is the list is empty, {@code false} otherwise.
+     */
+    public final boolean IsEmpty()
+    {
+        return this.size == 0;
+    }
+
+
+    /**
+     * Gets the {@code Chunk} holding the value at given 
+     * index. The walk starts from whichever of the head, the 
+     * tail or the last resolved {@code Chunk} (the finger) is 
+     * the closest to the index, and skips a whole chunk per 
+     * step. The finger is then moved to the resolved 
+     * {@code Chunk}, so {@code fingerStart} gives the index 
+     * of its first value.
+     * 
+     * @param index : Index of the value.
+     * 
+     * @return {@code Chunk} : Chunk holding the value.
+     */
+    private final Chunk GetChunkAt(int index)
+    {
+        // start from the head
+        Chunk workingChunk = this.headChunk;
+        int workingStart = 0;
+
+
+        // start from the tail if it is closer
+        if (this.size - 1 - index < index)
+        {
+            workingChunk = this.tailChunk;
+            workingStart = this.size - this.tailChunk.count;
+        }
+
+
+        // start from the finger if it is even closer
+        if (this.fingerChunk != null
+            && Math.abs(index - this.fingerStart) < Math.abs(index - workingStart))
+        {
+            workingChunk = this.fingerChunk;
+            workingStart = this.fingerStart;
+        }
+
+
+        // walk forward to the chunk
+        while (workingStart + workingChunk.count <= index)
+        {
+            workingStart += workingChunk.count;
+            workingChunk = workingChunk.nextChunk;
+        }
+
+
+        // walk backward to the chunk
+        while (index < workingStart)
+        {
+            workingChunk = workingChunk.prevChunk;
+            workingStart -= workingChunk.count;
+        }
+
+        this.fingerChunk = workingChunk;
+        this.fingerStart = workingStart;
+
+        return workingChunk;
+    }
+
+
+    /**
+     * Links the {@code Chunk} right after another 
+     * {@code Chunk} of the list, or at the beginning of the 
+     * list.
+     * 
+     * @param addingChunk : {@code Chunk} to add.
+     * 
+     * @param prevChunk : {@code Chunk} that will be before 
+     * the added {@code Chunk}. {@code null} to add at the 
+     * beginning.
+     */
+    private final void LinkAfter(Chunk addingChunk, Chunk prevChunk)
+    {
+        addingChunk.prevChunk = prevChunk;
+        addingChunk.nextChunk = prevChunk == null ? this.headChunk : prevChunk.nextChunk;
+
+
+        // relink the previous chunk, or move the head
+        if (prevChunk == null)
+        {
+            this.headChunk = addingChunk;
+        }
+        else
+        {
+            prevChunk.nextChunk = addingChunk;
+        }
+
+
+        // relink the next chunk, or move the tail
+        if (addingChunk.nextChunk == null)
+        {
+            this.tailChunk = addingChunk;
+        }
+        else
+        {
+            addingChunk.nextChunk.prevChunk = addingChunk;
+        }
+    }
+
+
+    /**
+     * Unlinks the given {@code Chunk} from the list. Its 
+     * values are not counted out of the size.
+     * 
+     * @param deleteChunk : {@code Chunk} to remove.
+     */
+    private final void UnlinkChunk(Chunk deleteChunk)
+    {
+        // relink the previous chunk, or move the head
+        if (deleteChunk.prevChunk == null)
+        {
+            this.headChunk = deleteChunk.nextChunk;
+        }
+        else
+        {
+            deleteChunk.prevChunk.nextChunk = deleteChunk.nextChunk;
+        }
+
+
+        // relink the next chunk, or move the tail
+        if (deleteChunk.nextChunk == null)
+        {
+            this.tailChunk = deleteChunk.prevChunk;
+        }
+        else
+        {
+            deleteChunk.nextChunk.prevChunk = deleteChunk.prevChunk;
+        }
+
+        // the finger cannot point to a removed chunk
+        if (deleteChunk == this.fingerChunk)
+        {
+            this.fingerChunk = null;
+        }
+
+        deleteChunk.prevChunk = null;
+        deleteChunk.nextChunk = null;
+    }
+
+
+    /**
+     * Moves the upper half of a full {@code Chunk} into a 
+     * new {@code Chunk} linked right after it.
+     * 
+     * @param fullChunk : {@code Chunk} to split.
+     * 
+     * @return {@code Chunk} : New {@code Chunk} holding the 
+     * upper half.
+     */
+    private final Chunk SplitChunk(Chunk fullChunk)
+    {
+        final Chunk upperChunk = new Chunk(this.chunkCapacity);
+        final int moveCount = fullChunk.count / 2;
+        final int keepCount = fullChunk.count - moveCount;
+
+        System.arraycopy(fullChunk.values, keepCount, upperChunk.values, 0, moveCount);
+        Arrays.fill(fullChunk.values, keepCount, fullChunk.count, null);
+
+        fullChunk.count = keepCount;
+        upperChunk.count = moveCount;
+        LinkAfter(upperChunk, fullChunk);
+
+        return upperChunk;
+    }
+
+
+    /**
+     * Removes an emptied {@code Chunk}, or merges a 
+     * {@code Chunk} that is under half full with one of its 
+     * neighbours when both fit in one {@code Chunk}.
+     * 
+     * @param workingChunk : {@code Chunk} a value was just 
+     * removed from.
+     */
+    private final void Rebalance(Chunk workingChunk)
+    {
+        // drop the empty chunk
+        if (workingChunk.count == 0)
+        {
+            UnlinkChunk(workingChunk);
+            return;
+        }
+
+
+        // still dense enough
+        if (workingChunk.count >= this.chunkCapacity / 2)
+        {
+            return;
+        }
+
+
+        // pull the next chunk into this one
+        final Chunk nextChunk = workingChunk.nextChunk;
+
+        if (nextChunk != null && workingChunk.count + nextChunk.count <= this.chunkCapacity)
+        {
+            System.arraycopy(nextChunk.values, 0, workingChunk.values, workingChunk.count, nextChunk.count);
+            workingChunk.count += nextChunk.count;
+            UnlinkChunk(nextChunk);
+
+            return;
+        }
+
+
+        // push this chunk into the previous one
+        final Chunk prevChunk = workingChunk.prevChunk;
+
+        if (prevChunk != null && prevChunk.count + workingChunk.count <= this.chunkCapacity)
+        {
+            System.arraycopy(workingChunk.values, 0, prevChunk.values, prevChunk.count, workingChunk.count);
+            prevChunk.count += workingChunk.count;
+            UnlinkChunk(workingChunk);
+        }
+    }
+
+
+    /**
+     * Removes the value at given position of a 
+     * {@code Chunk}, shifting the values after it down.
+     * 
+     * @param workingChunk : {@code Chunk} holding the value.
+     * 
+     * @param offset : Position of the value in the chunk.
+     * 
+     * @return {@code T} : Removed value.
+     */
+    private final T RemoveFromChunk(Chunk workingChunk, int offset)
+    {
+        final T value = workingChunk.values[offset];
+
+        System.arraycopy(workingChunk.values, offset + 1, workingChunk.values, offset, workingChunk.count - offset - 1);
+        workingChunk.count--;
+        workingChunk.values[workingChunk.count] = null;
+        this.size--;
+        this.modCount++;
+
+        return value;
+    }
+
+
+    /**
+     * Inserts the value at given position of a 
+     * {@code Chunk} that is not full, shifting the values 
+     * after it up.
+     * 
+     * @param workingChunk : {@code Chunk} to add to.
+     * 
+     * @param offset : Position of the value in the chunk.
+     * 
+     * @param value : Value to add.
+     */
+    private final void InsertIntoChunk(Chunk workingChunk, int offset, T value)
+    {
+        System.arraycopy(workingChunk.values, offset, workingChunk.values, offset + 1, workingChunk.count - offset);
+        workingChunk.values[offset] = value;
+        workingChunk.count++;
+        this.size++;
+        this.modCount++;
+    }
+
+
+    /**
+     * Copies every value of the list into a new array, 
+     * chunk by chunk.
+     * 
+     * @return {@code T[]} : Values of the list.
+     */
+    @SuppressWarnings("unchecked")
+    private final T[] Gather()
+    {
+        final T[] values = (T[]) new Object[this.size];
+        int position = 0;
+
+        for (Chunk workingChunk = this.headChunk; workingChunk != null; workingChunk = workingChunk.nextChunk)
+        {
+            System.arraycopy(workingChunk.values, 0, values, position, workingChunk.count);
+            position += workingChunk.count;
+        }
+
+        return values;
+    }
+
+
+    /**
+     * Writes the values back into the chunks, keeping the 
+     * number of values in every chunk.
+     * 
+     * @param values : Values of the list, in their new order.
+     */
+    private final void Scatter(T[] values)
+    {
+        int position = 0;
+
+        for (Chunk workingChunk = this.headChunk; workingChunk != null; workingChunk = workingChunk.nextChunk)
+        {
+            System.arraycopy(values, position, workingChunk.values, 0, workingChunk.count);
+            position += workingChunk.count;
+        }
+
+        this.modCount++;
+    }
+
+
+    //--------------------------------------------------
+    // This block contains clear method to destroy the list
+
+
+    /**
+     * Empties the list.
+     */
+    @Override
+    public final void Clear()
+    {
+        this.headChunk = null;
+        this.tailChunk = null;
+        this.size = 0;
+        this.fingerChunk = null;
+        this.modCount++;
+    }
+
+
+    //--------------------------------------------------
+    // This block contains removal methods
+
+
+    /**
+     * Removes the first value of the list and returns 
+     * itself.
+     * 
+     * @return {@code T} : First value of the list.
+     * 
+     * @throws NoSuchElementException If the list is empty.
+     */
+    public final T RemoveFirst()
+    {
+        // error empty list
+        if (IsEmpty() == true)
+        {
+            throw new NoSuchElementException();
+        }
+
+        final Chunk workingChunk = this.headChunk;
+        final T value = RemoveFromChunk(workingChunk, 0);
+
+
+        // every value after the head chunk moved one index down
+        if (this.fingerChunk != null && this.fingerChunk != workingChunk)
+        {
+            this.fingerStart--;
+        }
+
+        Rebalance(workingChunk);
+
+        return value;
+    }
+
+
+    /**
+     * Removes the last value of the list and returns 
+     * itself.
+     * 
+     * @return {@code T} : Last value of the list.
+     * 
+     * @throws NoSuchElementException If the list is empty.
+     */
+    public final T RemoveLast()
+    {
+        // error empty list
+        if (IsEmpty() == true)
+        {
+            throw new NoSuchElementException();
+        }
+
+        final Chunk workingChunk = this.tailChunk;
+        final T value = RemoveFromChunk(workingChunk, workingChunk.count - 1);
+
+        Rebalance(workingChunk);
+
+        return value;
+    }
+
+
+    /**
+     * Removes the value at given index and returns itself.
+     * 
+     * @param index : Index of the value, starts from 0.
+     * 
+     * @return {@code T} : Value at the given index.
+     * 
+     * @throws IndexOutOfBoundsException If the {@code index} 
+     * is not in the range from {@code 0} to {@code size - 1}.
+     * 
+     * @throws NoSuchElementException If the list is empty.
+     */
+    public final T RemoveAt(int index)
+    {
+        // error index not in size range
+        if (index < 0 || this.size - 1 < index)
+        {
+            throw new IndexOutOfBoundsException();
+        }
+
+
+        // error empty list
+        if (IsEmpty() == true)
+        {
+            throw new NoSuchElementException();
+        }
+
+        final Chunk workingChunk = GetChunkAt(index);
+        final T value = RemoveFromChunk(workingChunk, index - this.fingerStart);
+
+        Rebalance(workingChunk);
+
+        return value;
+    }
+
+
+    //--------------------------------------------------
+    // This block contains adding methods
+
+
+    /**
+     * Adds the value to the beginning of the list.
+     * 
+     * @param value : Value to add.
+     */
+    public final void AddFirst(T value)
+    {
+        // start a new chunk when the head chunk is full
+        if (this.headChunk == null || this.headChunk.count == this.chunkCapacity)
+        {
+            LinkAfter(new Chunk(this.chunkCapacity), null);
+        }
+
+        InsertIntoChunk(this.headChunk, 0, value);
+
+
+        // every value after the head chunk moved one index up
+        if (this.fingerChunk != null && this.fingerChunk != this.headChunk)
+        {
+            this.fingerStart++;
+        }
+    }
+
+
+    /**
+     * Adds the value to the end of the list.
+     * 
+     * @param value : Value to add.
+     */
+    public final void AddLast(T value)
+    {
+        // start a new chunk when the tail chunk is full
+        if (this.tailChunk == null || this.tailChunk.count == this.chunkCapacity)
+        {
+            LinkAfter(new Chunk(this.chunkCapacity), this.tailChunk);
+        }
+
+        this.tailChunk.values[this.tailChunk.count] = value;
+        this.tailChunk.count++;
+        this.size++;
+        this.modCount++;
+    }
+
+
+    /**
+     * Adds the value to the given index.
+     * 
+     * @param value : Value to add.
+     * 
+     * @param index : Index to add to.
+     * 
+     * @throws IndexOutOfBoundsException If the {@code index} 
+     * is not in the range from {@code 0} to {@code size - 1}.
+     */
+    public final void AddAt(T value, int index)
+    {
+        // error index not in size range
+        if (index < 0 || this.size - 1 < index)
+        {
+            throw new IndexOutOfBoundsException();
+        }
+
+
+        // use AddFirst method when the index points to
+        // the start of the list
+        if (index == 0)
+        {
+            AddFirst(value);
+            return;
+        }
+
+
+        // use AddLast method when index points to 
+        // the end of the list
+        if (index == this.size - 1)
+        {
+            AddLast(value);
+            return;
+        }
+
+
+        // get the chunk currently holding the index
+        Chunk workingChunk = GetChunkAt(index);
+        int offset = index - this.fingerStart;
+
+
+        // split a full chunk, and add into the half that
+        // holds the index
+        if (workingChunk.count == this.chunkCapacity)
+        {
+            final Chunk upperChunk = SplitChunk(workingChunk);
+
+            if (workingChunk.count < offset)
+            {
+                offset -= workingChunk.count;
+                workingChunk = upperChunk;
+            }
+        }
+
+        InsertIntoChunk(workingChunk, offset, value);
+    }
+
+
+    //--------------------------------------------------
+    // This block contains methods for Stack ADT
+
+
+    /**
+     * Pops the top value of the Stack. Equivalent to 
+     * {@code RemoveLast}.
+     * 
+     * @return {@code T} : Top value of the Stack.
+     * 
+     * @throws NoSuchElementException If the list is empty.
+     */
+    @Override
+    public final T Pop()
+    {
+        return RemoveLast();
+    }
+
+
+    /**
+     * Pushes the value to the top of the Stack. 
+     * Equivalent to {@code AddLast}.
+     * 
+     * @param value : Value to push onto the Stack.
+     */
+    @Override
+    public final void Push(T value)
+    {
+        AddLast(value);
+    }
+
+
+    /**
+     * Peeks at the top value of the Stack. Equivalent 
+     * to {@code GetLast}.
+     * 
+     * @return {@code T} : Top value of the Stack. 
+     * {@code null} if the list is empty.
+     */
+    @Override
+    public final T Peek()
+    {
+        return GetLast();
+    }
+
+
+    //--------------------------------------------------
+    // This block contains methods for Queue ADT
+
+
+    /**
+     * Adds value to the end of the Queue. Equivalent to 
+     * {@code AddLast}.
+     * 
+     * @param value : Value to add to the Queue.
+     */
+    @Override
+    public final void Enqueue(T value)
+    {
+        AddLast(value);
+    }
+
+
+    /**
+     * Removes value from the beginning of the Queue 
+     * and returns itself. Equivalent to {@code RemoveFirst}.
+     * 
+     * @return {@code T} : Value at the beginning of the 
+     * Queue.
+     * 
+     * @throws NoSuchElementException If the list is empty.
+     */
+    @Override
+    public final T Dequeue()
+    {
+        return RemoveFirst();
+    }
+
+
+    /**
+     * Gets value at the beginning of the Queue. Equivalent 
+     * to {@code GetFirst}.
+     * 
+     * @return {@code T} : Value at the beginning of 
+     * the Queue. {@code null} if the list is empty.
+     */
+    @Override
+    public final T First()
+    {
+        return GetFirst();
+    }
+
+
+    //--------------------------------------------------
+    // This block contains methods to get the fields' data 
+    // from the list.
+
+
+    /**
+     * Returns the {@code size} of the list.
+     * 
+     * @return {@code int}  : Size of the list.
+     */
+    @Override
+    public final int Size()
+    {
+        return this.size;
+    }
+
+
+    /**
+     * Returns the first value of the list.
+     * 
+     * @return {@code T} : First value of the list. 
+     * {@code null} if the list is empty.
+     */
+    public final T GetFirst()
+    {
+        return this.headChunk == null ? null : this.headChunk.values[0];
+    }
+
+
+    /**
+     * Returns the last value of the list.
+     * 
+     * @return {@code T} : Last value of the list. 
+     * {@code null} if the list is empty.
+     */
+    public final T GetLast()
+    {
+        return this.tailChunk == null ? null : this.tailChunk.values[this.tailChunk.count - 1];
+    }
+
+
+    /**
+     * Gets the value at the given {@code index}.
+     * 
+     * @param index : Index of the value to retrieve
+     * 
+     * @return {@code T} : Value at the given {@code index}.
+     * 
+     * @throws IndexOutOfBoundsException If the {@code index} 
+     * is not in the range from {@code 0} to {@code size - 1}.
+     * 
+     * @throws NoSuchElementException If the list is empty.
+     */
+    public final T GetAt(int index)
+    {
+        // error index not in size range
+        if (index < 0 || this.size - 1 < index)
+        {
+            throw new IndexOutOfBoundsException();
+        }
+
+
+        // error list is empty
+        if (IsEmpty() == true)
+        {
+            throw new NoSuchElementException();
+        }
+
+        return GetChunkAt(index).values[index - this.fingerStart];
+    }
+
+
+    //--------------------------------------------------
+    // This block contains method to turn the list into
+    // "workable" collection, array to be specific
+
+
+    /**
+     * Converts the list into array, copying a whole chunk 
+     * at a time.
+     * 
+     * @param arrayType : Array to fill when it is long 
+     * enough, otherwise an instance of 
+     * previously-defined-type array to make one from.
+     * 
+     * <p>
+     * Example: if the {@code list} holds Integer, 
+     * then 
+     * {@code Integer[] array = list.ToArray(new Integer[0])}
+     * </p>
+     * 
+     * @return {@code T[]} : Representation of the list as array. 
+     * Empty if the list is empty
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public final T[] ToArray(T[] arrayType)
+    {
+        // reuse the array when it is long enough, the slot
+        // after the last value marks the end
+        if (arrayType.length < this.size)
+        {
+            arrayType = (T[]) Array.newInstance(arrayType.getClass().componentType(), this.size);
+        }
+        else if (arrayType.length > this.size)
+        {
+            arrayType[this.size] = null;
+        }
+
+        int position = 0;
+
+        for (Chunk workingChunk = this.headChunk; workingChunk != null; workingChunk = workingChunk.nextChunk)
+        {
+            System.arraycopy(workingChunk.values, 0, arrayType, position, workingChunk.count);
+            position += workingChunk.count;
+        }
+
+        return arrayType;
+    }
+
+
+    //--------------------------------------------------
+    // This block contains iterators over the list
+
+
+    /**
+     * Iterator walking the values of the list chunk by 
+     * chunk. Any structural change to the list makes the 
+     * iterator throw {@code ConcurrentModificationException}.
+     */
+    private final class ChunkIterator implements Iterator<T>
+    {
+        /** {@code Chunk} holding the next value. */
+        private Chunk nextChunk;
+
+        /** Position of the next value in {@code nextChunk}. */
+        private int nextOffset;
+
+        /** {@code modCount} of the list when the iterator was made. */
+        private final int expectedModCount;
+
+
+        /**
+         * Constructs an iterator before the first value.
+         */
+        ChunkIterator()
+        {
+            this.nextChunk = UnrolledList.this.headChunk;
+            this.nextOffset = 0;
+            this.expectedModCount = UnrolledList.this.modCount;
+        }
+
+
+        @Override
+        public boolean hasNext()
+        {
+            return this.nextChunk != null;
+        }
+
+
+        @Override
+        public T next()
+        {
+            // error list changed under the iterator
+            if (UnrolledList.this.modCount != this.expectedModCount)
+            {
+                throw new ConcurrentModificationException();
+            }
+
+
+            // error no value left
+            if (this.nextChunk == null)
+            {
+                throw new NoSuchElementException();
+            }
+
+            final T value = this.nextChunk.values[this.nextOffset];
+
+
+            // move on to the next chunk at the end of this one
+            this.nextOffset++;
+
+            if (this.nextOffset == this.nextChunk.count)
+            {
+                this.nextChunk = this.nextChunk.nextChunk;
+                this.nextOffset = 0;
+            }
+
+            return value;
+        }
+    }
+
+
+    /**
+     * Returns an iterator over the values of the list, from 
+     * the first to the last.
+     * 
+     * @return {@code Iterator<T>} : Fail-fast iterator.
+     */
+    @Override
+    public final Iterator<T> iterator()
+    {
+        return new ChunkIterator();
+    }
+
+
+    /**
+     * Returns a spliterator over the values of the list, 
+     * with an exact size.
+     * 
+     * @return {@code Spliterator<T>} : Fail-fast spliterator.
+     */
+    @Override
+    public final Spliterator<T> spliterator()
+    {
+        return Spliterators.spliterator(iterator(), this.size, Spliterator.ORDERED);
+    }
+
+
+    /**
+     * Returns a sequential stream over the values of the list.
+     * 
+     * @return {@code Stream<T>} : Stream of the values.
+     */
+    public final Stream<T> Stream()
+    {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+
+    /**
+     * Returns a parallel stream over the values of the list.
+     * 
+     * @return {@code Stream<T>} : Stream of the values.
+     */
+    public final Stream<T> ParallelStream()
+    {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+
+    //--------------------------------------------------
+    // This block contains swap method
+
+
+    /**
+     * Swaps two values.
+     * 
+     * @param index1 : Index of the first value.
+     * 
+     * @param index2 : Index of the second value.
+     * 
+     * @throws IndexOutOfBoundsException If the {@code index} 
+     * is not in the range from {@code 0} to {@code size - 1}.
+     * 
+     * @throws NoSuchElementException If the list is empty.
+     */
+    public final void Swap(int index1, int index2)
+    {
+        // error index out of size range
+        if (index1 < 0 || this.size - 1 < index1)
+        {
+            throw new IndexOutOfBoundsException();
+        }
+        else if (index2 < 0 || this.size - 1 < index2)
+        {
+            throw new IndexOutOfBoundsException();
+        }
+
+
+        // swap the same value -> no swap
+        if (index1 == index2)
+        {
+            return;
+        }
+
+
+        // swap the values in their chunks
+        final Chunk chunk1 = GetChunkAt(index1);
+        final int offset1 = index1 - this.fingerStart;
+        final Chunk chunk2 = GetChunkAt(index2);
+        final int offset2 = index2 - this.fingerStart;
+        T tmp;
+
+        tmp = chunk1.values[offset1];
+        chunk1.values[offset1] = chunk2.values[offset2];
+        chunk2.values[offset2] = tmp;
+    }
+
+
+    //--------------------------------------------------
+    // This block contains sorting methods. The values are
+    // gathered into one array, sorted there, and written
+    // back into the same chunks.
+
+
+    /**
+     * Sorts the list in a non-decreasing manner. The sort 
+     * is stable.
+     * 
+     * @throws ClassCastException If the values are not 
+     * {@code Comparable} to each other.
+     */
+    public final void Sort()
+    {
+        Sort(NATURAL_ORDER);
+    }
+
+
+    /**
+     * Sorts the list in the order of the given comparator. 
+     * The sort is stable.
+     * 
+     * @param comparator : Order to sort the values in.
+     * 
+     * @throws NullPointerException If the {@code comparator} 
+     * is {@code null}.
+     */
+    public final void Sort(Comparator<? super T> comparator)
+    {
+        // error no order
+        if (comparator == null)
+        {
+            throw new NullPointerException();
+        }
+
+
+        // no sorting when the list is empty or only has
+        // 1 value
+        if (this.size < 2)
+        {
+            return;
+        }
+
+        final T[] values = Gather();
+
+        Arrays.sort(values, comparator);
+        Scatter(values);
+    }
+
+
+    /**
+     * Sorts the list by an {@code int} key of the values, in 
+     * a non-decreasing manner. The keys are compared unboxed.
+     * 
+     * @param keyExtractor : Gets the key of a value.
+     * 
+     * @throws NullPointerException If the 
+     * {@code keyExtractor} is {@code null}.
+     */
+    public final void SortByInt(ToIntFunction<? super T> keyExtractor)
+    {
+        Sort(Comparator.comparingInt(keyExtractor));
+    }
+
+
+    /**
+     * Sorts the list by a {@code long} key of the values, in 
+     * a non-decreasing manner. The keys are compared unboxed.
+     * 
+     * @param keyExtractor : Gets the key of a value.
+     * 
+     * @throws NullPointerException If the 
+     * {@code keyExtractor} is {@code null}.
+     */
+    public final void SortByLong(ToLongFunction<? super T> keyExtractor)
+    {
+        Sort(Comparator.comparingLong(keyExtractor));
+    }
+
+
+    /**
+     * Sorts the list in a non-decreasing manner, sorting 
+     * parts of the gathered array concurrently. The sort is 
+     * stable.
+     * 
+     * @throws ClassCastException If the values are not 
+     * {@code Comparable} to each other.
+     */
+    public final void ParallelSort()
+    {
+        ParallelSort(NATURAL_ORDER);
+    }
+
+
+    /**
+     * Sorts the list in the order of the given comparator, 
+     * sorting parts of the gathered array concurrently. The 
+     * sort is stable.
+     * 
+     * @param comparator : Order to sort the values in.
+     * 
+     * @throws NullPointerException If the {@code comparator} 
+     * is {@code null}.
+     */
+    public final void ParallelSort(Comparator<? super T> comparator)
+    {
+        // error no order
+        if (comparator == null)
+        {
+            throw new NullPointerException();
+        }
+
+
+        // no sorting when the list is empty or only has
+        // 1 value
+        if (this.size < 2)
+        {
+            return;
+        }
+
+        final T[] values = Gather();
+
+        Arrays.parallelSort(values, comparator);
+        Scatter(values);
+    }
+}
@@ -0,0 +1,289 @@
+package com.vincentdao.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+
+/**
+ * Stress tests of {@code ConcurrentLinkedQueue}, with several 
+ * producers and consumers sharing the queue.
+ * 
+ * @version 0.1
+ * 
+ * @author vincentdao
+ */
+public class ConcurrentLinkedQueueTest
+{
+    //--------------------------------------------------
+    // This block contains fields of the test.
+
+
+    /** Number of producer threads. */
+    private static final int PRODUCERS = 4;
+
+    /** Number of consumer threads. */
+    private static final int CONSUMERS = 4;
+
+    /** Number of values enqueued by every producer. */
+    private static final int VALUES_PER_PRODUCER = 100_000;
+
+
+    //--------------------------------------------------
+    // This block contains the tests.
+
+
+    /**
+     * Every value enqueued by the producers is dequeued 
+     * exactly once, and every consumer sees the values of a 
+     * producer in the order they were enqueued.
+     */
+    @Test(timeout = 60_000)
+    public void MultiProducerMultiConsumer() throws InterruptedException
+    {
+        final ConcurrentLinkedQueue<Long> queue = new ConcurrentLinkedQueue<>();
+        final int totalValues = PRODUCERS * VALUES_PER_PRODUCER;
+        final AtomicInteger dequeuedCount = new AtomicInteger();
+        final AtomicInteger[] seenCounts = new AtomicInteger[totalValues];
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final CountDownLatch startLatch = new CountDownLatch(1);
+        final Thread[] threads = new Thread[PRODUCERS + CONSUMERS];
+
+        for (int i = 0; i < totalValues; i++)
+        {
+            seenCounts[i] = new AtomicInteger();
+        }
+
+
+        // a value holds its producer in the high bits and its
+        // sequence number in the low bits
+        for (int producer = 0; producer < PRODUCERS; producer++)
+        {
+            final long producerBits = (long) producer << 32;
+
+            threads[producer] = new Thread(() ->
+            {
+                Await(startLatch);
+
+                for (int sequence = 0; sequence < VALUES_PER_PRODUCER; sequence++)
+                {
+                    queue.Enqueue(producerBits | sequence);
+                }
+            });
+        }
+
+        for (int consumer = 0; consumer < CONSUMERS; consumer++)
+        {
+            threads[PRODUCERS + consumer] = new Thread(() ->
+            {
+                final int[] lastSequences = new int[PRODUCERS];
+
+                Arrays.fill(lastSequences, -1);
+                Await(startLatch);
+
+                while (dequeuedCount.get() < totalValues)
+                {
+                    final long value;
+
+                    try
+                    {
+                        value = queue.Dequeue();
+                    }
+                    catch (NoSuchElementException e)
+                    {
+                        continue;
+                    }
+
+                    final int producer = (int) (value >>> 32);
+                    final int sequence = (int) value;
+
+                    if (sequence <= lastSequences[producer])
+                    {
+                        failure.compareAndSet(null, new AssertionError("producer " + producer + " out of order"));
+                    }
+
+                    lastSequences[producer] = sequence;
+                    seenCounts[producer * VALUES_PER_PRODUCER + sequence].incrementAndGet();
+                    dequeuedCount.incrementAndGet();
+                }
+            });
+        }
+
+        RunAll(threads, startLatch);
+
+        if (failure.get() != null)
+        {
+            throw new AssertionError(failure.get());
+        }
+
+        for (int i = 0; i < totalValues; i++)
+        {
+            assertEquals("value " + i, 1, seenCounts[i].get());
+        }
+
+        assertTrue(queue.IsEmpty());
+        assertEquals(0, queue.Size());
+        assertNull(queue.First());
+    }
+
+
+    /**
+     * {@code Size} never goes out of the bounds set by the 
+     * values enqueued and dequeued around it, while producers 
+     * and consumers run.
+     */
+    @Test(timeout = 60_000)
+    public void SizeStaysInBounds() throws InterruptedException
+    {
+        final ConcurrentLinkedQueue<Integer> queue = new ConcurrentLinkedQueue<>();
+        final AtomicInteger enqueuedCount = new AtomicInteger();
+        final AtomicInteger dequeuedCount = new AtomicInteger();
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final CountDownLatch startLatch = new CountDownLatch(1);
+        final Thread[] threads = new Thread[3];
+
+        threads[0] = new Thread(() ->
+        {
+            Await(startLatch);
+
+            for (int i = 0; i < VALUES_PER_PRODUCER; i++)
+            {
+                queue.Enqueue(i);
+                enqueuedCount.incrementAndGet();
+            }
+        });
+
+        threads[1] = new Thread(() ->
+        {
+            Await(startLatch);
+
+            while (dequeuedCount.get() < VALUES_PER_PRODUCER)
+            {
+                try
+                {
+                    queue.Dequeue();
+                    dequeuedCount.incrementAndGet();
+                }
+                catch (NoSuchElementException e)
+                {
+                    // producer is behind
+                }
+            }
+        });
+
+
+        // a value is counted as enqueued after it is in the
+        // queue, and as dequeued after it left it
+        threads[2] = new Thread(() ->
+        {
+            Await(startLatch);
+
+            while (dequeuedCount.get() < VALUES_PER_PRODUCER)
+            {
+                final int dequeuedBefore = dequeuedCount.get();
+                final int enqueuedBefore = enqueuedCount.get();
+                final int size = queue.Size();
+                final int enqueuedAfter = enqueuedCount.get();
+                final int dequeuedAfter = dequeuedCount.get();
+
+                if (size < enqueuedBefore - dequeuedAfter - 1 || size > enqueuedAfter + 1 - dequeuedBefore)
+                {
+                    failure.compareAndSet(null, new AssertionError("size " + size + " out of bounds"));
+                }
+            }
+        });
+
+        RunAll(threads, startLatch);
+
+        if (failure.get() != null)
+        {
+            throw new AssertionError(failure.get());
+        }
+
+        assertEquals(0, queue.Size());
+    }
+
+
+    /**
+     * Empty queue behaves as documented.
+     */
+    @Test
+    public void EmptyQueue()
+    {
+        final ConcurrentLinkedQueue<Integer> queue = new ConcurrentLinkedQueue<>();
+
+        assertEquals(0, queue.Size());
+        assertNull(queue.First());
+        assertEquals(0, queue.ToArray(new Integer[0]).length);
+
+        try
+        {
+            queue.Dequeue();
+            fail();
+        }
+        catch (NoSuchElementException e)
+        {
+            // expected
+        }
+
+        queue.Enqueue(1);
+        queue.Enqueue(2);
+        assertEquals(2, queue.Size());
+        assertEquals(Integer.valueOf(1), queue.Dequeue());
+        assertEquals(1, queue.Size());
+    }
+
+
+    //--------------------------------------------------
+    // This block contains utilities methods for the tests.
+
+
+    /**
+     * Waits for the latch, ignoring interrupts.
+     * 
+     * @param latch : Latch to wait for.
+     */
+    private static void Await(CountDownLatch latch)
+    {
+        try
+        {
+            latch.await();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+
+    /**
+     * Starts every thread at once, and waits for all of them.
+     * 
+     * @param threads : Threads to run.
+     * 
+     * @param startLatch : Latch the threads wait for.
+     */
+    private static void RunAll(Thread[] threads, CountDownLatch startLatch) throws InterruptedException
+    {
+        for (Thread thread : threads)
+        {
+            thread.start();
+        }
+
+        startLatch.countDown();
+
+        for (Thread thread : threads)
+        {
+            thread.join();
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package com.vincentdao.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+
+/**
+ * Stress tests of {@code ConcurrentLinkedStack}, with several 
+ * pushers and poppers sharing the stack and its elimination 
+ * slots.
+ * 
+ * @version 0.1
+ * 
+ * @author vincentdao
+ */
+public class ConcurrentLinkedStackTest
+{
+    //--------------------------------------------------
+    // This block contains fields of the test.
+
+
+    /** Number of pushing threads. */
+    private static final int PUSHERS = 4;
+
+    /** Number of popping threads. */
+    private static final int POPPERS = 4;
+
+    /** Number of values pushed by every pusher. */
+    private static final int VALUES_PER_PUSHER = 100_000;
+
+    /** Number of elimination slots of the stack. */
+    private static final int ELIMINATION_SIZE = 2;
+
+
+    //--------------------------------------------------
+    // This block contains the tests.
+
+
+    /**
+     * Every value pushed by the pushers is popped exactly 
+     * once, whether it went through the top pointer or met 
+     * a pop in an elimination slot.
+     */
+    @Test(timeout = 60_000)
+    public void MultiPusherMultiPopper() throws InterruptedException
+    {
+        final ConcurrentLinkedStack<Integer> stack = new ConcurrentLinkedStack<>(ELIMINATION_SIZE);
+        final int totalValues = PUSHERS * VALUES_PER_PUSHER;
+        final AtomicInteger poppedCount = new AtomicInteger();
+        final AtomicInteger[] seenCounts = new AtomicInteger[totalValues];
+        final CountDownLatch startLatch = new CountDownLatch(1);
+        final Thread[] threads = new Thread[PUSHERS + POPPERS];
+
+        for (int i = 0; i < totalValues; i++)
+        {
+            seenCounts[i] = new AtomicInteger();
+        }
+
+        for (int pusher = 0; pusher < PUSHERS; pusher++)
+        {
+            final int firstValue = pusher * VALUES_PER_PUSHER;
+
+            threads[pusher] = new Thread(() ->
+            {
+                Await(startLatch);
+
+                for (int i = 0; i < VALUES_PER_PUSHER; i++)
+                {
+                    stack.Push(firstValue + i);
+                }
+            });
+        }
+
+        for (int popper = 0; popper < POPPERS; popper++)
+        {
+            threads[PUSHERS + popper] = new Thread(() ->
+            {
+                Await(startLatch);
+
+                while (poppedCount.get() < totalValues)
+                {
+                    final int value;
+
+                    try
+                    {
+                        value = stack.Pop();
+                    }
+                    catch (NoSuchElementException e)
+                    {
+                        // let the pushers run on few cores
+                        Thread.yield();
+                        continue;
+                    }
+
+                    seenCounts[value].incrementAndGet();
+                    poppedCount.incrementAndGet();
+                }
+            });
+        }
+
+        RunAll(threads, startLatch);
+
+        for (int i = 0; i < totalValues; i++)
+        {
+            assertEquals("value " + i, 1, seenCounts[i].get());
+        }
+
+        assertTrue(stack.IsEmpty());
+        assertEquals(0, stack.Size());
+        assertNull(stack.Peek());
+    }
+
+
+    /**
+     * Values pushed by several threads are all on the stack 
+     * once the pushers are done, and a single popper takes 
+     * them back in the reverse order of {@code ToArray}, 
+     * each exactly once.
+     */
+    @Test(timeout = 60_000)
+    public void PushAllThenPopAll() throws InterruptedException
+    {
+        final ConcurrentLinkedStack<Integer> stack = new ConcurrentLinkedStack<>(ELIMINATION_SIZE);
+        final int totalValues = PUSHERS * VALUES_PER_PUSHER;
+        final boolean[] seen = new boolean[totalValues];
+        final CountDownLatch startLatch = new CountDownLatch(1);
+        final Thread[] threads = new Thread[PUSHERS];
+
+        for (int pusher = 0; pusher < PUSHERS; pusher++)
+        {
+            final int firstValue = pusher * VALUES_PER_PUSHER;
+
+            threads[pusher] = new Thread(() ->
+            {
+                Await(startLatch);
+
+                for (int i = 0; i < VALUES_PER_PUSHER; i++)
+                {
+                    stack.Push(firstValue + i);
+                }
+            });
+        }
+
+        RunAll(threads, startLatch);
+
+        assertEquals(totalValues, stack.Size());
+
+        final Integer[] values = stack.ToArray(new Integer[0]);
+        final Integer[] popped = new Integer[totalValues];
+
+        // ToArray goes from the bottom, pops from the top
+        for (int i = totalValues - 1; i >= 0; i--)
+        {
+            popped[i] = stack.Pop();
+            assertTrue("value " + popped[i], seen[popped[i]] == false);
+            seen[popped[i]] = true;
+        }
+
+        assertArrayEquals(values, popped);
+        assertTrue(stack.IsEmpty());
+    }
+
+
+    /**
+     * Empty stack behaves as documented.
+     */
+    @Test
+    public void EmptyStack()
+    {
+        final ConcurrentLinkedStack<Integer> stack = new ConcurrentLinkedStack<>();
+
+        assertEquals(0, stack.Size());
+        assertNull(stack.Peek());
+        assertEquals(0, stack.ToArray(new Integer[0]).length);
+
+        try
+        {
+            stack.Pop();
+            fail();
+        }
+        catch (NoSuchElementException e)
+        {
+            // expected
+        }
+
+        stack.Push(1);
+        stack.Push(2);
+        assertEquals(2, stack.Size());
+        assertEquals(Integer.valueOf(2), stack.Pop());
+        assertEquals(Integer.valueOf(1), stack.Peek());
+        assertEquals(1, stack.Size());
+    }
+
+
+    //--------------------------------------------------
+    // This block contains utilities methods for the tests.
+
+
+    /**
+     * Waits for the latch, ignoring interrupts.
+     * 
+     * @param latch : Latch to wait for.
+     */
+    private static void Await(CountDownLatch latch)
+    {
+        try
+        {
+            latch.await();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+
+    /**
+     * Starts every thread at once, and waits for all of them.
+     * 
+     * @param threads : Threads to run.
+     * 
+     * @param startLatch : Latch the threads wait for.
+     */
+    private static void RunAll(Thread[] threads, CountDownLatch startLatch) throws InterruptedException
+    {
+        for (Thread thread : threads)
+        {
+            thread.start();
+        }
+
+        startLatch.countDown();
+
+        for (Thread thread : threads)
+        {
+            thread.join();
+        }
+    }
+}
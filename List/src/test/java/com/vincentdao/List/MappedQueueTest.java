@@ -0,0 +1,359 @@
+package com.vincentdao.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.NoSuchElementException;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+
+/**
+ * Tests of {@code MappedQueue} on local disk, with segments 
+ * small enough to roll every few values.
+ * 
+ * @version 0.1
+ * 
+ * @author vincentdao
+ */
+public class MappedQueueTest
+{
+    //--------------------------------------------------
+    // This block contains fields of the test.
+
+
+    /** Bytes of a segment, holding 8 {@code Integer} records. */
+    private static final int SEGMENT_SIZE = 8 * (Integer.BYTES + Integer.BYTES);
+
+    /** Number of left segments kept for reuse. */
+    private static final int RECYCLE_CAPACITY = 2;
+
+    /** Directory of the queue, deleted after every test. */
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+
+    //--------------------------------------------------
+    // This block contains the tests.
+
+
+    /**
+     * Values are found again, in order, by a queue opened on 
+     * the directory of a closed one.
+     */
+    @Test
+    public void ReopenKeepsValues() throws IOException
+    {
+        final Path directory = folder.getRoot().toPath();
+
+        try (MappedQueue<Integer> queue = Open(directory))
+        {
+            for (int i = 0; i < 20; i++)
+            {
+                queue.Enqueue(i);
+            }
+
+            assertEquals(Integer.valueOf(0), queue.Dequeue());
+            assertEquals(Integer.valueOf(1), queue.Dequeue());
+        }
+
+        try (MappedQueue<Integer> queue = Open(directory))
+        {
+            assertEquals(18, queue.Size());
+
+            for (int i = 2; i < 20; i++)
+            {
+                assertEquals(Integer.valueOf(i), queue.Dequeue());
+            }
+
+            assertTrue(queue.IsEmpty());
+        }
+    }
+
+
+    /**
+     * Values span several segments, and come back in order 
+     * through {@code First}, {@code ToArray} and 
+     * {@code Dequeue}.
+     */
+    @Test
+    public void SegmentsRoll() throws IOException
+    {
+        final Path directory = folder.getRoot().toPath();
+
+        try (MappedQueue<Integer> queue = Open(directory))
+        {
+            final Integer[] expected = new Integer[50];
+
+            for (int i = 0; i < 50; i++)
+            {
+                queue.Enqueue(i);
+                expected[i] = i;
+            }
+
+            assertTrue(CountFiles(directory, "segment-*.dat") >= 50 / 8);
+            assertArrayEquals(expected, queue.ToArray(new Integer[0]));
+
+            for (int i = 0; i < 50; i++)
+            {
+                assertEquals(Integer.valueOf(i), queue.First());
+                assertEquals(Integer.valueOf(i), queue.Dequeue());
+            }
+
+            assertNull(queue.First());
+        }
+    }
+
+
+    /**
+     * A queue whose size stays steady keeps at most 
+     * {@code RECYCLE_CAPACITY} left segments, and its 
+     * segment files stay few however many values pass.
+     */
+    @Test
+    public void SegmentsRecycle() throws IOException
+    {
+        final Path directory = folder.getRoot().toPath();
+
+        try (MappedQueue<Integer> queue = Open(directory))
+        {
+            for (int i = 0; i < 10_000; i++)
+            {
+                queue.Enqueue(i);
+
+                if (i >= 4)
+                {
+                    assertEquals(Integer.valueOf(i - 4), queue.Dequeue());
+                }
+            }
+
+            assertTrue(CountFiles(directory, "free-*.dat") <= RECYCLE_CAPACITY);
+            assertTrue(CountFiles(directory, "segment-*.dat") <= 2);
+        }
+
+
+        // left segments are kept for reuse across a reopen
+        try (MappedQueue<Integer> queue = Open(directory))
+        {
+            assertEquals(4, queue.Size());
+            assertEquals(Integer.valueOf(9_996), queue.Dequeue());
+        }
+    }
+
+
+    /**
+     * {@code Clear} empties the queue for good, recycles the 
+     * segments, and the queue takes new values after it.
+     */
+    @Test
+    public void ClearEmptiesQueue() throws IOException
+    {
+        final Path directory = folder.getRoot().toPath();
+
+        try (MappedQueue<Integer> queue = Open(directory))
+        {
+            for (int i = 0; i < 50; i++)
+            {
+                queue.Enqueue(i);
+            }
+
+            queue.Clear();
+
+            assertEquals(0, queue.Size());
+            assertNull(queue.First());
+            assertEquals(1, CountFiles(directory, "segment-*.dat"));
+            assertTrue(CountFiles(directory, "free-*.dat") <= RECYCLE_CAPACITY);
+
+            try
+            {
+                queue.Dequeue();
+                fail();
+            }
+            catch (NoSuchElementException e)
+            {
+                // expected
+            }
+
+            queue.Enqueue(100);
+        }
+
+        try (MappedQueue<Integer> queue = Open(directory))
+        {
+            assertEquals(1, queue.Size());
+            assertEquals(Integer.valueOf(100), queue.Dequeue());
+        }
+    }
+
+
+    /**
+     * A head or middle segment lost from the directory is 
+     * reported as corrupted, instead of being created again 
+     * empty.
+     */
+    @Test
+    public void MissingSegmentFails() throws IOException
+    {
+        final Path directory = folder.getRoot().toPath();
+
+        try (MappedQueue<Integer> queue = Open(directory))
+        {
+            for (int i = 0; i < 20; i++)
+            {
+                queue.Enqueue(i);
+            }
+        }
+
+
+        // a lost middle segment fails once the head gets there
+        Files.delete(directory.resolve("segment-1.dat"));
+
+        try (MappedQueue<Integer> queue = Open(directory))
+        {
+            for (int i = 0; i < 8; i++)
+            {
+                assertEquals(Integer.valueOf(i), queue.Dequeue());
+            }
+
+            try
+            {
+                queue.Dequeue();
+                fail();
+            }
+            catch (UncheckedIOException e)
+            {
+                assertTrue(e.getCause() instanceof StreamCorruptedException);
+            }
+        }
+
+
+        // a lost head segment fails the open
+        Files.delete(directory.resolve("segment-0.dat"));
+
+        try
+        {
+            Open(directory);
+            fail();
+        }
+        catch (UncheckedIOException e)
+        {
+            assertTrue(e.getCause() instanceof StreamCorruptedException);
+        }
+
+        assertTrue(Files.exists(directory.resolve("segment-0.dat")) == false);
+        Files.delete(directory.resolve("meta.dat"));
+        Open(directory).Close();
+    }
+
+
+    /**
+     * A directory is opened by one queue at a time, and is 
+     * free again once that queue is closed.
+     */
+    @Test
+    public void DirectoryIsLocked()
+    {
+        final Path directory = folder.getRoot().toPath();
+        final MappedQueue<Integer> queue = Open(directory);
+
+        try
+        {
+            Open(directory);
+            fail();
+        }
+        catch (IllegalStateException e)
+        {
+            // expected
+        }
+
+        queue.Close();
+        Open(directory).Close();
+    }
+
+
+    /**
+     * A closed queue refuses every operation but 
+     * {@code Size} and {@code Close}.
+     */
+    @Test
+    public void ClosedQueueFails()
+    {
+        final MappedQueue<Integer> queue = Open(folder.getRoot().toPath());
+
+        queue.Close();
+        queue.Close();
+
+        try
+        {
+            queue.Enqueue(1);
+            fail();
+        }
+        catch (IllegalStateException e)
+        {
+            // expected
+        }
+
+        try
+        {
+            queue.ToArray(new Integer[0]);
+            fail();
+        }
+        catch (IllegalStateException e)
+        {
+            // expected
+        }
+    }
+
+
+    //--------------------------------------------------
+    // This block contains utilities methods for the tests.
+
+
+    /**
+     * Opens a queue of {@code Integer}s with small segments, 
+     * syncing every 16 changes.
+     * 
+     * @param directory : Directory of the queue.
+     * 
+     * @return {@code MappedQueue<Integer>} : Opened queue.
+     */
+    private static MappedQueue<Integer> Open(Path directory)
+    {
+        return new MappedQueue<>(directory, IElementCodec.INTEGER, SEGMENT_SIZE, 16, RECYCLE_CAPACITY);
+    }
+
+
+    /**
+     * Counts the files of a directory matching a glob.
+     * 
+     * @param directory : Directory to look in.
+     * 
+     * @param glob : Glob of the file names.
+     * 
+     * @return {@code int} : Number of matching files.
+     */
+    private static int CountFiles(Path directory, String glob) throws IOException
+    {
+        int count = 0;
+
+        try (DirectoryStream<Path> paths = Files.newDirectoryStream(directory, glob))
+        {
+            for (Path path : paths)
+            {
+                count++;
+            }
+        }
+
+        return count;
+    }
+}
@@ -0,0 +1,257 @@
+package com.vincentdao.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+
+/**
+ * Stress tests of {@code StripedQueue}, with several 
+ * producers and consumers sharing lanes small enough to fill 
+ * up and run dry all the time.
+ * 
+ * @version 0.1
+ * 
+ * @author vincentdao
+ */
+public class StripedQueueTest
+{
+    //--------------------------------------------------
+    // This block contains fields of the test.
+
+
+    /** Number of producer threads. */
+    private static final int PRODUCERS = 4;
+
+    /** Number of consumer threads. */
+    private static final int CONSUMERS = 4;
+
+    /** Number of values enqueued by every producer. */
+    private static final int VALUES_PER_PRODUCER = 100_000;
+
+    /** Number of lanes of the queue. */
+    private static final int LANE_COUNT = 2;
+
+    /** Number of slots of a lane. */
+    private static final int LANE_CAPACITY = 8;
+
+
+    //--------------------------------------------------
+    // This block contains the tests.
+
+
+    /**
+     * Every value enqueued by the producers is dequeued 
+     * exactly once, while producers keep finding every lane 
+     * full and consumers keep finding every lane empty.
+     */
+    @Test(timeout = 60_000)
+    public void MultiProducerMultiConsumer() throws InterruptedException
+    {
+        final StripedQueue<Integer> queue = new StripedQueue<>(LANE_COUNT, LANE_CAPACITY);
+        final int totalValues = PRODUCERS * VALUES_PER_PRODUCER;
+        final AtomicInteger dequeuedCount = new AtomicInteger();
+        final AtomicInteger[] seenCounts = new AtomicInteger[totalValues];
+        final CountDownLatch startLatch = new CountDownLatch(1);
+        final Thread[] threads = new Thread[PRODUCERS + CONSUMERS];
+
+        for (int i = 0; i < totalValues; i++)
+        {
+            seenCounts[i] = new AtomicInteger();
+        }
+
+        for (int producer = 0; producer < PRODUCERS; producer++)
+        {
+            final int firstValue = producer * VALUES_PER_PRODUCER;
+
+            threads[producer] = new Thread(() ->
+            {
+                Await(startLatch);
+
+                for (int i = 0; i < VALUES_PER_PRODUCER; i++)
+                {
+                    // retry until a consumer makes room, letting
+                    // it run on few cores
+                    while (true)
+                    {
+                        try
+                        {
+                            queue.Enqueue(firstValue + i);
+                            break;
+                        }
+                        catch (IllegalStateException e)
+                        {
+                            Thread.yield();
+                        }
+                    }
+                }
+            });
+        }
+
+        for (int consumer = 0; consumer < CONSUMERS; consumer++)
+        {
+            threads[PRODUCERS + consumer] = new Thread(() ->
+            {
+                Await(startLatch);
+
+                while (dequeuedCount.get() < totalValues)
+                {
+                    final int value;
+
+                    try
+                    {
+                        value = queue.Dequeue();
+                    }
+                    catch (NoSuchElementException e)
+                    {
+                        // let the producers run on few cores
+                        Thread.yield();
+                        continue;
+                    }
+
+                    seenCounts[value].incrementAndGet();
+                    dequeuedCount.incrementAndGet();
+                }
+            });
+        }
+
+        RunAll(threads, startLatch);
+
+        for (int i = 0; i < totalValues; i++)
+        {
+            assertEquals("value " + i, 1, seenCounts[i].get());
+        }
+
+        assertTrue(queue.IsEmpty());
+        assertEquals(0, queue.Size());
+        assertNull(queue.First());
+    }
+
+
+    /**
+     * A full queue and an empty queue behave as documented, 
+     * and a value spilled into the next lane is still 
+     * dequeued exactly once.
+     */
+    @Test
+    public void FullAndEmptyLanes()
+    {
+        final StripedQueue<Integer> queue = new StripedQueue<>(LANE_COUNT, LANE_CAPACITY);
+        final int totalSlots = LANE_COUNT * LANE_CAPACITY;
+        final int[] seenCounts = new int[totalSlots];
+
+        assertNull(queue.First());
+
+        try
+        {
+            queue.Dequeue();
+            fail();
+        }
+        catch (NoSuchElementException e)
+        {
+            // expected
+        }
+
+
+        // the home lane fills first, the rest spills over
+        for (int i = 0; i < totalSlots; i++)
+        {
+            queue.Enqueue(i);
+        }
+
+        assertEquals(totalSlots, queue.Size());
+
+        try
+        {
+            queue.Enqueue(totalSlots);
+            fail();
+        }
+        catch (IllegalStateException e)
+        {
+            // expected
+        }
+
+        assertEquals(totalSlots, queue.Size());
+
+        for (int i = 0; i < totalSlots; i++)
+        {
+            seenCounts[queue.Dequeue()]++;
+        }
+
+        for (int i = 0; i < totalSlots; i++)
+        {
+            assertEquals("value " + i, 1, seenCounts[i]);
+        }
+
+        assertTrue(queue.IsEmpty());
+
+        try
+        {
+            queue.Dequeue();
+            fail();
+        }
+        catch (NoSuchElementException e)
+        {
+            // expected
+        }
+
+
+        // a lane wraps around after being emptied
+        queue.Enqueue(1);
+        assertEquals(Integer.valueOf(1), queue.First());
+        assertEquals(Integer.valueOf(1), queue.Dequeue());
+        assertEquals(0, queue.Size());
+    }
+
+
+    //--------------------------------------------------
+    // This block contains utilities methods for the tests.
+
+
+    /**
+     * Waits for the latch, ignoring interrupts.
+     * 
+     * @param latch : Latch to wait for.
+     */
+    private static void Await(CountDownLatch latch)
+    {
+        try
+        {
+            latch.await();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+
+    /**
+     * Starts every thread at once, and waits for all of them.
+     * 
+     * @param threads : Threads to run.
+     * 
+     * @param startLatch : Latch the threads wait for.
+     */
+    private static void RunAll(Thread[] threads, CountDownLatch startLatch) throws InterruptedException
+    {
+        for (Thread thread : threads)
+        {
+            thread.start();
+        }
+
+        startLatch.countDown();
+
+        for (Thread thread : threads)
+        {
+            thread.join();
+        }
+    }
+}